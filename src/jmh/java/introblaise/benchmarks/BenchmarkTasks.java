@@ -0,0 +1,93 @@
+package introblaise.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import introblaise.storage.FsyncPolicy;
+import introblaise.storage.Storage;
+import introblaise.storage.StorageFormat;
+import introblaise.storage.StorageMode;
+import introblaise.task.Task;
+import introblaise.tasktype.Deadline;
+import introblaise.tasktype.Event;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Creates the task lists that the benchmarks run against.
+ * <p>
+ * Tasks are an even mix of to-dos, deadlines and events, spread over {@value #PROJECT_COUNT} projects and
+ * the days of 2025, so that keyword and date searches match a small, predictable share of them.
+ */
+final class BenchmarkTasks {
+    static final int PROJECT_COUNT = 1000;
+    static final LocalDateTime FIRST_DATE = LocalDateTime.of(2025, 1, 1, 18, 0);
+
+    private BenchmarkTasks() {
+    }
+
+    /**
+     * Creates tasks with IDs from 1 to the number of tasks.
+     *
+     * @param taskCount The number of tasks to create.
+     * @return The tasks, in order of ID.
+     */
+    static List<Task> create(int taskCount) {
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 1; i <= taskCount; i++) {
+            String description = "Task " + i + " for project " + (i % PROJECT_COUNT);
+            LocalDateTime date = FIRST_DATE.plusDays(i % 365);
+            Task task;
+            switch (i % 3) {
+            case 0:
+                task = new ToDo(description);
+                break;
+            case 1:
+                task = new Deadline(description, date);
+                break;
+            default:
+                task = new Event(description, date, date.plusHours(2));
+                break;
+            }
+            task.setId(i);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Creates a storage in a directory, with a task file holding the given number of tasks.
+     * Writes are not forced to the disk, so that the benchmarks measure IntroBlaise rather than the disk.
+     *
+     * @param directory The directory of the task file.
+     * @param taskCount The number of tasks in the task file.
+     * @param mode      How changes are persisted.
+     * @param format    The format of the task file.
+     * @return The storage.
+     */
+    static Storage createStorage(Path directory, int taskCount, StorageMode mode, StorageFormat format) {
+        Storage storage = new Storage(directory.toString(), mode, format);
+        storage.setFsyncPolicy(FsyncPolicy.never());
+        storage.saveTasks(create(taskCount));
+        return storage;
+    }
+
+    /**
+     * Deletes a directory created for a benchmark, with everything in it.
+     *
+     * @param directory The directory to delete.
+     * @throws IOException If a file cannot be deleted.
+     */
+    static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
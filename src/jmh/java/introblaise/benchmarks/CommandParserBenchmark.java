@@ -0,0 +1,90 @@
+package introblaise.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import introblaise.commands.CommandFactory;
+import introblaise.parsers.CommandParser;
+import introblaise.storage.StorageFormat;
+import introblaise.storage.StorageMode;
+import introblaise.task.TaskList;
+
+/**
+ * Measures parsing and executing each type of command, from the user input to the response.
+ * <p>
+ * Saving is deferred, so that commands which change the task list are measured without the cost of
+ * persisting the change. The task list is loaded again for each iteration, since commands that add tasks
+ * make it grow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandParserBenchmark {
+    private static final Map<String, String> INPUTS = Map.of(
+            "list", "list",
+            "todo", "todo read book",
+            "deadline", "deadline return book /by 2-03-2025 1800",
+            "event", "event project meeting /from 3-03-2025 1400 /to 3-03-2025 1600",
+            "mark", "mark 1",
+            "find", "find project 42",
+            "tasks", "tasks on 12-02-2025",
+            "tag", "tag 1 work",
+            "help", "help");
+
+    @Param({"1000", "100000"})
+    private int taskCount;
+
+    @Param({"list", "todo", "deadline", "event", "mark", "find", "tasks", "tag", "help"})
+    private String command;
+
+    private Path dataDir;
+    private TaskList taskList;
+    private CommandParser commandParser;
+    private String input;
+
+    /**
+     * Loads a task list of the size being measured, with saving deferred.
+     *
+     * @throws IOException If the directory of the task list cannot be created.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("introblaise-jmh");
+        taskList = new TaskList(BenchmarkTasks.createStorage(dataDir, taskCount, StorageMode.JOURNAL,
+                StorageFormat.TEXT));
+        taskList.deferSaves();
+        CommandFactory commandFactory = new CommandFactory(taskList);
+        commandFactory.initializeCommandMap();
+        commandParser = new CommandParser(commandFactory.getCommandMap());
+        input = INPUTS.get(command);
+    }
+
+    /**
+     * Deletes the directory of the task list, without saving the changes made by the commands.
+     *
+     * @throws IOException If the directory cannot be deleted.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        BenchmarkTasks.deleteDirectory(dataDir);
+    }
+
+    @Benchmark
+    public String executeCommand() {
+        return commandParser.executeCommand(input);
+    }
+}
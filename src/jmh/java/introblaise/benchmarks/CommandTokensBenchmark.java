@@ -0,0 +1,68 @@
+package introblaise.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import introblaise.commands.TaskCommand;
+import introblaise.parsers.CommandParser;
+
+/**
+ * Measures recognizing a command and parsing its task number, by splitting the input into strings as
+ * commands used to, and by splitting it into {@code CommandTokens} and looking the command up in a trie.
+ * <p>
+ * The commands themselves do nothing but parse the task number, so that only the cost of handling the input
+ * is measured. The bytes allocated per call are reported as "gc.alloc.rate.norm" by the gc profiler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandTokensBenchmark {
+    private static final String[] COMMAND_NAMES = {"mark", "unmark", "delete", "untag"};
+
+    @Param({"mark 12", "UNMARK 7", "delete 40"})
+    private String input;
+
+    private Map<String, String> responsesByName;
+    private CommandParser commandParser;
+    private int taskNumber;
+
+    /**
+     * Creates the commands, each of which only parses the task number and returns its name.
+     */
+    @Setup
+    public void setUp() {
+        responsesByName = new HashMap<>();
+        Map<String, TaskCommand> commandMap = new HashMap<>();
+        for (String name : COMMAND_NAMES) {
+            responsesByName.put(name, name);
+            commandMap.put(name, tokens -> {
+                taskNumber = tokens.parseInt(1, 0);
+                return name;
+            });
+        }
+        commandParser = new CommandParser(commandMap);
+    }
+
+    @Benchmark
+    public String splitAndLookUp() {
+        String[] parts = input.trim().split(" ");
+        String response = responsesByName.get(parts[0].toLowerCase());
+        taskNumber = Integer.parseInt(parts[1]);
+        return response;
+    }
+
+    @Benchmark
+    public String tokenizeAndLookUp() {
+        return commandParser.executeCommand(input);
+    }
+}
@@ -0,0 +1,73 @@
+package introblaise.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageFormat;
+import introblaise.storage.StorageMode;
+import introblaise.task.Task;
+
+/**
+ * Measures loading and saving the whole task file in each file format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    @Param({"TEXT", "BINARY"})
+    private StorageFormat format;
+
+    private Path dataDir;
+    private Storage storage;
+    private List<Task> tasks;
+
+    /**
+     * Writes a task file of the size being measured.
+     *
+     * @throws IOException If the directory of the task file cannot be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("introblaise-jmh");
+        storage = BenchmarkTasks.createStorage(dataDir, taskCount, StorageMode.REWRITE, format);
+        tasks = BenchmarkTasks.create(taskCount);
+    }
+
+    /**
+     * Deletes the directory of the task file.
+     *
+     * @throws IOException If the directory cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        storage.close();
+        BenchmarkTasks.deleteDirectory(dataDir);
+    }
+
+    @Benchmark
+    public List<Task> loadTasks() {
+        return storage.loadTasksFromFile();
+    }
+
+    @Benchmark
+    public void saveTasks() {
+        storage.saveTasks(tasks);
+    }
+}
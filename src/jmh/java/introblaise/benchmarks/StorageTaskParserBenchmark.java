@@ -0,0 +1,51 @@
+package introblaise.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import introblaise.parsers.StorageTaskParser;
+import introblaise.task.Task;
+
+/**
+ * Measures converting a single task of each type to and from a line of the text task file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StorageTaskParserBenchmark {
+    @Param({"todo", "deadline", "event"})
+    private String taskType;
+
+    private Task task;
+    private String line;
+
+    /**
+     * Creates a task of the type being measured, and its line in the task file.
+     */
+    @Setup
+    public void setUp() {
+        task = BenchmarkTasks.create(3).stream()
+                .filter(candidate -> candidate.getClass().getSimpleName().equalsIgnoreCase(taskType))
+                .findFirst()
+                .orElseThrow();
+        line = StorageTaskParser.taskToString(task);
+    }
+
+    @Benchmark
+    public String taskToString() {
+        return StorageTaskParser.taskToString(task);
+    }
+
+    @Benchmark
+    public Task stringToTask() {
+        return StorageTaskParser.stringToTask(line);
+    }
+}
@@ -0,0 +1,77 @@
+package introblaise.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import introblaise.storage.StorageFormat;
+import introblaise.storage.StorageMode;
+import introblaise.task.Task;
+import introblaise.task.TaskList;
+
+/**
+ * Measures finding and listing tasks in task lists of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+    private static final LocalDate DATE = BenchmarkTasks.FIRST_DATE.toLocalDate().plusDays(42);
+
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    private Path dataDir;
+    private TaskList taskList;
+
+    /**
+     * Loads a task list of the size being measured.
+     *
+     * @throws IOException If the directory of the task list cannot be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("introblaise-jmh");
+        taskList = new TaskList(BenchmarkTasks.createStorage(dataDir, taskCount, StorageMode.REWRITE,
+                StorageFormat.BINARY));
+    }
+
+    /**
+     * Closes the task list and deletes its directory.
+     *
+     * @throws IOException If the directory cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        taskList.close();
+        BenchmarkTasks.deleteDirectory(dataDir);
+    }
+
+    @Benchmark
+    public List<Task> findTasksByKeyword() {
+        return taskList.findTasksByKeyword("project 42");
+    }
+
+    @Benchmark
+    public String printTasksForDate() {
+        return taskList.printTasksForDate(DATE);
+    }
+
+    @Benchmark
+    public String printTaskList() {
+        return taskList.printTaskList();
+    }
+}
@@ -1,6 +1,7 @@
 package introblaise.commands;
 
 import introblaise.exceptions.InvalidInputException;
+import introblaise.parsers.CommandTokens;
 import introblaise.parsers.DeadlineTaskParser;
 import introblaise.task.TaskList;
 import introblaise.tasktype.Deadline;
@@ -30,20 +31,17 @@ public class AddDealineTaskCommand implements TaskCommand {
      * The user input is expected to be in the format: "deadline [description] /by [date] [time]",
      * where [description] is the task description, and [date] is the due date in a specific format.
      *
-     * @param userInput The input string from the user that contains the description and deadline date.
+     * @param tokens    The words of the user input, which contain the description and deadline date.
      *                  It should be in the format "deadline [description] /by [date] [time]".
-     * @return A response message indicating whether the task was successfully added or if an error occurred.
+     * @return A response message indicating that the task was successfully added.
      *         The message includes the details of the added task and the current number of tasks in the list.
+     * @throws InvalidInputException If the description or date is missing or invalid.
      */
     @Override
-    public String execute(String userInput) {
-        try {
-            Deadline deadlineTask = (Deadline) deadlineTaskParser.parse(userInput);
-            addTaskToList(deadlineTask);
-            return buildResponseString(deadlineTask);
-        } catch (InvalidInputException e) {
-            return e.getMessage();
-        }
+    public String execute(CommandTokens tokens) throws InvalidInputException {
+        Deadline deadlineTask = (Deadline) deadlineTaskParser.parse(tokens);
+        addTaskToList(deadlineTask);
+        return buildResponseString(deadlineTask);
     }
 
     /**
@@ -60,7 +58,7 @@ public class AddDealineTaskCommand implements TaskCommand {
 
     /**
      * Builds a response string to indicate the successful addition of a deadline task.
-     * The response includes the details of the task and the current number of tasks in the list.
+     * The response includes the details of the task, the current number of tasks in the list and the task ID.
      *
      * @param deadlineTask The deadline task that was added.
      * @return A string response indicating the success of the task addition, formatted with task details.
@@ -69,7 +67,8 @@ public class AddDealineTaskCommand implements TaskCommand {
         StringBuilder response = new StringBuilder();
         int numOfTask = taskList.getSize();
         response.append("Got it. I've added this task: ").append("\n").append(deadlineTask).append("\n")
-                .append("Now you have ").append(numOfTask).append(" tasks in the list.");
+                .append("Now you have ").append(numOfTask).append(" tasks in the list.").append("\n")
+                .append("You can also refer to it as #").append(deadlineTask.getId()).append(".");
         return response.toString().trim();
     }
 }
@@ -1,6 +1,7 @@
 package introblaise.commands;
 
 import introblaise.exceptions.InvalidInputException;
+import introblaise.parsers.CommandTokens;
 import introblaise.parsers.EventTaskParser;
 import introblaise.task.TaskList;
 import introblaise.tasktype.Event;
@@ -29,22 +30,21 @@ public class AddEventTaskCommand implements TaskCommand {
      * The user input is expected to be in the format: "event [description] /from [date] [time] /to [date] [time]",
      * where [description] is the task description, and [date] is the event duration in a specific format.
      *
-     * @param userInput The input string from the user that contains the description and deadline date.
+     * @param tokens    The words of the user input, which contain the description and deadline date.
      *                  It should be in the format "event [description] /from [date] [time] /to [date] [time]".
-     * @return A response message indicating whether the task was successfully added or if an error occurred.
+     * @return A response message indicating that the task was successfully added.
      *         The message includes the details of the added task and the current number of tasks in the list.
+     * @throws InvalidInputException If the description or duration is missing or invalid.
      */
     @Override
-    public String execute(String userInput) {
+    public String execute(CommandTokens tokens) throws InvalidInputException {
         try {
-            Event eventTask = (Event) eventTaskParser.parse(userInput);
+            Event eventTask = (Event) eventTaskParser.parse(tokens);
             addTaskToList(eventTask);
             return buildResponseString(eventTask);
         } catch (StringIndexOutOfBoundsException e) {
-            return "Please enter a description and a duration for your task in the format: "
-                    + "event [DESCRIPTION] /from [dd-mm-yyyy HHmm] /to [dd-mm-yyyy HHmm]";
-        } catch (InvalidInputException e) {
-            return e.getMessage();
+            throw new InvalidInputException("Please enter a description and a duration for your task in the format: "
+                    + "event [DESCRIPTION] /from [dd-mm-yyyy HHmm] /to [dd-mm-yyyy HHmm]");
         }
     }
 
@@ -61,7 +61,7 @@ public class AddEventTaskCommand implements TaskCommand {
     }
     /**
      * Builds a response string to indicate the successful addition of an event task.
-     * The response includes the details of the task and the current number of tasks in the list.
+     * The response includes the details of the task, the current number of tasks in the list and the task ID.
      *
      * @param eventTask The event task that was added.
      * @return A string response indicating the success of the task addition, formatted with task details.
@@ -70,7 +70,8 @@ public class AddEventTaskCommand implements TaskCommand {
         int numOfTask = taskList.getSize(); // no of task in task list
         assert numOfTask > 0 : "The task list should not be empty.";
         String response = "Got it. I've added this task: " + "\n" + eventTask
-                + "\n" + "Now you have " + numOfTask + " tasks in the list.";
+                + "\n" + "Now you have " + numOfTask + " tasks in the list."
+                + "\n" + "You can also refer to it as #" + eventTask.getId() + ".";
         return response.trim();
     }
 }
@@ -1,6 +1,7 @@
 package introblaise.commands;
 
 import introblaise.exceptions.InvalidInputException;
+import introblaise.parsers.CommandTokens;
 import introblaise.parsers.ToDoTaskParser;
 import introblaise.task.TaskList;
 import introblaise.tasktype.ToDo;
@@ -30,22 +31,17 @@ public class AddToDoTaskCommand implements TaskCommand {
      * The user input is expected to be in the format: "todo [description]",
      * where [description] is the task description.
      *
-     * @param userInput The input string from the user that contains the description.
+     * @param tokens    The words of the user input, which contain the description.
      *                  It should be in the format "todo [description]".
-     * @return A response message indicating whether the task was successfully added or if an error occurred.
+     * @return A response message indicating that the task was successfully added.
      *         The message includes the details of the added task and the current number of tasks in the list.
+     * @throws InvalidInputException If the description or date is missing or invalid.
      */
     @Override
-    public String execute(String userInput) {
-        try {
-            ToDo todoTask = (ToDo) toDoTaskParser.parse(userInput);
-            addTaskToList(todoTask);
-            return buildResponseString(todoTask);
-        } catch (StringIndexOutOfBoundsException e) {
-            return "Errr...Please enter a description...It should be in the format: todo [DESCRIPTION]";
-        } catch (InvalidInputException e) {
-            return e.getMessage();
-        }
+    public String execute(CommandTokens tokens) throws InvalidInputException {
+        ToDo todoTask = (ToDo) toDoTaskParser.parse(tokens);
+        addTaskToList(todoTask);
+        return buildResponseString(todoTask);
     }
 
     /**
@@ -56,13 +52,13 @@ public class AddToDoTaskCommand implements TaskCommand {
      */
     private void addTaskToList(ToDo toDoTask) {
         taskList.addTask(toDoTask);
-        int numOfTask = taskList.getTasksList().size();
+        int numOfTask = taskList.getSize();
         assert numOfTask > 0 : "The task list should not be empty.";
     }
 
     /**
      * Builds a response string to indicate the successful addition of a todo task.
-     * The response includes the details of the task and the current number of tasks in the list.
+     * The response includes the details of the task, the current number of tasks in the list and the task ID.
      *
      * @param toDoTask The todo task that was added.
      * @return A string response indicating the success of the task addition, formatted with task details.
@@ -70,7 +66,8 @@ public class AddToDoTaskCommand implements TaskCommand {
     private String buildResponseString(ToDo toDoTask) {
         int numOfTask = taskList.getSize();
         String response = "Got it. I've added this task: " + "\n" + toDoTask + "\n"
-                + "Now you have " + numOfTask + " tasks in the list.";
+                + "Now you have " + numOfTask + " tasks in the list." + "\n"
+                + "You can also refer to it as #" + toDoTask.getId() + ".";
         return response.trim();
     }
 }
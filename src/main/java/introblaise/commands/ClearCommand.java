@@ -1,5 +1,6 @@
 package introblaise.commands;
 
+import introblaise.parsers.CommandTokens;
 import introblaise.task.TaskList;
 
 /**
@@ -21,11 +22,11 @@ public class ClearCommand implements TaskCommand {
     /**
      * Executes the "clear" command. This method clears all tasks from the task list.
      *
-     * @param userInput The user input string, expected in the format "clear".
+     * @param tokens The words of the user input, expected in the format "clear".
      * @return A string message confirming the task list has been cleared.
      */
     @Override
-    public String execute(String userInput) {
+    public String execute(CommandTokens tokens) {
         taskList.clearTaskList();
         taskList.clearFile();
         return "Yay! Your task list has been cleared!";
@@ -3,6 +3,7 @@ package introblaise.commands;
 import java.util.HashMap;
 import java.util.Map;
 
+import introblaise.metrics.MetricsRegistry;
 import introblaise.parsers.CommandParser;
 import introblaise.task.TaskList;
 
@@ -13,9 +14,13 @@ import introblaise.task.TaskList;
  * accessed by the {@link CommandParser} to execute user commands.  This class
  * uses the provided {@link TaskList} to inject the necessary dependencies
  * into the command objects.
+ * <p>
+ * Given a {@link MetricsRegistry}, every command is wrapped to record its metrics, and the "stats" command
+ * is added to show them.
  */
 public class CommandFactory {
     private final TaskList taskList;
+    private final MetricsRegistry metrics;
     private final Map<String, TaskCommand> commandMap;
 
     /**
@@ -26,7 +31,18 @@ public class CommandFactory {
      *                 main application.
      */
     public CommandFactory(TaskList taskList) {
+        this(taskList, null);
+    }
+
+    /**
+     * Constructs a {@code CommandFactory} whose commands record their metrics.
+     *
+     * @param taskList The {@link TaskList} instance to be used by the commands.
+     * @param metrics  The {@link MetricsRegistry} to record metrics in, or {@code null} to record none.
+     */
+    public CommandFactory(TaskList taskList, MetricsRegistry metrics) {
         this.taskList = taskList;
+        this.metrics = metrics;
         this.commandMap = new HashMap<>();
     }
 
@@ -38,19 +54,26 @@ public class CommandFactory {
      * that require it.
      */
     public void initializeCommandMap() {
-        commandMap.put("list", new ListTaskCommand(taskList));
-        commandMap.put("mark", new MarkTaskCommand(taskList));
-        commandMap.put("unmark", new UnmarkTaskCommand(taskList));
-        commandMap.put("todo", new AddToDoTaskCommand(taskList));
-        commandMap.put("deadline", new AddDealineTaskCommand(taskList));
-        commandMap.put("event", new AddEventTaskCommand(taskList));
-        commandMap.put("delete", new DeleteTaskCommand(taskList));
-        commandMap.put("tasks", new GetTasksOnDateCommand(taskList));
-        commandMap.put("find", new FindTaskCommand(taskList));
-        commandMap.put("tag", new TagTaskCommand(taskList));
-        commandMap.put("untag", new RemoveTagCommand(taskList));
-        commandMap.put("help", new HelpCommand());
-        commandMap.put("clear", new ClearCommand(taskList));
+        register("list", new ListTaskCommand(taskList));
+        register("mark", new MarkTaskCommand(taskList));
+        register("unmark", new UnmarkTaskCommand(taskList));
+        register("todo", new AddToDoTaskCommand(taskList));
+        register("deadline", new AddDealineTaskCommand(taskList));
+        register("event", new AddEventTaskCommand(taskList));
+        register("delete", new DeleteTaskCommand(taskList));
+        register("tasks", new GetTasksOnDateCommand(taskList));
+        register("find", new FindTaskCommand(taskList));
+        register("tag", new TagTaskCommand(taskList));
+        register("untag", new RemoveTagCommand(taskList));
+        register("help", new HelpCommand());
+        register("clear", new ClearCommand(taskList));
+        if (metrics != null) {
+            commandMap.put("stats", new StatsCommand(metrics));
+        }
+    }
+
+    private void register(String name, TaskCommand command) {
+        commandMap.put(name, metrics == null ? command : metrics.instrument(name, command));
     }
 
     /**
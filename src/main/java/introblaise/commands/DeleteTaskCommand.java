@@ -2,6 +2,7 @@ package introblaise.commands;
 
 import introblaise.exceptions.DeleteEmptyTaskListException;
 import introblaise.exceptions.InvalidInputException;
+import introblaise.parsers.CommandTokens;
 import introblaise.parsers.UtilParser;
 import introblaise.task.Task;
 import introblaise.task.TaskList;
@@ -28,66 +29,53 @@ public class DeleteTaskCommand implements TaskCommand {
      * removes the task, and then builds a formatted string to inform the user
      * about the deletion.
      *
-     * @param userInput The user input string, expected in the format "delete x",
+     * @param tokens    The words of the user input, expected in the format "delete x",
      *                  where 'x' is the index (starting from 1) of the task to be deleted.
-     * @return A string message confirming the task deletion, or an error message
-     *         if the input is invalid (e.g., invalid index, empty task list).
-     * @throws IndexOutOfBoundsException    If the provided task index is out of range.
-     * @throws NumberFormatException       If the task index cannot be parsed as a number.
+     * @return A string message confirming the task deletion.
+     * @throws DeleteEmptyTaskListException If the task list is empty.
+     * @throws InvalidInputException        If the input is invalid (e.g., invalid index, deleted task).
      */
     @Override
-    public String execute(String userInput) {
+    public String execute(CommandTokens tokens) throws DeleteEmptyTaskListException, InvalidInputException {
         try {
-            if (taskList.getTasksList().isEmpty()) {
+            if (taskList.getSize() == 0) {
                 throw new DeleteEmptyTaskListException("Your task list is empty. You can't delete anything. "
                         + "Please add tasks.");
             }
-            int taskNo = extractTaskNo(userInput);
-            Task currTask = getTaskByTaskNo(taskNo);
-            deleteTask(currTask);
+            Task currTask = extractTask(tokens);
+            if (!deleteTask(currTask)) {
+                throw new InvalidInputException("Uh oh! That task has just been deleted.");
+            }
             return buildResponseString(currTask);
-        } catch (DeleteEmptyTaskListException | InvalidInputException e) {
-            return e.getMessage();
         } catch (IndexOutOfBoundsException e) {
-            return "Uh oh! Invalid index. Have you entered the index? Are you sure "
-                    + "you are deleting the correct task? It should be in the format: delete [TASKNUMBER]";
+            throw new InvalidInputException("Uh oh! Invalid index. Have you entered the index? Are you sure "
+                    + "you are deleting the correct task? It should be in the format: delete [TASKNUMBER]");
         } catch (NumberFormatException e) {
-            return "Uh oh! Invalid number. Please enter a number after 'delete'."
-                    + "It should be in the format: delete [TASKNUMBER]";
+            throw new InvalidInputException("Uh oh! Invalid number. Please enter a number after 'delete'."
+                    + "It should be in the format: delete [TASKNUMBER]");
         }
     }
 
     /**
-     * Parses the task number (index) from the user input.
-     *
-     * @param userInput The user input string.
-     * @return The task number (0-based index).
-     * @throws NumberFormatException If the task number cannot be parsed as an integer.
-     */
-    private int extractTaskNo(String userInput) throws InvalidInputException {
-        return UtilParser.parseTaskNumber(userInput);
-    }
-
-    /**
-     * Retrieves the task from the task list based on its index.
+     * Parses the task referred to by its task number, or by its ID, in the user input.
      *
-     * @param taskNo The index of the task (0-based).
-     * @return The {@link Task} object at the specified index.
-     * @throws IndexOutOfBoundsException If the task number is out of range.
+     * @param tokens The words of the user input.
+     * @return The task.
+     * @throws InvalidInputException If the task number or ID is invalid.
      */
-    private Task getTaskByTaskNo(int taskNo) {
-        assert taskNo >= 0 : "Task number must be non-negative";
-        assert taskNo < taskList.getSize() : "Task number must not exceed size of task list";
-        return taskList.getTask(taskNo);
+    private Task extractTask(CommandTokens tokens) throws InvalidInputException {
+        return UtilParser.parseTask(tokens, taskList);
     }
 
     /**
-     * Removes the specified task from the task list.
+     * Removes the task from the task list.
+     * The task is removed through its ID, so that no other task is removed if it has just been deleted.
      *
-     * @param currTask The {@link Task} object to be removed.
+     * @param task The {@link Task} object to be removed.
+     * @return {@code true} if the task was removed, {@code false} if it had already been deleted.
      */
-    private void deleteTask(Task currTask) {
-        taskList.removeTask(currTask);
+    private boolean deleteTask(Task task) {
+        return taskList.removeTaskById(task.getId()) != null;
     }
 
     /**
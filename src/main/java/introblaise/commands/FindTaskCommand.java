@@ -3,6 +3,7 @@ package introblaise.commands;
 import java.util.List;
 
 import introblaise.exceptions.InvalidInputException;
+import introblaise.parsers.CommandTokens;
 import introblaise.parsers.UtilParser;
 import introblaise.task.Task;
 import introblaise.task.TaskList;
@@ -12,6 +13,9 @@ import introblaise.task.TaskList;
  * and is responsible for handling the "find" command.  This command searches
  * the task list for tasks whose descriptions contain a specified keyword
  * and displays the matching tasks to the user.
+ * <p>
+ * Keywords can also be combined with "AND" and "OR", in which case tasks are found by the whole words in
+ * their descriptions instead, for example "find report AND draft OR slides".
  */
 public class FindTaskCommand implements TaskCommand {
     private final TaskList taskList;
@@ -30,45 +34,52 @@ public class FindTaskCommand implements TaskCommand {
      * the keyword, searches the task list for matching tasks, and then builds a
      * formatted string containing the results.
      *
-     * @param userInput The user input string, expected in the format "find x",
-     *                  where 'x' is the keyword to search for.
+     * @param tokens    The words of the user input, expected in the format "find x",
+     *                  where 'x' is the keyword to search for, or words combined with "AND" and "OR".
      * @return A string containing the list of matching tasks, or a message
      *         indicating that no matching tasks were found.
+     * @throws InvalidInputException If the keyword is missing, or "AND" or "OR" is not between two words.
      */
     @Override
-    public String execute(String userInput) {
+    public String execute(CommandTokens tokens) throws InvalidInputException {
         try {
-            String keyword = extractKeyword(userInput);
-            List<Task> matchingTasks = findMatchingTasks(keyword);
+            String keyword = extractKeyword(tokens);
+            List<Task> matchingTasks = findMatchingTasks(tokens, keyword);
 
             if (matchingTasks.isEmpty()) {
                 return "Oops! No tasks found with the keyword: " + keyword;
             } else {
                 return buildResponseString(matchingTasks);
             }
-        } catch (InvalidInputException | StringIndexOutOfBoundsException e) {
-            return e.getMessage();
+        } catch (StringIndexOutOfBoundsException e) {
+            throw new InvalidInputException(e.getMessage());
         }
     }
 
     /**
      * Extracts the keyword from the user input string.
      *
-     * @param userInput The user input string.
+     * @param tokens The words of the user input.
      * @return The keyword to search for.
      * @throws InvalidInputException If the user input is invalid or does not contain a keyword.
      */
-    private String extractKeyword(String userInput) throws InvalidInputException {
-        return UtilParser.parseFindKeyword(userInput);
+    private String extractKeyword(CommandTokens tokens) throws InvalidInputException {
+        return UtilParser.parseFindKeyword(tokens);
     }
 
     /**
-     * Searches the task list for tasks whose descriptions contain the specified keyword.
+     * Searches the task list for tasks whose descriptions contain the specified keyword,
+     * or the words of the keyword as combined with "AND" and "OR".
      *
+     * @param tokens  The words of the user input.
      * @param keyword The keyword to search for.
      * @return A list of {@link Task} objects whose descriptions contain the keyword.
+     * @throws InvalidInputException If "AND" or "OR" is not between two words.
      */
-    private List<Task> findMatchingTasks(String keyword) throws InvalidInputException {
+    private List<Task> findMatchingTasks(CommandTokens tokens, String keyword) throws InvalidInputException {
+        if (UtilParser.isWordQuery(tokens)) {
+            return taskList.findTasksByWords(UtilParser.parseWordQuery(keyword));
+        }
         return taskList.findTasksByKeyword(keyword);
     }
 
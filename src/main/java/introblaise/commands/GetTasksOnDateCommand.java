@@ -3,8 +3,8 @@ package introblaise.commands;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
-import introblaise.exceptions.EmptyDateException;
 import introblaise.exceptions.InvalidInputException;
+import introblaise.parsers.CommandTokens;
 import introblaise.parsers.UtilParser;
 import introblaise.task.TaskList;
 
@@ -12,8 +12,14 @@ import introblaise.task.TaskList;
  * The {@code GetTasksOnDateCommand} class implements the {@link TaskCommand} interface
  * and is responsible for handling the "tasks on" command. This command retrieves
  * and displays tasks from the task list that are scheduled for a specific date.
+ * <p>
+ * It also handles "tasks between", which displays the tasks scheduled between two dates, and
+ * "tasks upcoming", which displays the tasks scheduled for today and the following week.
+ * An event is scheduled for every date from its start to its end.
  */
 public class GetTasksOnDateCommand implements TaskCommand {
+    private static final int UPCOMING_DAYS = 7;
+
     private final TaskList taskList;
 
     /**
@@ -30,46 +36,53 @@ public class GetTasksOnDateCommand implements TaskCommand {
      * the date, formats it, retrieves the tasks scheduled for that date from the
      * task list, and then builds a formatted string containing the list of tasks.
      *
-     * @param userInput The user input string, expected in the format "tasks on d-MM-yyyy".
-     * @return A string containing the list of tasks scheduled for the specified date,
-     *         or an error message if the input is invalid (e.g., invalid date format,
-     *         missing date).
-     * @throws DateTimeParseException If the date part of the user input cannot be parsed
-     *                                  as a date in the "d-MM-yyyy" format.
+     * @param tokens The words of the user input, expected in the format "tasks on d-MM-yyyy".
+     * @return A string containing the list of tasks scheduled for the specified date.
+     * @throws InvalidInputException If the input is invalid (e.g., invalid date format,
+     *                               missing date).
      */
     @Override
-    public String execute(String userInput) {
+    public String execute(CommandTokens tokens) throws InvalidInputException {
+        if (tokens.equalsIgnoreCase(1, "upcoming")) {
+            LocalDate today = LocalDate.now();
+            return taskList.printTasksBetween(today, today.plusDays(UPCOMING_DAYS));
+        }
+        if (tokens.equalsIgnoreCase(1, "between")) {
+            return getTasksBetweenDates(tokens);
+        }
+        if (tokens.size() < 3) {
+            throw new InvalidInputException("Please enter a date! It should be in the format: tasks on [dd-mm-yyyy]");
+        }
         try {
-            String taskDateStr = extractStringDate(userInput);
-            LocalDate formattedDate = convertDateStr(taskDateStr);
+            LocalDate formattedDate = convertDateStr(tokens.get(2));
 
             return getTasksForDate(formattedDate);
         } catch (DateTimeParseException e) {
-            return "Invalid date format. Please enter the date in d-MM-yyyy format.";
-        } catch (EmptyDateException | InvalidInputException e) {
-            return e.getMessage();
+            throw new InvalidInputException("Invalid date format. Please enter the date in d-MM-yyyy format.");
         }
     }
 
     /**
-     * Parses a date string from the user input.
+     * Retrieves and formats the tasks scheduled between the two dates given after "tasks between".
      *
-     * @param userInput The user input string.
-     * @return The date string.
-     * @throws EmptyDateException If no date is provided.
+     * @param tokens The words of the user input, expected in the format "tasks between d-MM-yyyy d-MM-yyyy".
+     * @return A string containing the list of tasks scheduled between the dates, including both dates.
+     * @throws InvalidInputException If the dates are missing or invalid.
      */
-    private String extractStringDate(String userInput) throws EmptyDateException, InvalidInputException {
+    private String getTasksBetweenDates(CommandTokens tokens) throws InvalidInputException {
+        if (tokens.size() != 4) {
+            throw new InvalidInputException(
+                    "Please enter two dates! It should be in the format: tasks between [dd-mm-yyyy] [dd-mm-yyyy]");
+        }
         try {
-            String date = userInput.substring(9).trim();
-            if (date.isEmpty()) {
-                throw new EmptyDateException("Please enter a date! It should be in the format: tasks on [dd-mm-yyyy]");
-            }
-            if (date.contains(" ")) {
-                date = date.split(" ")[0];
+            LocalDate from = convertDateStr(tokens.get(2));
+            LocalDate to = convertDateStr(tokens.get(3));
+            if (from.isAfter(to)) {
+                throw new InvalidInputException("Oops! The first date should not be after the second date.");
             }
-            return date;
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new InvalidInputException("Please enter a date! It should be in the format: tasks on [dd-mm-yyyy]");
+            return taskList.printTasksBetween(from, to);
+        } catch (DateTimeParseException e) {
+            throw new InvalidInputException("Invalid date format. Please enter the dates in d-MM-yyyy format.");
         }
     }
 
@@ -89,7 +102,7 @@ public class GetTasksOnDateCommand implements TaskCommand {
      * @param formattedDate The date for which to retrieve tasks.
      * @return A string containing the formatted list of tasks.
      */
-    private String getTasksForDate(LocalDate formattedDate) throws EmptyDateException {
+    private String getTasksForDate(LocalDate formattedDate) {
         return taskList.printTasksForDate(formattedDate);
     }
 }
@@ -1,5 +1,7 @@
 package introblaise.commands;
 
+import introblaise.parsers.CommandTokens;
+
 /**
  * The {@code HelpCommand} class provides a list of available commands
  * for the IntroBlaise task management application.
@@ -10,11 +12,11 @@ public class HelpCommand implements TaskCommand {
     /**
      * Executes the help command and returns a list of valid commands.
      *
-     * @param userInput The user input (not used in this command).
+     * @param tokens The words of the user input (not used in this command).
      * @return A formatted string containing a list of valid commands.
      */
     @Override
-    public String execute(String userInput) {
+    public String execute(CommandTokens tokens) {
         return helpCommands();
     }
 
@@ -28,16 +30,19 @@ public class HelpCommand implements TaskCommand {
                 + "1. todo [DESCRIPTION]: Add a To-Do task\n"
                 + "2. deadline [DESCRIPTION] /by [dd-mm-yyyy HHmm]: Add a Deadline task\n"
                 + "3. event [DESCRIPTION] /from [dd-mm-yyyy HHmm] /to [dd-mm-yyyy HHmm]: Add an Event task\n"
-                + "4. list: View all tasks\n"
-                + "5. mark [TASKINDEX]: Mark a task as done\n"
-                + "6. unmark [TASKINDEX]: Unmark a task as not done\n"
-                + "7. delete [TASKINDEX]: Delete a task\n"
+                + "4. list [PAGENUMBER] or list /tag [LABEL]: View all tasks, 20 tasks at a time, or tasks by tag\n"
+                + "5. mark [TASKINDEX or #ID]: Mark a task as done\n"
+                + "6. unmark [TASKINDEX or #ID]: Unmark a task as not done\n"
+                + "7. delete [TASKINDEX or #ID]: Delete a task\n"
                 + "8. tasks on [dd-mm-yyyy]: Search tasks by date\n"
-                + "9. find [KEYWORD]: Search tasks by keyword\n"
-                + "10. tag [TASKINDEX] [LABEL]: Add a tag to a task\n"
-                + "11. untag [TASKINDEX]: Remove a tag from a task\n"
-                + "12. clear: Clears the entire task list\n"
-                + "13. help: Show this help message\n"
-                + "14. bye: Exits the app";
+                + "9. tasks between [dd-mm-yyyy] [dd-mm-yyyy]: Search tasks between two dates\n"
+                + "10. tasks upcoming: Search tasks in the coming week\n"
+                + "11. find [KEYWORD]: Search tasks by keyword\n"
+                + "12. tag [TASKINDEX or #ID] [LABEL]: Add a tag to a task\n"
+                + "13. untag [TASKINDEX or #ID]: Remove a tag from a task\n"
+                + "14. clear: Clears the entire task list\n"
+                + "15. help: Show this help message\n"
+                + "16. stats [json|reset|on|off]: Show how often each command ran and how long it took\n"
+                + "17. bye: Exits the app";
     }
 }
@@ -1,13 +1,21 @@
 package introblaise.commands;
 
+import introblaise.exceptions.InvalidInputException;
+import introblaise.parsers.CommandTokens;
+import introblaise.parsers.UtilParser;
 import introblaise.task.TaskList;
 
 /**
  * The {@code ListTaskCommand} class implements the {@link TaskCommand} interface
  * and is responsible for handling the "list" command.
- * This command displays all tasks currently stored in the task list.
+ * This command displays all tasks currently stored in the task list, or one page of them
+ * if a page number is given, e.g. "list 2".
+ * It also lists only the tasks with a tag, e.g. "list /tag work", or every tag with its number of tasks
+ * if no tag is given, e.g. "list /tag".
  */
 public class ListTaskCommand implements TaskCommand {
+    private static final int PAGE_SIZE = 20;
+
     private final TaskList taskList;
 
     /**
@@ -21,13 +29,24 @@ public class ListTaskCommand implements TaskCommand {
 
     /**
      * Executes the "list" command.
-     * This method retrieves all tasks from the task list and formats them into a string for display to the user.
+     * This method retrieves all tasks from the task list, or the tasks on the given page,
+     * and formats them into a string for display to the user.
      *
-     * @param userInput The user input string (which is ignored for this command).
+     * @param tokens    The words of the user input, either "list", "list x", where 'x' is the page number,
+     *                  or "list /tag y", where 'y' is the tag to list the tasks of.
      * @return A string containing the formatted list of tasks.
+     * @throws InvalidInputException If the page number is invalid.
      */
     @Override
-    public String execute(String userInput) {
-        return taskList.printTaskList();
+    public String execute(CommandTokens tokens) throws InvalidInputException {
+        if (tokens.size() == 1) {
+            return taskList.printTaskList();
+        }
+        String tag = UtilParser.parseListTag(tokens);
+        if (tag != null) {
+            return tag.isEmpty() ? taskList.printTagCounts() : taskList.printTasksWithTag(tag);
+        }
+        int pageNumber = UtilParser.parsePageNumber(tokens);
+        return taskList.printTaskPage(pageNumber, PAGE_SIZE);
     }
 }
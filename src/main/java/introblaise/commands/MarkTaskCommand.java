@@ -1,6 +1,7 @@
 package introblaise.commands;
 
 import introblaise.exceptions.InvalidInputException;
+import introblaise.parsers.CommandTokens;
 import introblaise.parsers.UtilParser;
 import introblaise.task.Task;
 import introblaise.task.TaskList;
@@ -28,69 +29,47 @@ public class MarkTaskCommand implements TaskCommand {
      * marks the task as done, saves the updated task list, and then builds a
      * formatted string to inform the user about the update.
      *
-     * @param userInput The user input string, expected in the format "mark x",
+     * @param tokens    The words of the user input, expected in the format "mark x",
      *                  where 'x' is the index (starting from 1) of the task to be marked.
-     * @return A string message confirming that the task has been marked as done,
-     *         or an error message if the input is invalid (e.g., invalid index).
-     * @throws IndexOutOfBoundsException If the provided task index is out of range.
-     * @throws NumberFormatException       If the task index cannot be parsed as a number.
+     * @return A string message confirming that the task has been marked as done.
+     * @throws InvalidInputException If the input is invalid (e.g., invalid index, deleted task).
      */
     @Override
-    public String execute(String userInput) {
+    public String execute(CommandTokens tokens) throws InvalidInputException {
         try {
-            int taskNo = extractTaskNo(userInput);
-            Task currTask = retrieveTask(taskNo);
-            markAsDone(currTask);
-            saveTask();
+            Task currTask = extractTask(tokens);
+            if (!markAsDone(currTask)) {
+                throw new InvalidInputException("Uh oh! That task has just been deleted.");
+            }
             return "Well done! I've marked this task as done: " + "\n" + currTask;
         } catch (IndexOutOfBoundsException e) {
-            return "Uh oh! Invalid index. Are you sure you are marking the correct task? It should be "
-                    + "in the format: mark [TASKNUMBER]";
+            throw new InvalidInputException("Uh oh! Invalid index. Are you sure you are marking the correct task? "
+                    + "It should be in the format: mark [TASKNUMBER]");
         } catch (NumberFormatException e) {
-            return "Uh oh! Invalid number. Please enter a number after 'unmark'."
-                    + "It should be in the format: mark [TASKNUMBER]";
-        } catch (InvalidInputException e) {
-            return e.getMessage();
+            throw new InvalidInputException("Uh oh! Invalid number. Please enter a number after 'unmark'."
+                    + "It should be in the format: mark [TASKNUMBER]");
         }
     }
 
     /**
-     * Parses the task number (index) from the user input.
+     * Parses the task referred to by its task number, or by its ID, in the user input.
      *
-     * @param userInput The user input string.
-     * @return The task number (0-based index).
-     * @throws NumberFormatException If the task number cannot be parsed as an integer.
+     * @param tokens The words of the user input.
+     * @return The task.
+     * @throws InvalidInputException If the task number or ID is invalid.
      */
-    private int extractTaskNo(String userInput) throws InvalidInputException {
-        return UtilParser.parseTaskNumber(userInput);
+    private Task extractTask(CommandTokens tokens) throws InvalidInputException {
+        return UtilParser.parseTask(tokens, taskList);
     }
 
     /**
-     * Retrieves the task from the task list based on its index.
+     * Marks the task as done and persists the change.
+     * The task is marked through its ID, so that no other task is marked if it has just been deleted.
      *
-     * @param taskNo The index of the task (0-based).
-     * @return The {@link Task} object at the specified index.
-     * @throws IndexOutOfBoundsException If the task number is out of range.
+     * @param task The task to be marked as done.
+     * @return {@code true} if the task was marked, {@code false} if it has been deleted.
      */
-    private Task retrieveTask(int taskNo) {
-        assert taskNo >= 0 : "Task number must be non-negative";
-        assert taskNo < taskList.getTasksList().size() : "Task number must not exceed size of task list";
-        return taskList.getTask(taskNo);
-    }
-
-    /**
-     * Marks the specified task as done.
-     *
-     * @param currTask The {@link Task} object to be marked as done.
-     */
-    private void markAsDone(Task currTask) {
-        currTask.markAsDone();
-    }
-
-    /**
-     * Saves the updated task list to storage.
-     */
-    private void saveTask() {
-        taskList.saveTasks();
+    private boolean markAsDone(Task task) {
+        return taskList.markTaskById(task.getId()) != null;
     }
 }
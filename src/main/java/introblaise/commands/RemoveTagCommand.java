@@ -1,6 +1,7 @@
 package introblaise.commands;
 
 import introblaise.exceptions.InvalidInputException;
+import introblaise.parsers.CommandTokens;
 import introblaise.parsers.UtilParser;
 import introblaise.task.Task;
 import introblaise.task.TaskList;
@@ -27,70 +28,48 @@ public class RemoveTagCommand implements TaskCommand {
      * removes the tag from the task, saves the updated task list, and then builds
      * a formatted string to inform the user about the update.
      *
-     * @param userInput The user input string, expected in the format "untag x" or
+     * @param tokens    The words of the user input, expected in the format "untag x" or
      *                  "removetag x", where 'x' is the index (starting from 1) of
      *                  the task to remove the tag from.
-     * @return A string message confirming that the tag has been removed, or an
-     *         error message if the input is invalid (e.g., invalid index, task
-     *         is not tagged).
-     * @throws IndexOutOfBoundsException If the provided task index is out of range.
-     * @throws NumberFormatException       If the task index cannot be parsed as a number.
+     * @return A string message confirming that the tag has been removed.
+     * @throws InvalidInputException If the input is invalid (e.g., invalid index, task
+     *                               is not tagged).
      */
     @Override
-    public String execute(String userInput) {
+    public String execute(CommandTokens tokens) throws InvalidInputException {
         try {
-            int taskNo = extractTaskNo(userInput);
-            Task currTask = retrieveTask(taskNo);
+            Task currTask = extractTask(tokens);
             if (!currTask.getIsTagged()) {
-                return "This task is not tagged.";
+                throw new InvalidInputException("This task is not tagged.");
+            }
+            if (!deleteTag(currTask)) {
+                throw new InvalidInputException("Uh oh! That task has just been deleted.");
             }
-            deleteTag(currTask);
-            saveTask();
             return "Tag for " + currTask + " has been successfully deleted!";
         } catch (IndexOutOfBoundsException e) {
-            return "Uh oh! Invalid index. Have you entered the correct index?";
-        } catch (InvalidInputException e) {
-            return e.getMessage();
+            throw new InvalidInputException("Uh oh! Invalid index. Have you entered the correct index?");
         }
     }
 
     /**
-     * Parses the task number (index) from the user input.
-     *
-     * @param userInput The user input string.
-     * @return The task number (0-based index).
-     * @throws NumberFormatException If the task number cannot be parsed as an integer.
-     */
-    private int extractTaskNo(String userInput) throws InvalidInputException {
-        return UtilParser.parseTaskNumber(userInput);
-    }
-
-    /**
-     * Retrieves the task from the task list based on its index.
+     * Parses the task referred to by its task number, or by its ID, in the user input.
      *
-     * @param taskNo The index of the task (0-based).
-     * @return The {@link Task} object at the specified index.
-     * @throws IndexOutOfBoundsException If the task number is out of range.
+     * @param tokens The words of the user input.
+     * @return The task.
+     * @throws InvalidInputException If the task number or ID is invalid.
      */
-    private Task retrieveTask(int taskNo) {
-        assert taskNo >= 0 : "Task number must be non-negative";
-        assert taskNo < taskList.getTasksList().size() : "Task number must not exceed size of task list";
-        return taskList.getTask(taskNo);
+    private Task extractTask(CommandTokens tokens) throws InvalidInputException {
+        return UtilParser.parseTask(tokens, taskList);
     }
 
     /**
-     * Removes the tag from the specified task.
+     * Removes the tag from the task and persists the change.
+     * The tag is removed through the ID of the task, so that no other task is untagged if it has just been deleted.
      *
-     * @param currTask The {@link Task} object to remove the tag from.
-     */
-    private void deleteTag(Task currTask) {
-        currTask.deleteTag();
-    }
-
-    /**
-     * Saves the updated task list to storage.
+     * @param task The task to remove the tag from.
+     * @return {@code true} if the tag was removed, {@code false} if the task has been deleted.
      */
-    private void saveTask() {
-        taskList.saveTasks();
+    private boolean deleteTag(Task task) {
+        return taskList.untagTaskById(task.getId()) != null;
     }
 }
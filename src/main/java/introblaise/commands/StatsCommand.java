@@ -0,0 +1,56 @@
+package introblaise.commands;
+
+import introblaise.exceptions.InvalidInputException;
+import introblaise.metrics.MetricsRegistry;
+import introblaise.parsers.CommandTokens;
+
+/**
+ * The {@code StatsCommand} class implements the {@link TaskCommand} interface
+ * and is responsible for handling the "stats" command. This command shows how often
+ * each command has run, how often it failed, and how long it took.
+ * <p>
+ * "stats json" shows the same metrics as JSON, "stats reset" clears them, and "stats on" and
+ * "stats off" start and stop recording them.
+ */
+public class StatsCommand implements TaskCommand {
+    private final MetricsRegistry metrics;
+
+    /**
+     * Constructs a {@code StatsCommand} object with the specified {@link MetricsRegistry}.
+     *
+     * @param metrics The {@link MetricsRegistry} holding the metrics of every command.
+     */
+    public StatsCommand(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Executes the "stats" command, showing or changing the metrics depending on its option.
+     *
+     * @param tokens The words of the user input, expected in the format "stats [json|reset|on|off]".
+     * @return The metrics, or a message confirming the change.
+     * @throws InvalidInputException If the option is unknown.
+     */
+    @Override
+    public String execute(CommandTokens tokens) throws InvalidInputException {
+        String option = tokens.getRest(1).toLowerCase();
+        switch (option) {
+        case "":
+            return metrics.formatStats();
+        case "json":
+            return metrics.toJson();
+        case "reset":
+            metrics.reset();
+            return "OK! Command stats have been reset.";
+        case "on":
+            metrics.setEnabled(true);
+            return "OK! Command stats are now being recorded.";
+        case "off":
+            metrics.setEnabled(false);
+            return "OK! Command stats are no longer being recorded.";
+        default:
+            throw new InvalidInputException(
+                    "Uh oh! Unknown option. It should be in the format: stats [json|reset|on|off]");
+        }
+    }
+}
@@ -2,6 +2,7 @@ package introblaise.commands;
 
 import introblaise.exceptions.EmptyLabelException;
 import introblaise.exceptions.InvalidInputException;
+import introblaise.parsers.CommandTokens;
 import introblaise.parsers.UtilParser;
 import introblaise.task.Task;
 import introblaise.task.TaskList;
@@ -29,87 +30,63 @@ public class TagTaskCommand implements TaskCommand {
      * task, adds the tag to the task, saves the updated task list, and then
      * builds a formatted string to inform the user about the update.
      *
-     * @param userInput The user input string, expected in the format "tag x y",
+     * @param tokens    The words of the user input, expected in the format "tag x y",
      *                  where 'x' is the index (starting from 1) of the task to
      *                  be tagged, and 'y' is the tag label.
-     * @return A string message confirming that the task has been tagged, or an
-     *         error message if the input is invalid (e.g., invalid index, missing
-     *         label, task already tagged).
-     * @throws IndexOutOfBoundsException If the provided task index is out of range.
-     * @throws NumberFormatException   If the task index cannot be parsed as a number.
+     * @return A string message confirming that the task has been tagged.
+     * @throws EmptyLabelException   If the tag label is missing.
+     * @throws InvalidInputException If the input is invalid (e.g., invalid index, task already tagged).
      */
     @Override
-    public String execute(String userInput) {
+    public String execute(CommandTokens tokens) throws EmptyLabelException, InvalidInputException {
         try {
-            int taskNo = extractTaskNo(userInput);
-
-            Task currTask = retrieveTask(taskNo);
-            String label = extractLabel(userInput);
+            Task currTask = extractTask(tokens);
+            String label = extractLabel(tokens);
 
             if (currTask.getIsTagged()) {
-                return "This task is already tagged!";
+                throw new InvalidInputException("This task is already tagged!");
             }
 
-            setTag(currTask, label);
-            saveTask();
+            if (!setTag(currTask, label)) {
+                throw new InvalidInputException("Uh oh! That task has just been deleted.");
+            }
             return "I've tagged this task: " + currTask;
         } catch (IndexOutOfBoundsException e) {
-            return "Uh oh! Invalid index. Have you entered the correct index?";
-        } catch (EmptyLabelException | InvalidInputException e) {
-            return e.getMessage();
+            throw new InvalidInputException("Uh oh! Invalid index. Have you entered the correct index?");
         }
     }
 
     /**
-     * Parses the task number (index) from the user input.
-     *
-     * @param userInput The user input string.
-     * @return The task number (0-based index).
-     * @throws NumberFormatException If the task number cannot be parsed as an integer.
-     */
-    private int extractTaskNo(String userInput) throws InvalidInputException {
-        return UtilParser.parseTaskNumber(userInput);
-    }
-
-    /**
-     * Retrieves the task from the task list based on its index.
+     * Parses the task referred to by its task number, or by its ID, in the user input.
      *
-     * @param taskNo The index of the task (0-based).
-     * @return The {@link Task} object at the specified index.
-     * @throws IndexOutOfBoundsException If the task number is out of range.
+     * @param tokens The words of the user input.
+     * @return The task.
+     * @throws InvalidInputException If the task number or ID is invalid.
      */
-    private Task retrieveTask(int taskNo) {
-        assert taskNo >= 0 : "Task number must be non-negative";
-        assert taskNo < taskList.getTasksList().size() : "Task number must not exceed size of task list";
-        return taskList.getTask(taskNo);
+    private Task extractTask(CommandTokens tokens) throws InvalidInputException {
+        return UtilParser.parseTask(tokens, taskList);
     }
 
     /**
      * Extracts the tag label from the user input.
      *
-     * @param userInput The user input string.
+     * @param tokens The words of the user input.
      * @return The tag label.
      * @throws EmptyLabelException If the tag label is empty.
      */
-    private String extractLabel(String userInput) throws EmptyLabelException, InvalidInputException {
-        return UtilParser.parseTagLabel(userInput);
+    private String extractLabel(CommandTokens tokens) throws EmptyLabelException, InvalidInputException {
+        return UtilParser.parseTagLabel(tokens);
     }
 
     /**
-     * Sets the tag (label) for the specified task.
+     * Sets the tag (label) for the task and persists the change.
+     * The tag is set through the ID of the task, so that no other task is tagged if it has just been deleted.
      *
-     * @param currTask The {@link Task} object to add the tag to.
-     * @param label    The tag label to set.
-     */
-    private void setTag(Task currTask, String label) {
-        currTask.setTag(label);
-    }
-
-    /**
-     * Saves the updated task list to storage.
+     * @param task  The task to add the tag to.
+     * @param label The tag label to set.
+     * @return {@code true} if the task was tagged, {@code false} if it has been deleted.
      */
-
-    private void saveTask() {
-        taskList.saveTasks();
+    private boolean setTag(Task task, String label) {
+        return taskList.tagTaskById(task.getId(), label) != null;
     }
 }
@@ -1,8 +1,33 @@
 package introblaise.commands;
 
+import introblaise.exceptions.IntroBlaiseException;
+import introblaise.parsers.CommandTokens;
+
 /**
  * Command interface for all task-related operations.
+ * Commands read their arguments from the words the input was already split into, instead of splitting it again.
+ * A command that cannot carry out the input throws an {@link IntroBlaiseException} whose message is the response
+ * to the user, so that whoever runs it can tell the failure apart from a successful response.
  */
 public interface TaskCommand {
-    String execute(String userInput);
+    /**
+     * Executes the command on user input that has been split into words.
+     * The tokens may be reused for the next input once this returns, so they must not be kept.
+     *
+     * @param tokens The words of the user input, starting with the name of the command.
+     * @return The response to the user.
+     * @throws IntroBlaiseException If the input is invalid, with the response to the user as its message.
+     */
+    String execute(CommandTokens tokens) throws IntroBlaiseException;
+
+    /**
+     * Executes the command on user input, splitting it into words first.
+     *
+     * @param userInput The user input, starting with the name of the command.
+     * @return The response to the user.
+     * @throws IntroBlaiseException If the input is invalid, with the response to the user as its message.
+     */
+    default String execute(String userInput) throws IntroBlaiseException {
+        return execute(CommandTokens.tokenize(userInput));
+    }
 }
@@ -2,6 +2,7 @@ package introblaise.commands;
 
 import introblaise.exceptions.AlreadyUndoneException;
 import introblaise.exceptions.InvalidInputException;
+import introblaise.parsers.CommandTokens;
 import introblaise.parsers.UtilParser;
 import introblaise.task.Task;
 import introblaise.task.TaskList;
@@ -29,71 +30,49 @@ public class UnmarkTaskCommand implements TaskCommand {
      * marks the task as undone, saves the updated task list, and then builds a
      * formatted string to inform the user about the update.
      *
-     * @param userInput The user input string, expected in the format "unmark x",
+     * @param tokens    The words of the user input, expected in the format "unmark x",
      *                  where 'x' is the index (starting from 1) of the task to be unmarked.
-     * @return A string message confirming that the task has been marked as undone,
-     *         or an error message if the input is invalid (e.g., invalid index,
-     *         task is already undone).
-     * @throws IndexOutOfBoundsException If the provided task index is out of range.
-     * @throws NumberFormatException       If the task index cannot be parsed as a number.
+     * @return A string message confirming that the task has been marked as undone.
+     * @throws AlreadyUndoneException If the task is already undone.
+     * @throws InvalidInputException  If the input is invalid (e.g., invalid index, deleted task).
      */
     @Override
-    public String execute(String userInput) {
+    public String execute(CommandTokens tokens) throws AlreadyUndoneException, InvalidInputException {
         try {
-            int taskNo = parseTaskNo(userInput);
-            Task currTask = retrieveTask(taskNo);
+            Task currTask = extractTask(tokens);
             if (!currTask.getIsDone()) {
                 throw new AlreadyUndoneException("This task has already been marked undone!");
             }
-            markAsUndone(currTask);
-            saveTask();
+            if (!markAsUndone(currTask)) {
+                throw new InvalidInputException("Uh oh! That task has just been deleted.");
+            }
             return "OK, I've marked this task as not done yet: " + "\n" + currTask;
         } catch (IndexOutOfBoundsException e) {
-            return "Uh oh! Invalid index. Are you sure you are unmarking the correct task?";
+            throw new InvalidInputException("Uh oh! Invalid index. Are you sure you are unmarking the correct task?");
         } catch (NumberFormatException e) {
-            return "Uh oh! Invalid number. Please enter a number after 'unmark'.";
-        } catch (AlreadyUndoneException | InvalidInputException e) {
-            return e.getMessage();
+            throw new InvalidInputException("Uh oh! Invalid number. Please enter a number after 'unmark'.");
         }
     }
 
     /**
-     * Parses the task number (index) from the user input.
-     *
-     * @param userInput The user input string.
-     * @return The task number (0-based index).
-     * @throws NumberFormatException If the task number cannot be parsed as an integer.
-     */
-    private int parseTaskNo(String userInput) throws InvalidInputException {
-        return UtilParser.parseTaskNumber(userInput);
-    }
-
-    /**
-     * Retrieves the task from the task list based on its index.
+     * Parses the task referred to by its task number, or by its ID, in the user input.
      *
-     * @param taskNo The index of the task (0-based).
-     * @return The {@link Task} object at the specified index.
-     * @throws IndexOutOfBoundsException If the task number is out of range.
+     * @param tokens The words of the user input.
+     * @return The task.
+     * @throws InvalidInputException If the task number or ID is invalid.
      */
-    private Task retrieveTask(int taskNo) {
-        assert taskNo >= 0 : "Task number must be non-negative";
-        assert taskNo < taskList.getTasksList().size() : "Task number must not exceed size of task list";
-        return taskList.getTask(taskNo);
+    private Task extractTask(CommandTokens tokens) throws InvalidInputException {
+        return UtilParser.parseTask(tokens, taskList);
     }
 
     /**
-     * Marks the specified task as undone.
+     * Marks the task as undone and persists the change.
+     * The task is unmarked through its ID, so that no other task is unmarked if it has just been deleted.
      *
-     * @param currTask The {@link Task} object to be marked as undone.
-     */
-    private void markAsUndone(Task currTask) {
-        currTask.markAsUndone();
-    }
-
-    /**
-     * Saves the updated task list to storage.
+     * @param task The task to be marked as undone.
+     * @return {@code true} if the task was unmarked, {@code false} if it has been deleted.
      */
-    private void saveTask() {
-        taskList.saveTasks();
+    private boolean markAsUndone(Task task) {
+        return taskList.unmarkTaskById(task.getId()) != null;
     }
 }
@@ -3,6 +3,7 @@ package introblaise.gui;
 import java.io.IOException;
 import java.util.Collections;
 
+import introblaise.jfr.DialogBoxEvent;
 import javafx.beans.binding.Bindings;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -73,15 +74,33 @@ public class DialogBox extends HBox {
     }
 
     public static DialogBox getUserDialog(String text, Image img) {
+        DialogBoxEvent event = new DialogBoxEvent();
+        event.begin();
         var db = new DialogBox(text, img);
         db.setDialogStyle("user-dialog"); // Apply user-dialog style
+        commitEvent(event, "user", text);
         return db;
     }
 
     public static DialogBox getIntroBlaiseDialog(String text, Image img) {
+        DialogBoxEvent event = new DialogBoxEvent();
+        event.begin();
         var db = new DialogBox(text, img);
         db.setDialogStyle("bot-dialog"); // Apply bot-dialog style
         db.flip();
+        commitEvent(event, "bot", text);
         return db;
     }
+
+    /**
+     * Records the creation of a dialog box as a Java Flight Recorder event, if it is being recorded.
+     */
+    private static void commitEvent(DialogBoxEvent event, String speaker, String text) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setSpeaker(speaker);
+            event.setTextLength(text.length());
+            event.commit();
+        }
+    }
 }
@@ -42,4 +42,12 @@ public class Main extends Application {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Saves every pending change when the window is closed without typing "bye".
+     */
+    @Override
+    public void stop() {
+        introBlaise.shutdown();
+    }
 }
@@ -65,6 +65,7 @@ public class MainWindow extends AnchorPane {
         userInput.clear();
 
         if (input.trim().equalsIgnoreCase("bye")) {
+            introBlaise.shutdown();
             Platform.exit();
         }
     }
@@ -0,0 +1,41 @@
+package introblaise.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records a user command being run, from the moment it is received until its response is ready.
+ * Storage, index and allocation events within its duration on the same thread were caused by the command.
+ */
+@Name("introblaise.Command")
+@Label("Command")
+@Category({"IntroBlaise", "Commands"})
+@Description("A user command, from receiving it to having its response ready")
+public class CommandEvent extends Event {
+    @Label("Command")
+    @Description("The name of the command, such as \"list\"")
+    private String command;
+
+    @Label("Task Count")
+    @Description("The number of tasks after the command")
+    private int taskCount;
+
+    @Label("Response Length")
+    @Description("The number of characters in the response")
+    private int responseLength;
+
+    public void setCommand(String command) {
+        this.command = command;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public void setResponseLength(int responseLength) {
+        this.responseLength = responseLength;
+    }
+}
@@ -0,0 +1,34 @@
+package introblaise.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records a dialog box of the GUI being created, including loading its layout.
+ */
+@Name("introblaise.DialogBox")
+@Label("Dialog Box")
+@Category({"IntroBlaise", "GUI"})
+@Description("A dialog box of the GUI created")
+@StackTrace(false)
+public class DialogBoxEvent extends Event {
+    @Label("Speaker")
+    @Description("Who the dialog box is from, the user or the bot")
+    private String speaker;
+
+    @Label("Text Length")
+    @Description("The number of characters in the dialog box")
+    private int textLength;
+
+    public void setSpeaker(String speaker) {
+        this.speaker = speaker;
+    }
+
+    public void setTextLength(int textLength) {
+        this.textLength = textLength;
+    }
+}
@@ -0,0 +1,34 @@
+package introblaise.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records the indexes of the task list being updated, for a single change or for many tasks at once.
+ */
+@Name("introblaise.IndexUpdate")
+@Label("Index Update")
+@Category({"IntroBlaise", "Tasks"})
+@Description("The indexes of the task list updated for a change, or built for many tasks")
+@StackTrace(false)
+public class IndexUpdateEvent extends Event {
+    @Label("Operation")
+    @Description("What the indexes were updated for, such as \"add\" or \"load\"")
+    private String operation;
+
+    @Label("Task Count")
+    @Description("The number of tasks indexed or removed from the indexes")
+    private int taskCount;
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
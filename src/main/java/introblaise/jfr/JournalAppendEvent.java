@@ -0,0 +1,37 @@
+package introblaise.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records a change being appended to the journal, including sealing the journal for compaction if it has grown
+ * too large.
+ */
+@Name("introblaise.JournalAppend")
+@Label("Journal Append")
+@Category({"IntroBlaise", "Storage"})
+@Description("A change appended to the journal")
+@StackTrace(false)
+public class JournalAppendEvent extends Event {
+    @Label("Operation")
+    @Description("The change, such as \"ADD\"")
+    private String operation;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    @Description("The size of the journal record")
+    private long bytes;
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
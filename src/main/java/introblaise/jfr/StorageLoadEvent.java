@@ -0,0 +1,43 @@
+package introblaise.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records tasks being loaded from the task file and any journal, or the task file being indexed for a lazy
+ * task list.
+ */
+@Name("introblaise.StorageLoad")
+@Label("Storage Load")
+@Category({"IntroBlaise", "Storage"})
+@Description("Tasks loaded, or indexed, from the task file and journals")
+public class StorageLoadEvent extends Event {
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    @Description("The size of the files read")
+    private long bytes;
+
+    @Label("Records")
+    @Description("The number of tasks loaded or indexed")
+    private int records;
+
+    @Label("Lazy")
+    @Description("Whether the task file was only indexed, to decode tasks when they are needed")
+    private boolean isLazy;
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setRecords(int records) {
+        this.records = records;
+    }
+
+    public void setLazy(boolean isLazy) {
+        this.isLazy = isLazy;
+    }
+}
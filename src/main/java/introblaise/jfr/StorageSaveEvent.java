@@ -0,0 +1,42 @@
+package introblaise.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records the whole task list being written to the task file.
+ */
+@Name("introblaise.StorageSave")
+@Label("Storage Save")
+@Category({"IntroBlaise", "Storage"})
+@Description("The whole task list written to the task file")
+public class StorageSaveEvent extends Event {
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    @Description("The size of the task file written")
+    private long bytes;
+
+    @Label("Records")
+    @Description("The number of tasks written")
+    private int records;
+
+    @Label("Snapshot")
+    @Description("Whether the save replaced the journals as well as the task file")
+    private boolean isSnapshot;
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setRecords(int records) {
+        this.records = records;
+    }
+
+    public void setSnapshot(boolean isSnapshot) {
+        this.isSnapshot = isSnapshot;
+    }
+}
@@ -0,0 +1,69 @@
+package introblaise.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the metrics of one command: how often it ran, how often it failed, and how long each phase took.
+ * <p>
+ * Parsing covers recognizing the command from the user input, executing covers the rest of the command,
+ * including parsing its arguments, and persisting covers saving or journaling its changes. Only commands
+ * that changed the task list are recorded under persisting, and the time they spent persisting is not
+ * counted again under executing.
+ */
+public class CommandMetrics {
+    private final LongAdder invocations;
+    private final LongAdder errors;
+    private final LatencyHistogram parseLatencies;
+    private final LatencyHistogram executeLatencies;
+    private final LatencyHistogram persistLatencies;
+
+    /**
+     * Constructs a {@code CommandMetrics} with nothing recorded.
+     */
+    public CommandMetrics() {
+        this.invocations = new LongAdder();
+        this.errors = new LongAdder();
+        this.parseLatencies = new LatencyHistogram();
+        this.executeLatencies = new LatencyHistogram();
+        this.persistLatencies = new LatencyHistogram();
+    }
+
+    void recordInvocation() {
+        invocations.increment();
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public LatencyHistogram getParseLatencies() {
+        return parseLatencies;
+    }
+
+    public LatencyHistogram getExecuteLatencies() {
+        return executeLatencies;
+    }
+
+    public LatencyHistogram getPersistLatencies() {
+        return persistLatencies;
+    }
+
+    /**
+     * Clears every metric of the command.
+     */
+    void reset() {
+        invocations.reset();
+        errors.reset();
+        parseLatencies.reset();
+        executeLatencies.reset();
+        persistLatencies.reset();
+    }
+}
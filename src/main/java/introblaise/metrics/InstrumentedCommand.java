@@ -0,0 +1,54 @@
+package introblaise.metrics;
+
+import introblaise.commands.TaskCommand;
+import introblaise.exceptions.IntroBlaiseException;
+import introblaise.parsers.CommandTokens;
+
+/**
+ * Wraps a {@link TaskCommand} to record its metrics in a {@link MetricsRegistry}.
+ * While the registry is disabled, the wrapped command runs with nothing recorded.
+ */
+class InstrumentedCommand implements TaskCommand {
+    private final TaskCommand command;
+    private final CommandMetrics commandMetrics;
+    private final MetricsRegistry metrics;
+
+    InstrumentedCommand(TaskCommand command, CommandMetrics commandMetrics, MetricsRegistry metrics) {
+        this.command = command;
+        this.commandMetrics = commandMetrics;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Executes the wrapped command, recording how long it took and how much of that was spent persisting.
+     * A command that throws, including one that rejects its input, is recorded as an error, and the exception is
+     * passed on.
+     *
+     * @param tokens The words of the user input.
+     * @return The response of the wrapped command.
+     * @throws IntroBlaiseException If the wrapped command rejects the input.
+     */
+    @Override
+    public String execute(CommandTokens tokens) throws IntroBlaiseException {
+        if (!metrics.isEnabled()) {
+            return command.execute(tokens);
+        }
+        commandMetrics.recordInvocation();
+        metrics.beginCommand();
+        long startNanos = System.nanoTime();
+        try {
+            return command.execute(tokens);
+        } catch (IntroBlaiseException | RuntimeException e) {
+            commandMetrics.recordError();
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long persistNanos = metrics.endCommand();
+            if (persistNanos >= 0) {
+                commandMetrics.getPersistLatencies().record(persistNanos);
+                elapsedNanos -= persistNanos;
+            }
+            commandMetrics.getExecuteLatencies().record(elapsedNanos);
+        }
+    }
+}
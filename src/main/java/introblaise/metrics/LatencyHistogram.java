@@ -0,0 +1,132 @@
+package introblaise.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latencies, in nanoseconds, into a fixed set of buckets that grow with the latency, in the style of an
+ * HDR histogram.
+ * <p>
+ * Latencies below {@value #SUB_BUCKET_COUNT} ns each have their own bucket. Every larger power of two is split
+ * into {@value #HALF_SUB_BUCKET_COUNT} buckets of equal width, so a reported percentile is never more than about
+ * 6% above the latency that was recorded, from nanoseconds to minutes, in under 8 KiB. Recording only increments
+ * counters, so it never allocates or takes a lock, and can be done from any number of threads.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT =
+            SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts;
+    private final LongAdder count;
+    private final LongAdder totalNanos;
+    private final LongAccumulator maxNanos;
+
+    /**
+     * Constructs an empty {@code LatencyHistogram}.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.count = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency, in nanoseconds. Negative latencies are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift)
+                - HALF_SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * Returns the largest latency that falls into a bucket.
+     *
+     * @param bucket The index of the bucket.
+     * @return The upper bound of the bucket, in nanoseconds.
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = (bucket - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the mean of the recorded latencies.
+     *
+     * @return The mean latency, in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMeanNanos() {
+        long currentCount = count.sum();
+        return currentCount == 0 ? 0 : totalNanos.sum() / currentCount;
+    }
+
+    /**
+     * Returns the latency that a given fraction of the recorded latencies are at or below.
+     * The result is the upper bound of the bucket holding that latency, capped at the largest latency recorded.
+     *
+     * @param fraction The percentile, from 0 to 1.
+     * @return The latency at the percentile, in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(double fraction) {
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max((long) Math.ceil(fraction * total), 1);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * Clears every recorded latency.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+}
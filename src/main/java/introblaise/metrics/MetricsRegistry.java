@@ -0,0 +1,209 @@
+package introblaise.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import introblaise.commands.TaskCommand;
+
+/**
+ * Keeps the {@link CommandMetrics} of every command, and reports them as text or as JSON.
+ * <p>
+ * Commands are instrumented by wrapping them with {@link #instrument(String, TaskCommand)}. The time spent
+ * persisting is reported by the task list through {@link #recordPersist(long)}, on the thread running the
+ * command, and is attributed to that command. Changes saved later by a background writer are not attributed
+ * to any command. While the registry is disabled, instrumented commands and the task list only check whether
+ * it is enabled, and record nothing.
+ */
+public class MetricsRegistry {
+    public static final String ENABLED_PROPERTY = "introblaise.metrics";
+
+    private static final long NOT_PERSISTED = -1;
+
+    private final Map<String, CommandMetrics> metricsByCommand;
+    private final LongAdder unknownCommands;
+    private final ThreadLocal<long[]> persistNanosOfCommand;
+    private volatile boolean isEnabled;
+
+    /**
+     * Constructs a {@code MetricsRegistry} with nothing recorded.
+     *
+     * @param isEnabled Whether metrics are recorded from the start.
+     */
+    public MetricsRegistry(boolean isEnabled) {
+        this.metricsByCommand = new ConcurrentHashMap<>();
+        this.unknownCommands = new LongAdder();
+        this.persistNanosOfCommand = ThreadLocal.withInitial(() -> new long[] {NOT_PERSISTED});
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * Constructs a {@code MetricsRegistry} that is enabled unless the system property
+     * {@value #ENABLED_PROPERTY} is set to {@code false}.
+     *
+     * @return The registry.
+     */
+    public static MetricsRegistry fromSystemProperties() {
+        return new MetricsRegistry(Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")));
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public void setEnabled(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * Wraps a command so that its invocations, errors and latencies are recorded under its name.
+     *
+     * @param name    The name of the command, such as "list".
+     * @param command The command to wrap.
+     * @return The wrapped command.
+     */
+    public TaskCommand instrument(String name, TaskCommand command) {
+        return new InstrumentedCommand(command, getCommandMetrics(name), this);
+    }
+
+    /**
+     * Returns the metrics of a command, creating them if the command has none yet.
+     *
+     * @param name The name of the command.
+     * @return The metrics of the command.
+     */
+    public CommandMetrics getCommandMetrics(String name) {
+        return metricsByCommand.computeIfAbsent(name, key -> new CommandMetrics());
+    }
+
+    /**
+     * Records how long it took to recognize a command from the user input.
+     *
+     * @param name  The name of the command.
+     * @param nanos How long parsing took, in nanoseconds.
+     */
+    public void recordParse(String name, long nanos) {
+        if (isEnabled) {
+            getCommandMetrics(name).getParseLatencies().record(nanos);
+        }
+    }
+
+    /**
+     * Records user input that did not name any command.
+     */
+    public void recordUnknownCommand() {
+        if (isEnabled) {
+            unknownCommands.increment();
+        }
+    }
+
+    /**
+     * Records time spent persisting a change, for the command running on the current thread.
+     *
+     * @param nanos How long persisting took, in nanoseconds.
+     */
+    public void recordPersist(long nanos) {
+        long[] persistNanos = persistNanosOfCommand.get();
+        persistNanos[0] = Math.max(persistNanos[0], 0) + nanos;
+    }
+
+    void beginCommand() {
+        persistNanosOfCommand.get()[0] = NOT_PERSISTED;
+    }
+
+    /**
+     * Returns the time spent persisting by the command that just ran on the current thread.
+     *
+     * @return The time, in nanoseconds, or a negative number if the command did not persist anything.
+     */
+    long endCommand() {
+        long[] persistNanos = persistNanosOfCommand.get();
+        long result = persistNanos[0];
+        persistNanos[0] = NOT_PERSISTED;
+        return result;
+    }
+
+    public long getUnknownCommands() {
+        return unknownCommands.sum();
+    }
+
+    /**
+     * Clears the metrics of every command.
+     */
+    public void reset() {
+        for (CommandMetrics commandMetrics : metricsByCommand.values()) {
+            commandMetrics.reset();
+        }
+        unknownCommands.reset();
+    }
+
+    /**
+     * Returns the metrics of every command that has run, in alphabetical order, with latencies in milliseconds.
+     *
+     * @return The formatted metrics.
+     */
+    public String formatStats() {
+        StringBuilder result = new StringBuilder(isEnabled ? "Command stats (p50 / p99 / max):"
+                : "Command stats are off. Type \"stats on\" to record them. Stats so far:");
+        for (Map.Entry<String, CommandMetrics> entry : new TreeMap<>(metricsByCommand).entrySet()) {
+            CommandMetrics commandMetrics = entry.getValue();
+            if (commandMetrics.getInvocations() == 0) {
+                continue;
+            }
+            result.append(String.format("%n%s: %d runs, %d errors", entry.getKey(),
+                    commandMetrics.getInvocations(), commandMetrics.getErrors()));
+            appendLatencies(result, "parse", commandMetrics.getParseLatencies());
+            appendLatencies(result, "execute", commandMetrics.getExecuteLatencies());
+            appendLatencies(result, "persist", commandMetrics.getPersistLatencies());
+        }
+        result.append(String.format("%nUnknown commands: %d", unknownCommands.sum()));
+        return result.toString();
+    }
+
+    private static void appendLatencies(StringBuilder result, String phase, LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) {
+            return;
+        }
+        result.append(String.format("%n  %s: %.3f / %.3f / %.3f ms", phase,
+                histogram.getValueAtPercentile(0.5) / 1e6, histogram.getValueAtPercentile(0.99) / 1e6,
+                histogram.getMaxNanos() / 1e6));
+    }
+
+    /**
+     * Returns the metrics of every command as a JSON object, with latencies in nanoseconds.
+     *
+     * @return The JSON object.
+     */
+    public String toJson() {
+        StringBuilder result = new StringBuilder("{\"enabled\":").append(isEnabled)
+                .append(",\"unknownCommands\":").append(unknownCommands.sum())
+                .append(",\"commands\":{");
+        boolean isFirst = true;
+        for (Map.Entry<String, CommandMetrics> entry : new TreeMap<>(metricsByCommand).entrySet()) {
+            CommandMetrics commandMetrics = entry.getValue();
+            if (!isFirst) {
+                result.append(',');
+            }
+            isFirst = false;
+            result.append('"').append(entry.getKey()).append("\":{\"invocations\":")
+                    .append(commandMetrics.getInvocations())
+                    .append(",\"errors\":").append(commandMetrics.getErrors());
+            appendJson(result, "parse", commandMetrics.getParseLatencies());
+            appendJson(result, "execute", commandMetrics.getExecuteLatencies());
+            appendJson(result, "persist", commandMetrics.getPersistLatencies());
+            result.append('}');
+        }
+        return result.append("}}").toString();
+    }
+
+    private static void appendJson(StringBuilder result, String phase, LatencyHistogram histogram) {
+        result.append(",\"").append(phase).append("\":{\"count\":").append(histogram.getCount())
+                .append(",\"meanNanos\":").append(histogram.getMeanNanos())
+                .append(",\"p50Nanos\":").append(histogram.getValueAtPercentile(0.5))
+                .append(",\"p90Nanos\":").append(histogram.getValueAtPercentile(0.9))
+                .append(",\"p99Nanos\":").append(histogram.getValueAtPercentile(0.99))
+                .append(",\"maxNanos\":").append(histogram.getMaxNanos())
+                .append('}');
+    }
+}
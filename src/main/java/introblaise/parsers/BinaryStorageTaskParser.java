@@ -0,0 +1,373 @@
+package introblaise.parsers;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import introblaise.task.Task;
+import introblaise.tasktype.Deadline;
+import introblaise.tasktype.Event;
+import introblaise.tasktype.ToDo;
+
+/**
+ * The {@code BinaryStorageTaskParser} class provides utility methods for converting {@link Task} objects
+ * to and from the compact binary storage format.
+ * <p>
+ * A binary task file starts with the magic bytes "IBT", a version byte and the number of tasks as a varint.
+ * Each task is then stored as:
+ * <ul>
+ *     <li>a type byte ('T', 'D' or 'E'),</li>
+ *     <li>a flags byte, where bit 0 is set if the task is done, bit 1 if it is tagged, and bit 2 if its
+ *     dates are stored as strings,</li>
+ *     <li>the ID of the task as a varint, from version 2 onwards,</li>
+ *     <li>the description, as a varint length followed by UTF-8 bytes,</li>
+ *     <li>the tag label in the same way, if the task is tagged,</li>
+ *     <li>the deadline, or the start and end of the event, as minutes since the epoch in 4-byte integers.</li>
+ * </ul>
+ * Dates that were not entered in the "dd-MM-yyyy HHmm" form, such as "2-12-2019 1800", are stored as
+ * strings instead, so that converting between the text and binary formats is lossless.
+ * Version 1 files, which have no task IDs, are still read.
+ */
+public class BinaryStorageTaskParser {
+    private static final byte[] MAGIC = {'I', 'B', 'T'};
+    private static final byte VERSION = 2;
+    private static final byte FIRST_VERSION_WITH_IDS = 2;
+
+    private static final byte TODO_TYPE = 'T';
+    private static final byte DEADLINE_TYPE = 'D';
+    private static final byte EVENT_TYPE = 'E';
+
+    private static final int DONE_FLAG = 1;
+    private static final int TAGGED_FLAG = 1 << 1;
+    private static final int RAW_DATES_FLAG = 1 << 2;
+
+    /**
+     * Converts a list of {@link Task} objects to the contents of a binary task file.
+     *
+     * @param tasks The tasks to convert.
+     * @return The bytes of the binary task file.
+     */
+    public static byte[] tasksToBytes(List<Task> tasks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + tasks.size() * 32);
+        out.write(MAGIC, 0, MAGIC.length);
+        out.write(VERSION);
+        writeVarInt(tasks.size(), out);
+        for (Task task : tasks) {
+            writeTask(task, out);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Converts the contents of a binary task file back into a list of {@link Task} objects.
+     * An empty buffer is read as an empty task list.
+     *
+     * @param buffer The bytes of the binary task file, from its current position to its limit.
+     * @return The tasks stored in the buffer.
+     * @throws IllegalArgumentException If the buffer does not hold a supported binary task file.
+     */
+    public static List<Task> bytesToTasks(ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            return new ArrayList<>();
+        }
+        int version = readVersion(buffer);
+        int taskCount = readVarInt(buffer);
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(readTask(buffer, version));
+        }
+        if (version < FIRST_VERSION_WITH_IDS) {
+            StorageTaskParser.assignMissingIds(tasks);
+        }
+        return tasks;
+    }
+
+    /**
+     * Reads the magic bytes and version of a binary task file.
+     *
+     * @param buffer The buffer positioned at the start of the file, which is advanced past the version.
+     * @return The version of the file.
+     * @throws IllegalArgumentException If the file is not a binary task file or has an unsupported version.
+     */
+    public static int readVersion(ByteBuffer buffer) {
+        for (byte magicByte : MAGIC) {
+            if (buffer.get() != magicByte) {
+                throw new IllegalArgumentException("Not a binary task file");
+            }
+        }
+        byte version = buffer.get();
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported binary task file version: " + version);
+        }
+        return version;
+    }
+
+    /**
+     * Returns the version of a binary task file, without moving the buffer.
+     *
+     * @param buffer The contents of a binary task file whose header has already been checked.
+     * @return The version of the file.
+     */
+    public static int getVersion(ByteBuffer buffer) {
+        return buffer.get(MAGIC.length);
+    }
+
+    /**
+     * Reads the number of tasks in a binary task file, which follows its version.
+     *
+     * @param buffer The buffer positioned after the version, which is advanced past the number of tasks.
+     * @return The number of tasks in the file.
+     */
+    public static int readTaskCount(ByteBuffer buffer) {
+        return readVarInt(buffer);
+    }
+
+    /**
+     * Writes a single task in the binary storage format.
+     *
+     * @param task The task to write.
+     * @param out  The stream to write the task to.
+     */
+    public static void writeTask(Task task, ByteArrayOutputStream out) {
+        String[] dateStrings = getDateStrings(task);
+        LocalDateTime[] dateTimes = getDateTimes(task);
+        boolean hasRawDates = !isCanonical(dateStrings, dateTimes);
+
+        int flags = 0;
+        if (task.getIsDone()) {
+            flags |= DONE_FLAG;
+        }
+        if (task.getIsTagged()) {
+            flags |= TAGGED_FLAG;
+        }
+        if (hasRawDates) {
+            flags |= RAW_DATES_FLAG;
+        }
+
+        out.write(getTypeCode(task));
+        out.write(flags);
+        writeVarInt(task.getId(), out);
+        writeString(task.getDescription(), out);
+        if (task.getIsTagged()) {
+            writeString(task.getTag(), out);
+        }
+        for (int i = 0; i < dateStrings.length; i++) {
+            if (hasRawDates) {
+                writeString(dateStrings[i], out);
+            } else {
+                writeInt(toEpochMinutes(dateTimes[i]), out);
+            }
+        }
+    }
+
+    /**
+     * Reads a single task in the binary storage format.
+     *
+     * @param buffer  The buffer positioned at the start of the task, which is advanced past it.
+     * @param version The version of the binary task file.
+     * @return The task that was read. Tasks from version 1 files have no ID.
+     * @throws IllegalArgumentException If the task has an unknown type.
+     */
+    public static Task readTask(ByteBuffer buffer, int version) {
+        byte type = buffer.get();
+        int flags = buffer.get();
+        int id = version >= FIRST_VERSION_WITH_IDS ? readVarInt(buffer) : 0;
+        String description = readString(buffer);
+        String tag = (flags & TAGGED_FLAG) != 0 ? readString(buffer) : null;
+        boolean hasRawDates = (flags & RAW_DATES_FLAG) != 0;
+
+        Task task;
+        switch (type) {
+        case TODO_TYPE:
+            task = new ToDo(description);
+            break;
+        case DEADLINE_TYPE:
+            task = hasRawDates
+                    ? new Deadline(description, readString(buffer))
+                    : new Deadline(description, readDateTime(buffer));
+            break;
+        case EVENT_TYPE:
+            task = hasRawDates
+                    ? new Event(description, readString(buffer), readString(buffer))
+                    : new Event(description, readDateTime(buffer), readDateTime(buffer));
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown task type in binary task file: " + type);
+        }
+
+        task.setId(id);
+        if ((flags & DONE_FLAG) != 0) {
+            task.markAsDone();
+        }
+        if (tag != null) {
+            task.setTag(tag);
+        }
+        return task;
+    }
+
+    /**
+     * Moves the buffer past a single task in the binary storage format, without decoding it.
+     *
+     * @param buffer  The buffer positioned at the start of the task, which is advanced past it.
+     * @param version The version of the binary task file.
+     */
+    public static void skipTask(ByteBuffer buffer, int version) {
+        byte type = buffer.get();
+        int flags = buffer.get();
+        if (version >= FIRST_VERSION_WITH_IDS) {
+            readVarInt(buffer);
+        }
+        skipString(buffer);
+        if ((flags & TAGGED_FLAG) != 0) {
+            skipString(buffer);
+        }
+        int dateCount = type == EVENT_TYPE ? 2 : type == DEADLINE_TYPE ? 1 : 0;
+        for (int i = 0; i < dateCount; i++) {
+            if ((flags & RAW_DATES_FLAG) != 0) {
+                skipString(buffer);
+            } else {
+                buffer.position(buffer.position() + Integer.BYTES);
+            }
+        }
+    }
+
+    /**
+     * Returns the type byte of a task.
+     *
+     * @param task The task.
+     * @return The type byte of the task.
+     */
+    private static byte getTypeCode(Task task) {
+        if (task instanceof Deadline) {
+            return DEADLINE_TYPE;
+        } else if (task instanceof Event) {
+            return EVENT_TYPE;
+        }
+        return TODO_TYPE;
+    }
+
+    /**
+     * Returns the date strings of a task as they were entered, in storage order.
+     *
+     * @param task The task.
+     * @return The deadline, or the start and end of the event, or an empty array for other tasks.
+     */
+    private static String[] getDateStrings(Task task) {
+        if (task instanceof Deadline) {
+            return new String[] {((Deadline) task).getDateTimeStr()};
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            return new String[] {event.getFrom(), event.getTo()};
+        }
+        return new String[0];
+    }
+
+    /**
+     * Returns the parsed dates of a task, in storage order.
+     *
+     * @param task The task.
+     * @return The deadline, or the start and end of the event, or an empty array for other tasks.
+     */
+    private static LocalDateTime[] getDateTimes(Task task) {
+        if (task instanceof Deadline) {
+            return new LocalDateTime[] {((Deadline) task).getDateTime()};
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            return new LocalDateTime[] {event.getParsedFrom(), event.getParsedTo()};
+        }
+        return new LocalDateTime[0];
+    }
+
+    /**
+     * Returns whether every date string is exactly what formatting its parsed date would give,
+     * so that storing the date as minutes since the epoch loses nothing.
+     *
+     * @param dateStrings The date strings as they were entered.
+     * @param dateTimes   The parsed dates.
+     * @return {@code true} if every date string is in its canonical form, {@code false} otherwise.
+     */
+    private static boolean isCanonical(String[] dateStrings, LocalDateTime[] dateTimes) {
+        for (int i = 0; i < dateStrings.length; i++) {
+            if (dateTimes[i] == null
+                    || !UtilParser.convertDateTimeToStorageString(dateTimes[i]).equals(dateStrings[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int toEpochMinutes(LocalDateTime dateTime) {
+        return Math.toIntExact(dateTime.toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer buffer) {
+        return LocalDateTime.ofEpochSecond(buffer.getInt() * 60L, 0, ZoneOffset.UTC);
+    }
+
+    private static void writeInt(int value, ByteArrayOutputStream out) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    /**
+     * Writes a non-negative integer using 7 bits per byte, with the high bit set on every byte but the last.
+     *
+     * @param value The integer to write.
+     * @param out   The stream to write the integer to.
+     */
+    private static void writeVarInt(int value, ByteArrayOutputStream out) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * Reads an integer written by {@link #writeVarInt(int, ByteArrayOutputStream)}.
+     *
+     * @param buffer The buffer positioned at the start of the integer.
+     * @return The integer that was read.
+     */
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static void writeString(String value, ByteArrayOutputStream out) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length, out);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void skipString(ByteBuffer buffer) {
+        int length = readVarInt(buffer);
+        buffer.position(buffer.position() + length);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = readVarInt(buffer);
+        if (buffer.hasArray()) {
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
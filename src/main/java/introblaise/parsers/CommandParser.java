@@ -4,15 +4,27 @@ import java.util.Map;
 
 import introblaise.commands.CommandFactory;
 import introblaise.commands.TaskCommand;
+import introblaise.exceptions.IntroBlaiseException;
 import introblaise.exceptions.InvalidInputException;
+import introblaise.metrics.MetricsRegistry;
 
 /**
  * The {@code CommandParser} class handles the execution of user commands in the IntroBlaise bot.
  * It interprets user inputs, extracts the command, retrieves the corresponding {@link TaskCommand}
  * from the command map, and executes the command.
+ * <p>
+ * The input is split into {@link CommandTokens} once, and the same tokens are passed to the command, so that
+ * it does not split the input again. Each thread reuses its own tokens from one command to the next. Command
+ * names are looked up in a {@link CommandTrie} directly from the input, ignoring case, so that recognizing
+ * a command creates no strings.
+ * <p>
+ * Given a {@link MetricsRegistry}, it records how long recognizing each command took, and how often the
+ * input did not name any command.
  */
 public class CommandParser {
-    private final Map<String, TaskCommand> commandMap;
+    private final CommandTrie<Map.Entry<String, TaskCommand>> commands;
+    private final ThreadLocal<CommandTokens> tokensOfThread;
+    private final MetricsRegistry metrics;
 
     /**
      * Constructs a {@code CommandParser} with a map of commands.
@@ -22,7 +34,22 @@ public class CommandParser {
      *                   This map is typically provided by a {@link CommandFactory}.
      */
     public CommandParser(Map<String, TaskCommand> commandMap) {
-        this.commandMap = commandMap;
+        this(commandMap, null);
+    }
+
+    /**
+     * Constructs a {@code CommandParser} with a map of commands, which records its metrics.
+     *
+     * @param commandMap The map of commands to be used by this parser.
+     * @param metrics    The {@link MetricsRegistry} to record metrics in, or {@code null} to record none.
+     */
+    public CommandParser(Map<String, TaskCommand> commandMap, MetricsRegistry metrics) {
+        this.commands = new CommandTrie<>();
+        for (Map.Entry<String, TaskCommand> entry : commandMap.entrySet()) {
+            commands.put(entry.getKey(), Map.entry(entry.getKey(), entry.getValue()));
+        }
+        this.tokensOfThread = ThreadLocal.withInitial(CommandTokens::new);
+        this.metrics = metrics;
     }
 
     /**
@@ -34,30 +61,45 @@ public class CommandParser {
      * @param userInput The user's input string, which should contain the command name
      *                  followed by necessary arguments.
      * @return A string response generated by the executed command, or an error message
-     *         if the command is invalid or an error occurs during execution.
+     *         if the command is invalid or the command rejects the input.
      */
     public String executeCommand(String userInput) {
-        String command = UtilParser.parseCommand(userInput);
-        TaskCommand taskCommand = getCommand(command);
+        boolean isTimed = metrics != null && metrics.isEnabled();
+        long startNanos = isTimed ? System.nanoTime() : 0;
+        CommandTokens tokens = tokensOfThread.get().reset(userInput);
+        Map.Entry<String, TaskCommand> command = getCommand(tokens);
 
-        if (taskCommand == null) {
+        if (command == null) {
+            if (isTimed) {
+                metrics.recordUnknownCommand();
+            }
             return new InvalidInputException("Err...I don't understand this :(. Please give a valid command! "
                     + "Type \"help\" if you need guidance!")
                     .getMessage();
         }
 
-        return taskCommand.execute(userInput);
+        if (isTimed) {
+            metrics.recordParse(command.getKey(), System.nanoTime() - startNanos);
+        }
+        try {
+            return command.getValue().execute(tokens);
+        } catch (IntroBlaiseException e) {
+            return e.getMessage();
+        }
     }
 
     /**
-     * Retrieves a {@link TaskCommand} from the command map based on the command name.
+     * Retrieves a {@link TaskCommand} based on the command name, which is the first word of the input.
      *
-     * @param command The name of the command to retrieve.
-     * @return The {@link TaskCommand} associated with the given command, or {@code null}
+     * @param tokens The words of the user input.
+     * @return The name of the command and its {@link TaskCommand}, or {@code null}
      *         if no such command is found.
      */
-    private TaskCommand getCommand(String command) {
-        return commandMap.get(command);
+    private Map.Entry<String, TaskCommand> getCommand(CommandTokens tokens) {
+        if (tokens.size() == 0) {
+            return null;
+        }
+        return commands.get(tokens.getInput(), tokens.getStart(0), tokens.getEnd(0));
     }
 }
 
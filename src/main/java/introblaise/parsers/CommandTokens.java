@@ -0,0 +1,208 @@
+package introblaise.parsers;
+
+import java.util.Arrays;
+
+/**
+ * Splits user input into words in a single pass, and gives access to them by their position.
+ * <p>
+ * Words are separated by any amount of whitespace. Only the offsets at which each word starts and ends are
+ * recorded, so splitting creates no strings, and a word only becomes a string when it is asked for as one.
+ * Words can also be compared and parsed as numbers where they are in the input, without creating any string.
+ * The first word is the name of the command, and the words after it are its arguments.
+ * <p>
+ * A {@code CommandTokens} can be reused for the next input with {@link #reset(String)}, which then allocates
+ * nothing unless the input has more words than any input before it. It is not safe to use from several
+ * threads at once.
+ */
+public class CommandTokens {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private String input;
+    private int[] starts;
+    private int[] ends;
+    private int size;
+
+    /**
+     * Constructs a {@code CommandTokens} for empty input, to be reused with {@link #reset(String)}.
+     */
+    public CommandTokens() {
+        this.input = "";
+        this.starts = new int[INITIAL_CAPACITY];
+        this.ends = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Splits user input into words.
+     *
+     * @param input The user input.
+     * @return The words of the input.
+     */
+    public static CommandTokens tokenize(String input) {
+        return new CommandTokens().reset(input);
+    }
+
+    /**
+     * Splits new user input into words, replacing the words of the previous input.
+     *
+     * @param input The user input.
+     * @return This {@code CommandTokens}.
+     */
+    public CommandTokens reset(String input) {
+        this.input = input;
+        size = 0;
+        int length = input.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(input.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            int start = i;
+            while (i < length && !Character.isWhitespace(input.charAt(i))) {
+                i++;
+            }
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = i;
+            size++;
+        }
+        return this;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Returns the number of words in the input.
+     *
+     * @return The number of words, which is 0 for blank input.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the offset in the input at which a word starts.
+     *
+     * @param index The position of the word, starting from 0 for the command name.
+     * @return The offset of the first character of the word.
+     * @throws IndexOutOfBoundsException If the input has no word at that position.
+     */
+    public int getStart(int index) {
+        return starts[checkIndex(index)];
+    }
+
+    /**
+     * Returns the offset in the input just after the end of a word.
+     *
+     * @param index The position of the word, starting from 0 for the command name.
+     * @return The offset just after the last character of the word.
+     * @throws IndexOutOfBoundsException If the input has no word at that position.
+     */
+    public int getEnd(int index) {
+        return ends[checkIndex(index)];
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No word " + index + " in input of " + size + " words");
+        }
+        return index;
+    }
+
+    /**
+     * Returns a word as a string.
+     *
+     * @param index The position of the word, starting from 0 for the command name.
+     * @return The word.
+     * @throws IndexOutOfBoundsException If the input has no word at that position.
+     */
+    public String get(int index) {
+        return input.substring(getStart(index), ends[index]);
+    }
+
+    /**
+     * Returns the name of the command, which is the first word in lower case.
+     *
+     * @return The name of the command, or an empty string for blank input.
+     */
+    public String getCommand() {
+        return size == 0 ? "" : get(0).toLowerCase();
+    }
+
+    /**
+     * Returns the offset in the input at which the arguments of the command start, which is the start of the
+     * second word.
+     *
+     * @return The offset of the arguments, or the length of the input if the command has no arguments.
+     */
+    public int getArgumentsStart() {
+        return size > 1 ? starts[1] : input.length();
+    }
+
+    /**
+     * Returns the input from a word to the end of the last word, keeping the whitespace between the words.
+     *
+     * @param index The position of the first word, starting from 0 for the command name.
+     * @return The rest of the input, or an empty string if the input has no word at that position.
+     */
+    public String getRest(int index) {
+        return index >= size ? "" : input.substring(getStart(index), ends[size - 1]);
+    }
+
+    /**
+     * Returns whether a word is the given word, ignoring case.
+     *
+     * @param index The position of the word, starting from 0 for the command name.
+     * @param word  The word to compare with.
+     * @return {@code true} if the input has that word at that position, {@code false} otherwise.
+     */
+    public boolean equalsIgnoreCase(int index, String word) {
+        return index < size && ends[index] - starts[index] == word.length()
+                && input.regionMatches(true, starts[index], word, 0, word.length());
+    }
+
+    /**
+     * Returns whether a word is exactly the given word, including its case.
+     *
+     * @param index The position of the word, starting from 0 for the command name.
+     * @param word  The word to compare with.
+     * @return {@code true} if the input has that word at that position, {@code false} otherwise.
+     */
+    public boolean isWord(int index, String word) {
+        return index < size && ends[index] - starts[index] == word.length()
+                && input.startsWith(word, starts[index]);
+    }
+
+    /**
+     * Returns whether a word starts with the given prefix, including its case.
+     *
+     * @param index  The position of the word, starting from 0 for the command name.
+     * @param prefix The prefix.
+     * @return {@code true} if the input has a word at that position which starts with the prefix,
+     *         {@code false} otherwise.
+     */
+    public boolean startsWith(int index, String prefix) {
+        return index < size && ends[index] - starts[index] >= prefix.length()
+                && input.startsWith(prefix, starts[index]);
+    }
+
+    /**
+     * Parses a word, after skipping some of its first characters, as a decimal integer.
+     *
+     * @param index The position of the word, starting from 0 for the command name.
+     * @param skip  The number of characters to skip, such as 1 for the "#" of a task ID.
+     * @return The integer.
+     * @throws NumberFormatException     If the rest of the word is not an integer.
+     * @throws IndexOutOfBoundsException If the input has no word at that position.
+     */
+    public int parseInt(int index, int skip) {
+        return Integer.parseInt(input, Math.min(getStart(index) + skip, ends[index]), ends[index], 10);
+    }
+}
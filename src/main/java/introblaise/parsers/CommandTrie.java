@@ -0,0 +1,88 @@
+package introblaise.parsers;
+
+import java.util.Arrays;
+
+/**
+ * Maps command names to values, and finds the value of a name written anywhere in a string, ignoring case.
+ * <p>
+ * Names are stored in lower case, one character per level of the trie, so finding a name only compares each
+ * of its characters once and creates no strings. Each node only has as many children as there are different
+ * next characters among the names, which is a handful for the commands of IntroBlaise.
+ *
+ * @param <V> The type of the values.
+ */
+class CommandTrie<V> {
+    private final Node<V> root;
+
+    /**
+     * Represents a prefix of one or more names, and the value of the name that is exactly this prefix.
+     */
+    private static final class Node<V> {
+        private char[] keys = new char[0];
+        private Node<V>[] children = newNodes(0);
+        private V value;
+
+        private Node<V> getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node<V> addChild(char key) {
+            Node<V> child = getChild(key);
+            if (child == null) {
+                child = new Node<>();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] newNodes(int length) {
+            return (Node<V>[]) new Node<?>[length];
+        }
+    }
+
+    /**
+     * Constructs an empty {@code CommandTrie}.
+     */
+    CommandTrie() {
+        this.root = new Node<>();
+    }
+
+    /**
+     * Adds a name and its value, replacing any value the name already had.
+     *
+     * @param name  The name, which is stored in lower case.
+     * @param value The value of the name.
+     */
+    void put(String name, V value) {
+        Node<V> node = root;
+        for (int i = 0; i < name.length(); i++) {
+            node = node.addChild(Character.toLowerCase(name.charAt(i)));
+        }
+        node.value = value;
+    }
+
+    /**
+     * Finds the value of the name that is written in part of a string, ignoring case.
+     *
+     * @param text  The string containing the name.
+     * @param start The offset at which the name starts.
+     * @param end   The offset just after the name ends.
+     * @return The value of the name, or {@code null} if it is not a name in the trie.
+     */
+    V get(String text, int start, int end) {
+        Node<V> node = root;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.getChild(Character.toLowerCase(text.charAt(i)));
+        }
+        return node == null ? null : node.value;
+    }
+}
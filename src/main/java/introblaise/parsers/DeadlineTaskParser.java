@@ -20,7 +20,7 @@ public class DeadlineTaskParser implements TaskParser {
      * <p>
      * Example: {@code deadline Finish project /by 2024-03-15 23:59}
      *
-     * @param userInput The user input string.
+     * @param tokens The words of the user input.
      * @return A {@link Deadline} task object created from the parsed input.
      * @throws InvalidInputException If the user input does not conform to the
      *                                 expected format, or if required information
@@ -29,9 +29,11 @@ public class DeadlineTaskParser implements TaskParser {
      *                                 or if the /by date is missing.
      */
     @Override
-    public Task parse(String userInput) throws InvalidInputException {
-        String description = parseDescription(userInput);
-        String dateTime = parseDateTime(userInput);
+    public Task parse(CommandTokens tokens) throws InvalidInputException {
+        String userInput = tokens.getInput();
+        int separator = userInput.indexOf('/', tokens.getArgumentsStart());
+        String description = parseDescription(tokens, separator);
+        String dateTime = parseDateTime(userInput, separator);
 
         return new Deadline(description, dateTime);
     }
@@ -40,13 +42,14 @@ public class DeadlineTaskParser implements TaskParser {
      * Parses the task description from the user input.
      * The description is extracted from the substring after "deadline" and before "/by".
      *
-     * @param userInput The user input string.
+     * @param tokens    The words of the user input.
+     * @param separator The offset of the "/" of "/by" in the input, or -1 if there is none.
      * @return The task description.
      * @throws InvalidInputException If the description is empty or not found in the correct location.
      */
-    private String parseDescription(String userInput) throws InvalidInputException {
+    private String parseDescription(CommandTokens tokens, int separator) throws InvalidInputException {
         try {
-            String description = userInput.substring(8, userInput.indexOf("/")).trim();
+            String description = tokens.getInput().substring(tokens.getArgumentsStart(), separator).trim();
             assert (!description.isEmpty()) : "The description should not be empty."
                     + "It should be in the format: deadline [DESCRIPTION] /by [dd-mm-yyyy] [HHmm]";
 
@@ -66,13 +69,13 @@ public class DeadlineTaskParser implements TaskParser {
      * The date and time are extracted from the substring after "/by".
      *
      * @param userInput The user input string.
+     * @param separator The offset of the "/" of "/by" in the input.
      * @return The deadline date and time string.
      * @throws InvalidInputException If the deadline date and time are missing or empty.
      */
-    private String parseDateTime(String userInput) throws InvalidInputException {
+    private String parseDateTime(String userInput, int separator) throws InvalidInputException {
         try {
-            int separator = userInput.indexOf("/") + 4;
-            String dateTime = userInput.substring(separator).trim();
+            String dateTime = userInput.substring(separator + "/by".length()).trim();
             if (dateTime.isEmpty()) {
                 throw new InvalidInputException("There seems to be no deadline entered...? "
                         + "Please enter a deadline after the word /by."
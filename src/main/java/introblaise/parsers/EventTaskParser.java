@@ -21,7 +21,7 @@ public class EventTaskParser implements TaskParser {
      * <p>
      * Example: {@code event Meeting with John /from 2024-03-15 1000 /to 2024-03-15 1200}
      *
-     * @param userInput The user input string.
+     * @param tokens The words of the user input.
      * @return An {@link Event} task object created from the parsed input.
      * @throws InvalidInputException If the user input does not conform to the
      *                                 expected format, or if required information
@@ -32,10 +32,13 @@ public class EventTaskParser implements TaskParser {
      *                                 or if they are empty.
      */
     @Override
-    public Task parse(String userInput) throws InvalidInputException {
-        String description = parseDescription(userInput);
-        String from = parseFromDateTime(userInput);
-        String to = parseToDateTime(userInput);
+    public Task parse(CommandTokens tokens) throws InvalidInputException {
+        String userInput = tokens.getInput();
+        int fromSeparator = userInput.indexOf('/', tokens.getArgumentsStart());
+        int toSeparator = fromSeparator < 0 ? -1 : userInput.indexOf('/', fromSeparator + 1);
+        String description = parseDescription(tokens, fromSeparator);
+        String from = parseFromDateTime(userInput, fromSeparator, toSeparator);
+        String to = parseToDateTime(userInput, toSeparator);
 
         return new Event(description, from, to);
     }
@@ -44,12 +47,13 @@ public class EventTaskParser implements TaskParser {
      * Parses the task description from the user input.
      * The description is extracted from the substring after "event" and before "/from".
      *
-     * @param userInput The user input string.
+     * @param tokens        The words of the user input.
+     * @param fromSeparator The offset of the "/" of "/from" in the input, or -1 if there is none.
      * @return The task description.
      * @throws InvalidInputException If the description is empty or not found in the correct location.
      */
-    private String parseDescription(String userInput) throws InvalidInputException {
-        String description = userInput.substring(5, userInput.indexOf("/")).trim();
+    private String parseDescription(CommandTokens tokens, int fromSeparator) throws InvalidInputException {
+        String description = tokens.getInput().substring(tokens.getArgumentsStart(), fromSeparator).trim();
         assert (!description.isEmpty()) : "The description should not be empty.";
         if (description.isEmpty()) {
             throw new InvalidInputException("Please enter a description for your task!");
@@ -61,17 +65,20 @@ public class EventTaskParser implements TaskParser {
      * Parses the 'from' date and time from the user input.
      * The date and time are extracted from the substring after "/from".
      *
-     * @param userInput The user input string.
+     * @param userInput     The user input string.
+     * @param fromSeparator The offset of the "/" of "/from" in the input.
+     * @param toSeparator   The offset of the "/" of "/to" in the input, or -1 if there is none.
      * @return The 'from' date and time string.
      * @throws InvalidInputException If the '/from' date and time are missing or empty.
      */
-    private String parseFromDateTime(String userInput) throws InvalidInputException {
+    private String parseFromDateTime(String userInput, int fromSeparator, int toSeparator)
+            throws InvalidInputException {
         if (!userInput.contains("/from")) {
             throw new InvalidInputException("Please include a 'From' date and time by using /from! "
                     + "The date and time should be in the format: dd-mm-yyyy HHmm!");
         }
-        String[] parts = userInput.split("/", 3);
-        String from = parts[1].substring(4).trim();
+        int fromEnd = toSeparator < 0 ? userInput.length() : toSeparator;
+        String from = userInput.substring(fromSeparator + "/from".length(), fromEnd).trim();
         if (from.isEmpty()) {
             throw new InvalidInputException("Please include a 'From' date after the word /from! "
                     + "The date and time should be in the format: dd-mm-yyyy HHmm!");
@@ -91,16 +98,16 @@ public class EventTaskParser implements TaskParser {
      * Parses the 'to' date and time from the user input.
      * The date and time are extracted from the substring after "/to".
      *
-     * @param userInput The user input string.
+     * @param userInput   The user input string.
+     * @param toSeparator The offset of the "/" of "/to" in the input.
      * @return The 'to' date and time string.
      * @throws InvalidInputException If the '/to' date and time are missing or empty.
      */
-    private String parseToDateTime(String userInput) throws InvalidInputException {
+    private String parseToDateTime(String userInput, int toSeparator) throws InvalidInputException {
         if (!userInput.contains("/to")) {
             throw new InvalidInputException("Please include a 'To' date and time by using /to!");
         }
-        String[] parts = userInput.split("/", 3);
-        String to = parts[2].substring(2).trim();
+        String to = userInput.substring(toSeparator + "/to".length()).trim();
         if (to.isEmpty()) {
             throw new InvalidInputException("Please include a 'To' date and time after the word /to!");
         }
@@ -1,5 +1,8 @@
 package introblaise.parsers;
 
+import java.util.List;
+import java.util.regex.Pattern;
+
 import introblaise.task.Task;
 import introblaise.tasktype.Deadline;
 import introblaise.tasktype.Event;
@@ -10,8 +13,14 @@ import introblaise.tasktype.ToDo;
  * {@link Task} objects to their string representations for storage and vice-versa.
  * It handles the specific format used for saving tasks to a file and loading them
  * back into the application.
+ * <p>
+ * The ID of a task is stored after its type, e.g. {@code T#12 | 0 | read book | 0 | }. Task files written
+ * before tasks had IDs are still read, and their tasks are given IDs by {@link #assignMissingIds(List)}.
  */
 public class StorageTaskParser {
+    // Compiled once, since String.split compiles its pattern again on every call for multi-character separators
+    private static final Pattern FIELD_SEPARATOR = Pattern.compile(" \\| ");
+    private static final Pattern EVENT_SEPARATOR = Pattern.compile(" to ");
 
     /**
      * Converts a {@link Task} object to its string representation for storage.
@@ -23,6 +32,7 @@ public class StorageTaskParser {
      * @return The string representation of the task.
      */
     public static String taskToString(Task task) {
+        String idSuffix = task.getId() > 0 ? "#" + task.getId() : "";
         boolean isDone = task.getIsDone();
         boolean isTagged = task.getIsTagged();
         String isDoneStr = getBooleanAsString(isDone);
@@ -30,7 +40,7 @@ public class StorageTaskParser {
         String taskDescription = task.getDescription();
         String tagLabel = task.getTag();
 
-        String base = getTaskBaseString(task, taskDescription, isDoneStr, isTaggedStr, tagLabel);
+        String base = getTaskBaseString(task, idSuffix, taskDescription, isDoneStr, isTaggedStr, tagLabel);
 
         return base;
     }
@@ -50,38 +60,40 @@ public class StorageTaskParser {
      * This string includes the task type, completion status, and description.
      *
      * @param task        The {@link Task} object.
+     * @param idSuffix    The ID of the task with a leading "#", or an empty string if it has no ID.
      * @param description The task description.
      * @param isDoneStr   The string representation of the completion status ("1" or "0").
      * @return The base string representation of the task.
      */
-    private static String getTaskBaseString(Task task, String description, String isDoneStr, String isTaggedStr,
-                                            String taglabel) {
+    private static String getTaskBaseString(Task task, String idSuffix, String description, String isDoneStr,
+                                            String isTaggedStr, String taglabel) {
         if (task instanceof ToDo) {
-            return buildToDoSring(description, isDoneStr, isTaggedStr, taglabel);
+            return "T" + idSuffix + buildToDoSring(description, isDoneStr, isTaggedStr, taglabel);
         } else if (task instanceof Deadline) {
             Deadline deadlineTask = (Deadline) task;
-            return buildDeadlineString(description, isDoneStr, deadlineTask.getDateTimeStr(), isTaggedStr, taglabel);
+            return "D" + idSuffix + buildDeadlineString(description, isDoneStr, deadlineTask.getDateTimeStr(),
+                    isTaggedStr, taglabel);
         } else if (task instanceof Event) {
             Event eventTask = (Event) task;
-            return buildEventString(description, isDoneStr, eventTask.getFrom(), eventTask.getTo(),
+            return "E" + idSuffix + buildEventString(description, isDoneStr, eventTask.getFrom(), eventTask.getTo(),
                     isTaggedStr, taglabel);
         }
         return null;
     }
 
     /**
-     * Builds the string representation of a {@link ToDo} task.
+     * Builds the string representation of a {@link ToDo} task, after its type.
      *
      * @param description The task description.
      * @param isDoneStr   The string representation of the completion status.
      * @return The string representation of the ToDo task.
      */
     private static String buildToDoSring(String description, String isDoneStr, String isTaggedStr, String tagLabel) {
-        return String.format("T | %s | %s | %s | %s", isDoneStr, description, isTaggedStr, tagLabel);
+        return " | " + isDoneStr + " | " + description + " | " + isTaggedStr + " | " + tagLabel;
     }
 
     /**
-     * Builds the string representation of a {@link Deadline} task.
+     * Builds the string representation of a {@link Deadline} task, after its type.
      *
      * @param description The task description.
      * @param isDoneStr   The string representation of the completion status.
@@ -90,11 +102,12 @@ public class StorageTaskParser {
      */
     private static String buildDeadlineString(String description, String isDoneStr, String dateTimeStr,
                                               String isTaggedStr, String tagLabel) {
-        return String.format("D | %s | %s | %s | %s | %s", isDoneStr, description, dateTimeStr, isTaggedStr, tagLabel);
+        return " | " + isDoneStr + " | " + description + " | " + dateTimeStr + " | " + isTaggedStr + " | "
+                + tagLabel;
     }
 
     /**
-     * Builds the string representation of an {@link Event} task.
+     * Builds the string representation of an {@link Event} task, after its type.
      *
      * @param description The task description.
      * @param isDoneStr   The string representation of the completion status.
@@ -104,8 +117,8 @@ public class StorageTaskParser {
      */
     private static String buildEventString(String description, String isDoneStr, String fromStr, String toStr,
                                            String isTaggedStr, String tagLabel) {
-        return String.format("E | %s | %s | %s to %s | %s | %s", isDoneStr, description, fromStr, toStr, isTaggedStr,
-                tagLabel);
+        return " | " + isDoneStr + " | " + description + " | " + fromStr + " to " + toStr + " | " + isTaggedStr
+                + " | " + tagLabel;
     }
 
     /**
@@ -119,7 +132,7 @@ public class StorageTaskParser {
      */
     public static Task stringToTask(String line) {
         try {
-            String[] parts = line.split(" \\| ");
+            String[] parts = FIELD_SEPARATOR.split(line);
             if (parts.length < 3) { // Adjust length check
                 System.out.println("There is currently no tasks to be done.");
                 return null;
@@ -147,20 +160,49 @@ public class StorageTaskParser {
     private static Task createTaskFromParts(String[] parts) {
         String taskType = parts[0].trim();
         String taskDescription = parts[2].trim();
+        int idIndex = taskType.indexOf('#');
+        int id = idIndex < 0 ? 0 : Integer.parseInt(taskType.substring(idIndex + 1));
+        if (idIndex >= 0) {
+            taskType = taskType.substring(0, idIndex);
+        }
 
+        Task task;
         switch (taskType) {
         case "T":
-            return new ToDo(taskDescription);
+            task = new ToDo(taskDescription);
+            break;
         case "D":
             String deadlineDate = parts[3].trim();
-            return new Deadline(taskDescription, deadlineDate);
+            task = new Deadline(taskDescription, deadlineDate);
+            break;
         case "E":
             String eventDate = parts[3].trim();
-            String[] eventDetails = eventDate.split(" to ");
-            return new Event(taskDescription, eventDetails[0], eventDetails[1]);
+            String[] eventDetails = EVENT_SEPARATOR.split(eventDate);
+            task = new Event(taskDescription, eventDetails[0], eventDetails[1]);
+            break;
         default:
             return null;
         }
+        task.setId(id);
+        return task;
+    }
+
+    /**
+     * Gives an ID to every task that does not have one yet, such as tasks read from a file written before
+     * tasks had IDs. The IDs follow the largest existing ID, in the order of the tasks.
+     *
+     * @param tasks The tasks, in the order they are stored.
+     */
+    public static void assignMissingIds(List<Task> tasks) {
+        int maxId = 0;
+        for (Task task : tasks) {
+            maxId = Math.max(maxId, task.getId());
+        }
+        for (Task task : tasks) {
+            if (task.getId() == 0) {
+                task.setId(++maxId);
+            }
+        }
     }
 
     /**
@@ -20,9 +20,9 @@ public interface TaskParser {
      * is invalid or cannot be parsed. The exception message should provide specific
      * details about the error, such as missing arguments or incorrect formatting.
      *
-     * @param userInput The user input string representing the task.
+     * @param tokens The words of the user input representing the task.
      * @return A {@link Task} object created from the parsed input.
      * @throws InvalidInputException If the user input is invalid or cannot be parsed.
      */
-    Task parse(String userInput) throws InvalidInputException;
+    Task parse(CommandTokens tokens) throws InvalidInputException;
 }
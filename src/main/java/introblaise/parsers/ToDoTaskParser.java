@@ -17,27 +17,27 @@ public class ToDoTaskParser implements TaskParser {
      * <p>
      * Example: {@code todo Buy groceries}
      *
-     * @param userInput The user input string.
+     * @param tokens The words of the user input.
      * @return A {@link ToDo} task object created from the parsed input.
      * @throws InvalidInputException If the user input does not conform to the
      *                                 expected format, or if the description
      *                                 is missing or empty.
      */
     @Override
-    public Task parse(String userInput) throws InvalidInputException {
-        String description = parseDescription(userInput);
+    public Task parse(CommandTokens tokens) throws InvalidInputException {
+        String description = parseDescription(tokens);
         return new ToDo(description);
     }
     /**
      * Parses the task description from the user input.
-     * The description is extracted from the substring after "todo".
+     * The description is the rest of the input after "todo".
      *
-     * @param userInput The user input string.
+     * @param tokens The words of the user input.
      * @return The task description.
      * @throws InvalidInputException If the description is empty or not found.
      */
-    private String parseDescription(String userInput) throws InvalidInputException {
-        String description = userInput.substring(5).trim();
+    private String parseDescription(CommandTokens tokens) throws InvalidInputException {
+        String description = tokens.getRest(1);
         assert (!description.isEmpty()) : "The description should not be empty.";
         if (description.isEmpty()) {
             throw new InvalidInputException("Please enter a description for your todo task!"
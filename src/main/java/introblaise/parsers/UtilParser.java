@@ -3,9 +3,14 @@ package introblaise.parsers;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 import introblaise.exceptions.EmptyLabelException;
 import introblaise.exceptions.InvalidInputException;
+import introblaise.task.KeywordIndex;
+import introblaise.task.Task;
+import introblaise.task.TaskList;
 
 /**
  * The {@code UtilParser} class provides utility methods for parsing various
@@ -14,20 +19,26 @@ import introblaise.exceptions.InvalidInputException;
  * and validate specific parts of the user's input.
  */
 public class UtilParser {
+    // Formatters are immutable and thread-safe, so they are created once instead of on every conversion
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d-MM-yyyy");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("d-MM-yyyy HHmm");
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy HHmm");
+    private static final DateTimeFormatter STORAGE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HHmm");
+    private static final String AND_OPERATOR = "AND";
+    private static final String OR_OPERATOR = "OR";
+
     /**
      * Parses the task number from the user input. The task number is expected to be
      * the second word in the input string.
      *
-     * @param userInput The user input string.
+     * @param tokens The words of the user input.
      * @return The task number (index-based, starting from 0).
      * @throws NumberFormatException If the task number cannot be parsed as an integer.
      * @throws IndexOutOfBoundsException If the user input does not contain a task number.
      */
-    public static int parseTaskNumber(String userInput) throws InvalidInputException {
+    public static int parseTaskNumber(CommandTokens tokens) throws InvalidInputException {
         try {
-            String[] parts = userInput.split(" ");
-            String tasNoStr = parts[1];
-            int taskNo = Integer.parseInt(tasNoStr) - 1;
+            int taskNo = tokens.parseInt(1, 0) - 1;
             return taskNo;
         } catch (NumberFormatException | IndexOutOfBoundsException e) {
             throw new InvalidInputException("Please enter the correct task number. "
@@ -35,26 +46,135 @@ public class UtilParser {
         }
     }
 
+    /**
+     * Parses the task referred to by the user input, either by its task number, e.g. "mark 3",
+     * or by its ID, e.g. "mark #12". A task ID stays the same when other tasks are added or deleted.
+     * Commands change the task through its ID, so that a task deleted in the meantime is not mistaken for the
+     * task that took its place.
+     *
+     * @param tokens   The words of the user input.
+     * @param taskList The task list that the task is looked up in.
+     * @return The task.
+     * @throws InvalidInputException If the task number or ID cannot be parsed, or there is no task with the ID.
+     * @throws IndexOutOfBoundsException If there is no task with the task number.
+     */
+    public static Task parseTask(CommandTokens tokens, TaskList taskList) throws InvalidInputException {
+        if (!tokens.startsWith(1, "#")) {
+            return taskList.getTask(parseTaskNumber(tokens));
+        }
+        try {
+            int id = tokens.parseInt(1, 1);
+            Task task = taskList.getTaskById(id);
+            if (task == null) {
+                throw new InvalidInputException("There is no task with the ID #" + id + ".");
+            }
+            return task;
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Please enter the correct task ID. "
+                    + "It should be in the format: [COMMAND] #[TASKID]");
+        }
+    }
+
+    /**
+     * Parses the page number for the list command from the user input. The page number is expected to be
+     * the second word in the input string.
+     *
+     * @param tokens The words of the user input.
+     * @return The page number, starting from 1.
+     * @throws InvalidInputException If the page number is missing or is not a number.
+     */
+    public static int parsePageNumber(CommandTokens tokens) throws InvalidInputException {
+        try {
+            return tokens.parseInt(1, 0);
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new InvalidInputException("Please enter the correct page number. "
+                    + "It should be in the format: list [PAGENUMBER]");
+        }
+    }
+
+    /**
+     * Parses the tag to filter by from a list command of the format "list /tag [LABEL]".
+     *
+     * @param tokens The words of the user input.
+     * @return The tag in lower case, or {@code null} if the user input does not filter by tag.
+     *         An empty tag means every tag should be listed instead.
+     */
+    public static String parseListTag(CommandTokens tokens) {
+        if (!tokens.startsWith(1, "/tag")) {
+            return null;
+        }
+        return tokens.getInput().substring(tokens.getStart(1) + "/tag".length()).trim().toLowerCase();
+    }
+
     /**
      * Parses the keyword for the find command from the user input.
-     * The keyword is expected to be the substring after "find".
+     * The keyword is expected to be the rest of the input after "find".
      *
-     * @param userInput The user input string.
+     * @param tokens The words of the user input.
      * @return The keyword to search for.
      * @throws InvalidInputException If no keyword is provided after "find".
      */
-    public static String parseFindKeyword(String userInput) throws InvalidInputException {
-        try {
-            String keyword = userInput.substring(5).trim();
-            if (keyword.isEmpty()) {
-                throw new InvalidInputException("Please provide a keyword to search."
-                        + " It should be in the format: find [KEYWORD]");
-            }
-            return keyword;
-        } catch (StringIndexOutOfBoundsException e) {
+    public static String parseFindKeyword(CommandTokens tokens) throws InvalidInputException {
+        String keyword = tokens.getRest(1);
+        if (keyword.isEmpty()) {
             throw new InvalidInputException("Please provide a keyword to search."
                     + " It should be in the format: find [KEYWORD]");
         }
+        return keyword;
+    }
+
+    /**
+     * Returns whether the keyword of a find command combines words with "AND" or "OR".
+     * The operators must be in upper case, so that the words "and" and "or" can still be searched for.
+     *
+     * @param tokens The words of the user input, whose keyword starts at the second word.
+     * @return {@code true} if the keyword contains an operator as a separate word, {@code false} otherwise.
+     */
+    public static boolean isWordQuery(CommandTokens tokens) {
+        for (int i = 1; i < tokens.size(); i++) {
+            if (tokens.isWord(i, AND_OPERATOR) || tokens.isWord(i, OR_OPERATOR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses a keyword for the find command that combines words with "AND" and "OR".
+     * "AND" binds more tightly than "OR", so "a AND b OR c" finds tasks with both a and b, or with c.
+     * Words next to each other without an operator must all be found, as with "AND".
+     *
+     * @param keyword The keyword after "find".
+     * @return The groups of words, in lower case, where a task must contain every word of any group.
+     * @throws InvalidInputException If an operator is not between two words.
+     */
+    public static List<List<String>> parseWordQuery(String keyword) throws InvalidInputException {
+        List<List<String>> query = new ArrayList<>();
+        List<String> group = new ArrayList<>();
+        boolean isExpectingWord = true;
+        for (String word : keyword.trim().split("\\s+")) {
+            if (word.equals(AND_OPERATOR) || word.equals(OR_OPERATOR)) {
+                if (isExpectingWord) {
+                    throw new InvalidInputException("Please put a keyword on both sides of AND and OR."
+                            + " It should be in the format: find [KEYWORD] AND [KEYWORD] OR [KEYWORD]");
+                }
+                if (word.equals(OR_OPERATOR)) {
+                    query.add(group);
+                    group = new ArrayList<>();
+                }
+                isExpectingWord = true;
+                continue;
+            }
+            group.addAll(KeywordIndex.tokenize(word));
+            isExpectingWord = false;
+        }
+        if (isExpectingWord) {
+            throw new InvalidInputException("Please put a keyword on both sides of AND and OR."
+                    + " It should be in the format: find [KEYWORD] AND [KEYWORD] OR [KEYWORD]");
+        }
+        query.add(group);
+        query.removeIf(List::isEmpty);
+        return query;
     }
 
     /**
@@ -89,8 +209,7 @@ public class UtilParser {
      * @return A {@link LocalDate} object representing the parsed date.
      */
     public static LocalDate convertDateString(String dateString) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d-MM-yyyy");
-        LocalDate formattedDate = LocalDate.parse(dateString, formatter);
+        LocalDate formattedDate = LocalDate.parse(dateString, DATE_FORMATTER);
         return formattedDate;
     }
 
@@ -102,11 +221,21 @@ public class UtilParser {
      * @return A {@link LocalDateTime} object representing the parsed date and time.
      */
     public static LocalDateTime convertFormattedDateTime(String dateTimeStr) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d-MM-yyyy HHmm");
-        LocalDateTime formattedDateTime = LocalDateTime.parse(dateTimeStr, formatter);
+        LocalDateTime formattedDateTime = LocalDateTime.parse(dateTimeStr, DATE_TIME_FORMATTER);
         return formattedDateTime;
     }
 
+    /**
+     * Formats a {@link LocalDateTime} object into the date and time string used by the storage file,
+     * in the format "dd-MM-yyyy HHmm". The result can be parsed back by {@link #convertFormattedDateTime(String)}.
+     *
+     * @param dateTime The {@link LocalDateTime} object to format.
+     * @return The date and time string.
+     */
+    public static String convertDateTimeToStorageString(LocalDateTime dateTime) {
+        return dateTime.format(STORAGE_FORMATTER);
+    }
+
     /**
      * Formats a {@link LocalDateTime} object into a string representation
      * using the format "MMM dd yyyy HHmm".
@@ -115,25 +244,23 @@ public class UtilParser {
      * @return The formatted date and time string.
      */
     public static String convertStringDateTimeFromFormatted(LocalDateTime formattedDateTime) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM dd yyyy HHmm");
-        return formattedDateTime.format(formatter);
+        return formattedDateTime.format(DISPLAY_FORMATTER);
     }
 
     /**
      * Parses the tag label from the user input.
      * The expected format is "tag [taskNumber] [label]".
      *
-     * @param userInput The user input string.
+     * @param tokens The words of the user input.
      * @return The tag label.
      * @throws EmptyLabelException If no label is provided.
      */
-    public static String parseTagLabel(String userInput) throws EmptyLabelException, InvalidInputException {
-        String[] parts = userInput.split(" ", 3);
-        if (parts.length != 3) {
+    public static String parseTagLabel(CommandTokens tokens) throws EmptyLabelException, InvalidInputException {
+        if (tokens.size() < 2) {
             throw new InvalidInputException("Invalid input format. It should be in the format: "
                     + "tag [TASKNUMBER] [LABEL]");
         }
-        String label = parts[2].trim();
+        String label = tokens.getRest(2);
         if (label.isEmpty()) {
             throw new EmptyLabelException("Please enter a label for your tag!"
                     + "It should be in the format: tag [TASKNUMBER] [LABEL]");
@@ -148,8 +275,6 @@ public class UtilParser {
      * @return The command name (in lowercase and trimmed).
      */
     public static String parseCommand(String userInput) {
-        String[] parts = userInput.trim().split(" ");
-        String command = parts[0].toLowerCase().trim();
-        return command;
+        return CommandTokens.tokenize(userInput).getCommand();
     }
 }
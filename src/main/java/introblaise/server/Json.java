@@ -0,0 +1,127 @@
+package introblaise.server;
+
+import java.util.List;
+
+import introblaise.task.Task;
+
+/**
+ * Writes the JSON bodies of the responses of the {@link TaskServer}.
+ * The server only ever writes a few fixed shapes of JSON, so they are built by hand instead of with a library.
+ */
+final class Json {
+    private Json() {
+    }
+
+    /**
+     * Returns a string as a JSON string literal, escaping quotes, backslashes and control characters.
+     *
+     * @param value The string to quote.
+     * @return The JSON string literal.
+     */
+    static String quote(String value) {
+        StringBuilder result = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                result.append("\\\"");
+                break;
+            case '\\':
+                result.append("\\\\");
+                break;
+            case '\n':
+                result.append("\\n");
+                break;
+            case '\r':
+                result.append("\\r");
+                break;
+            case '\t':
+                result.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    result.append(String.format("\\u%04x", (int) c));
+                } else {
+                    result.append(c);
+                }
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    /**
+     * Returns the response of a command as a JSON object.
+     *
+     * @param response The response of the command.
+     * @return The JSON object, with the response under "response".
+     */
+    static String response(String response) {
+        return "{\"response\":" + quote(response) + "}";
+    }
+
+    /**
+     * Returns an error as a JSON object.
+     *
+     * @param message The error message.
+     * @return The JSON object, with the message under "error".
+     */
+    static String error(String message) {
+        return "{\"error\":" + quote(message) + "}";
+    }
+
+    /**
+     * Returns every task of the task list as a JSON object, numbering them from 1 in the given order.
+     *
+     * @param tasks The tasks, in order.
+     * @return The JSON object, with an array of tasks under "tasks".
+     */
+    static String tasks(List<Task> tasks) {
+        StringBuilder result = new StringBuilder("{\"tasks\":[");
+        int taskNo = 1;
+        for (Task task : tasks) {
+            appendTask(result, task, taskNo++);
+        }
+        return result.append("]}").toString();
+    }
+
+    /**
+     * Returns some of the tasks of the task list as a JSON object, numbered by their positions in the task list,
+     * so that the numbers can be used to change the tasks. Tasks that are no longer in the task list are left out.
+     *
+     * @param tasks       The tasks, in order.
+     * @param taskIndexes The index of each task in the task list, or -1 if it is no longer in the task list.
+     * @return The JSON object, with an array of tasks under "tasks".
+     */
+    static String tasks(List<Task> tasks, int[] taskIndexes) {
+        StringBuilder result = new StringBuilder("{\"tasks\":[");
+        int i = 0;
+        for (Task task : tasks) {
+            if (taskIndexes[i] >= 0) {
+                appendTask(result, task, taskIndexes[i] + 1);
+            }
+            i++;
+        }
+        return result.append("]}").toString();
+    }
+
+    /**
+     * Appends a task to a JSON array of tasks.
+     *
+     * @param result The JSON array, not yet closed.
+     * @param task   The task to append.
+     * @param taskNo The number of the task in the task list, starting from 1.
+     */
+    private static void appendTask(StringBuilder result, Task task, int taskNo) {
+        if (result.charAt(result.length() - 1) != '[') {
+            result.append(',');
+        }
+        result.append("{\"no\":").append(taskNo)
+                .append(",\"id\":").append(task.getId())
+                .append(",\"type\":").append(quote(task.getClass().getSimpleName().toLowerCase()))
+                .append(",\"description\":").append(quote(task.getDescription()))
+                .append(",\"done\":").append(task.getIsDone())
+                .append(",\"tag\":").append(task.getIsTagged() ? quote(task.getTag()) : "null")
+                .append(",\"text\":").append(quote(task.toString()))
+                .append('}');
+    }
+}
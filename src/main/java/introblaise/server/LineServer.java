@@ -0,0 +1,367 @@
+package introblaise.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import introblaise.ui.IntroBlaise;
+
+/**
+ * Serves the task list over a plain TCP line protocol on the loopback interface, for scripts and light
+ * integrations.
+ * <p>
+ * Clients send the same commands as the GUI, one per line, and may send many commands without waiting for
+ * their responses. Each response is sent in the order of its command, as its lines followed by an empty line,
+ * with any empty lines inside the response left out. Sending "bye" closes the connection once every earlier
+ * command has been answered.
+ * <p>
+ * A single selector thread accepts connections and reads and writes all of them without blocking, so idle
+ * connections only cost their buffers. Commands are executed one at a time by a single command thread,
+ * which keeps the responses of each connection in order and makes that thread the only writer of the task list.
+ * A connection with too many commands waiting is not read from until some of them are answered.
+ */
+public class LineServer {
+    public static final int DEFAULT_PORT = 8081;
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final int MAX_PIPELINED_COMMANDS = 256;
+
+    private final IntroBlaise introBlaise;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService commandExecutor;
+    private final Queue<Runnable> selectorTasks;
+    private final Thread selectorThread;
+    private volatile boolean isRunning;
+
+    /**
+     * Represents the state of one client connection, which is only used by the selector thread.
+     */
+    private static final class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final Deque<ByteBuffer> output;
+        private ByteBuffer input;
+        private int pendingCommandCount;
+        private boolean isClosing;
+
+        private Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+            this.output = new ArrayDeque<>();
+            this.input = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        }
+    }
+
+    /**
+     * Constructs a {@code LineServer} on the given port of the loopback interface, without starting it.
+     *
+     * @param introBlaise The bot that executes the commands.
+     * @param port        The port to listen on, or 0 for any free port.
+     * @throws IOException If the server cannot be bound to the port.
+     */
+    public LineServer(IntroBlaise introBlaise, int port) throws IOException {
+        this.introBlaise = introBlaise;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "introblaise-line-commands");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.selectorTasks = new ConcurrentLinkedQueue<>();
+        this.selectorThread = new Thread(this::runSelector, "introblaise-line-selector");
+        selectorThread.setDaemon(true);
+    }
+
+    /**
+     * Starts accepting connections.
+     */
+    public void start() {
+        isRunning = true;
+        selectorThread.start();
+    }
+
+    /**
+     * Closes every connection and stops the server, letting commands already started finish.
+     */
+    public void stop() {
+        isRunning = false;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+            commandExecutor.shutdown();
+            commandExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Runs the selector loop until the server is stopped.
+     */
+    private void runSelector() {
+        while (isRunning) {
+            try {
+                selector.select();
+                Runnable task;
+                while ((task = selectorTasks.poll()) != null) {
+                    task.run();
+                }
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    handleKey(key);
+                }
+            } catch (IOException e) {
+                System.out.println("Error in line server: " + e.getMessage());
+            }
+        }
+        closeAll();
+    }
+
+    /**
+     * Accepts, reads from or writes to the channel of a selected key.
+     * A connection that fails is closed without affecting the others.
+     *
+     * @param key The selected key.
+     * @throws IOException If a connection cannot be accepted.
+     */
+    private void handleKey(SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                read(connection);
+            }
+            if (key.isValid() && key.isWritable()) {
+                write(connection);
+            }
+        } catch (IOException e) {
+            close(connection);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    /**
+     * Reads what a client has sent and submits every complete line as a command.
+     * Incomplete lines are kept until the rest arrives. When the client stops sending, its last line is
+     * submitted even without a line break, and the connection is closed once every command has been answered.
+     *
+     * @param connection The connection to read from.
+     * @throws IOException If the connection fails.
+     */
+    private void read(Connection connection) throws IOException {
+        ByteBuffer input = connection.input;
+        boolean isEndOfInput = connection.channel.read(input) < 0;
+        input.flip();
+        int lineStart = input.position();
+        for (int i = lineStart; i < input.limit() && !connection.isClosing; i++) {
+            if (input.get(i) == '\n') {
+                handleLine(connection, decodeLine(input, lineStart, i));
+                lineStart = i + 1;
+            }
+        }
+        if (isEndOfInput) {
+            if (!connection.isClosing) {
+                handleLine(connection, decodeLine(input, lineStart, input.limit()));
+            }
+            connection.isClosing = true;
+            lineStart = input.limit();
+        }
+        input.position(lineStart);
+        input.compact();
+        if (!input.hasRemaining()) {
+            if (input.capacity() >= MAX_LINE_LENGTH) {
+                connection.output.add(frame("Oops! That command is too long."));
+                connection.isClosing = true;
+            } else {
+                input.flip();
+                connection.input = ByteBuffer.allocate(input.capacity() * 2).put(input);
+            }
+        }
+        updateInterest(connection);
+    }
+
+    private static String decodeLine(ByteBuffer input, int fromIndex, int toIndex) {
+        return new String(input.array(), fromIndex, toIndex - fromIndex, StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Submits a command to the command thread, which hands its response back to the selector thread.
+     *
+     * @param connection The connection that sent the command.
+     * @param line       The command.
+     */
+    private void handleLine(Connection connection, String line) {
+        if (line.isEmpty()) {
+            return;
+        }
+        if (line.equalsIgnoreCase("bye")) {
+            connection.isClosing = true;
+            return;
+        }
+        connection.pendingCommandCount++;
+        commandExecutor.execute(() -> {
+            ByteBuffer response = frame(introBlaise.getResponse(line));
+            runOnSelector(() -> sendResponse(connection, response));
+        });
+    }
+
+    private void sendResponse(Connection connection, ByteBuffer response) {
+        connection.pendingCommandCount--;
+        if (!connection.channel.isOpen()) {
+            return;
+        }
+        connection.output.add(response);
+        try {
+            write(connection);
+        } catch (IOException e) {
+            close(connection);
+        }
+    }
+
+    /**
+     * Writes as much of the pending responses as the connection accepts without blocking.
+     *
+     * @param connection The connection to write to.
+     * @throws IOException If the connection fails.
+     */
+    private void write(Connection connection) throws IOException {
+        while (!connection.output.isEmpty()) {
+            ByteBuffer response = connection.output.peek();
+            connection.channel.write(response);
+            if (response.hasRemaining()) {
+                break;
+            }
+            connection.output.poll();
+        }
+        updateInterest(connection);
+    }
+
+    /**
+     * Reads from a connection only while it is not closing and has room for more commands, and writes to it only
+     * while it has pending responses. A closing connection is closed once everything has been sent.
+     *
+     * @param connection The connection to update.
+     */
+    private void updateInterest(Connection connection) {
+        if (!connection.key.isValid()) {
+            return;
+        }
+        boolean hasOutput = !connection.output.isEmpty();
+        if (connection.isClosing && connection.pendingCommandCount == 0 && !hasOutput) {
+            close(connection);
+            return;
+        }
+        int interestOps = 0;
+        if (!connection.isClosing && connection.pendingCommandCount < MAX_PIPELINED_COMMANDS) {
+            interestOps |= SelectionKey.OP_READ;
+        }
+        if (hasOutput) {
+            interestOps |= SelectionKey.OP_WRITE;
+        }
+        connection.key.interestOps(interestOps);
+    }
+
+    private void runOnSelector(Runnable task) {
+        selectorTasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Encodes a response as its non-empty lines followed by an empty line.
+     *
+     * @param response The response of a command.
+     * @return The encoded response, ready to be written.
+     */
+    private static ByteBuffer frame(String response) {
+        StringBuilder result = new StringBuilder(response.length() + 2);
+        for (String line : response.split("\r?\n")) {
+            if (!line.isBlank()) {
+                result.append(line).append('\n');
+            }
+        }
+        result.append('\n');
+        return ByteBuffer.wrap(result.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void close(Connection connection) {
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            // The connection is being dropped anyway
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection) {
+                close((Connection) key.attachment());
+            }
+        }
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException e) {
+            System.out.println("Error closing line server: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Serves the task list in the default "data" directory until the process is stopped.
+     *
+     * @param args The port to listen on, if given.
+     * @throws IOException If the server cannot be bound to the port.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        IntroBlaise introBlaise = new IntroBlaise();
+        LineServer lineServer = new LineServer(introBlaise, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            lineServer.stop();
+            introBlaise.shutdown();
+        }));
+        lineServer.start();
+        System.out.println("IntroBlaise is accepting commands on localhost:" + lineServer.getPort());
+    }
+}
@@ -0,0 +1,258 @@
+package introblaise.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import introblaise.task.Task;
+import introblaise.task.TaskList;
+import introblaise.ui.IntroBlaise;
+
+/**
+ * Serves the task list over HTTP on the loopback interface, so that other local tools can use it without the GUI.
+ * <p>
+ * Every endpoint answers with JSON. Changes go through the same commands as the GUI, so they are validated,
+ * persisted and answered the same way, and their text responses are returned under "response":
+ * <ul>
+ *     <li>{@code GET /tasks} - Lists every task, optionally only those containing {@code ?find=KEYWORD}.
+ *     Each task is numbered by its position in the whole task list, as N in the requests below.</li>
+ *     <li>{@code GET /tasks?on=DATE} - Runs {@code tasks on DATE}.</li>
+ *     <li>{@code POST /tasks/todo}, {@code /tasks/deadline}, {@code /tasks/event} - Adds a task, with the rest
+ *     of the command, such as {@code return book /by 2-03-2025 1800}, as the request body.</li>
+ *     <li>{@code POST /tasks/N/mark}, {@code POST /tasks/N/unmark}, {@code DELETE /tasks/N} - Changes task N.</li>
+ *     <li>{@code POST /commands} - Runs any command given as the request body.</li>
+ *     <li>{@code GET /metrics} - Returns the metrics of every command, as from {@code stats json}.</li>
+ * </ul>
+ * Each request runs on its own virtual thread when the JDK supports them, and on a cached thread pool otherwise.
+ * Requests share one {@link TaskList}, which allows concurrent reads.
+ */
+public class TaskServer {
+    public static final int DEFAULT_PORT = 8080;
+
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+    private final IntroBlaise introBlaise;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a {@code TaskServer} on the given port of the loopback interface, without starting it.
+     *
+     * @param introBlaise The bot whose task list is served.
+     * @param port        The port to listen on, or 0 for any free port.
+     * @throws IOException If the server cannot be bound to the port.
+     */
+    public TaskServer(IntroBlaise introBlaise, int port) throws IOException {
+        this.introBlaise = introBlaise;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = newPerRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/tasks", this::handleTasks);
+        server.createContext("/commands", this::handleCommands);
+        server.createContext("/metrics", this::handleMetrics);
+    }
+
+    /**
+     * Returns an executor that runs every request on a new virtual thread, or on a cached thread pool on JDKs
+     * without virtual threads. The virtual thread executor is looked up by reflection, so that the server
+     * still compiles and runs on older JDKs.
+     *
+     * @return The executor for requests.
+     */
+    private static ExecutorService newPerRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "introblaise-server");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests, waits briefly for requests in progress and stops their threads.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Handles requests to list, find, add and change tasks.
+     *
+     * @param exchange The request and its response.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handleTasks(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String[] segments = exchange.getRequestURI().getPath().replaceAll("^/+|/+$", "").split("/+");
+            if (segments.length == 1) {
+                if (!method.equals("GET")) {
+                    sendMethodNotAllowed(exchange);
+                    return;
+                }
+                handleListTasks(exchange);
+            } else if (segments.length == 2 && segments[1].matches("todo|deadline|event")) {
+                if (!method.equals("POST")) {
+                    sendMethodNotAllowed(exchange);
+                    return;
+                }
+                sendCommand(exchange, segments[1] + " " + readBody(exchange));
+            } else if (segments.length == 2) {
+                if (!method.equals("DELETE")) {
+                    sendMethodNotAllowed(exchange);
+                    return;
+                }
+                sendCommand(exchange, "delete " + segments[1]);
+            } else if (segments.length == 3 && segments[2].matches("mark|unmark")) {
+                if (!method.equals("POST")) {
+                    sendMethodNotAllowed(exchange);
+                    return;
+                }
+                sendCommand(exchange, segments[2] + " " + segments[1]);
+            } else {
+                send(exchange, 404, Json.error("No such endpoint: " + exchange.getRequestURI().getPath()));
+            }
+        } catch (RuntimeException e) {
+            send(exchange, 500, Json.error("Error handling request: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Lists every task, the tasks containing a keyword, or the tasks on a date.
+     *
+     * @param exchange The request and its response.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handleListTasks(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        TaskList taskList = introBlaise.getTaskList();
+        if (query.containsKey("on")) {
+            sendCommand(exchange, "tasks on " + query.get("on"));
+        } else if (query.containsKey("find")) {
+            List<Task> tasks = taskList.findTasksByKeyword(query.get("find"));
+            send(exchange, 200, Json.tasks(tasks, taskList.indexesOf(tasks)));
+        } else {
+            send(exchange, 200, Json.tasks(taskList.getTasksList()));
+        }
+    }
+
+    /**
+     * Handles requests to run any command.
+     *
+     * @param exchange The request and its response.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handleCommands(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            sendMethodNotAllowed(exchange);
+            return;
+        }
+        try {
+            sendCommand(exchange, readBody(exchange));
+        } catch (RuntimeException e) {
+            send(exchange, 500, Json.error("Error handling request: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Handles requests for the metrics of every command.
+     *
+     * @param exchange The request and its response.
+     * @throws IOException If the response cannot be sent.
+     */
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            sendMethodNotAllowed(exchange);
+            return;
+        }
+        send(exchange, 200, introBlaise.getMetrics().toJson());
+    }
+
+    private void sendCommand(HttpExchange exchange, String command) throws IOException {
+        send(exchange, 200, Json.response(introBlaise.getResponse(command.trim())));
+    }
+
+    private void sendMethodNotAllowed(HttpExchange exchange) throws IOException {
+        send(exchange, 405, Json.error("Method not allowed: " + exchange.getRequestMethod()));
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Splits a query string into its decoded parameters.
+     *
+     * @param rawQuery The query string, still encoded, or {@code null} if there is none.
+     * @return The parameters by name.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            String name = separatorIndex < 0 ? parameter : parameter.substring(0, separatorIndex);
+            String value = separatorIndex < 0 ? "" : parameter.substring(separatorIndex + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * Serves the task list in the default "data" directory until the process is stopped.
+     *
+     * @param args The port to listen on, if given.
+     * @throws IOException If the server cannot be bound to the port.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        IntroBlaise introBlaise = new IntroBlaise();
+        TaskServer taskServer = new TaskServer(introBlaise, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            taskServer.stop();
+            introBlaise.shutdown();
+        }));
+        taskServer.start();
+        System.out.println("IntroBlaise is serving tasks at http://localhost:" + taskServer.getPort() + "/tasks");
+    }
+}
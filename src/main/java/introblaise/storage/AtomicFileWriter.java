@@ -0,0 +1,78 @@
+package introblaise.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Provides utility methods for replacing a file without ever leaving it partially written.
+ * The new contents are written to a temporary file next to the target, optionally forced to the disk,
+ * and then atomically renamed over the target. A crash leaves either the old or the new file, never a mix.
+ */
+public class AtomicFileWriter {
+    /**
+     * Replaces the contents of the target file with the given bytes.
+     *
+     * @param target   The file to replace.
+     * @param contents The new contents of the file.
+     * @param isForced Whether the new contents are forced to the disk before the rename.
+     * @throws IOException If the file cannot be written or renamed.
+     */
+    public static void write(Path target, byte[] contents, boolean isForced) throws IOException {
+        Path tempPath = getTempPath(target);
+        writeBytes(tempPath, contents, isForced);
+        replace(tempPath, target);
+    }
+
+    /**
+     * Returns the temporary file used when replacing the given target.
+     *
+     * @param target The file to replace.
+     * @return The path of the temporary file.
+     */
+    public static Path getTempPath(Path target) {
+        return target.resolveSibling(target.getFileName() + ".tmp");
+    }
+
+    /**
+     * Writes the bytes to a file, truncating it first.
+     *
+     * @param path     The file to write.
+     * @param contents The contents to write.
+     * @param isForced Whether the written contents are forced to the disk before this method returns.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void writeBytes(Path path, byte[] contents, boolean isForced) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(contents);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isForced) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Atomically renames the source file over the target file.
+     * If the file system does not support atomic renames, the target is replaced non-atomically.
+     *
+     * @param source The file to rename.
+     * @param target The file to replace.
+     * @throws IOException If the file cannot be renamed.
+     */
+    public static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package introblaise.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+
+import introblaise.parsers.BinaryStorageTaskParser;
+import introblaise.task.Task;
+
+/**
+ * Lays out tasks in the task file in the compact binary format described by {@link BinaryStorageTaskParser}.
+ * Reading a binary file needs no string splitting or date parsing, which makes loading large task files faster.
+ * The file is decoded straight from a {@link MappedFileReader} mapping when possible.
+ */
+public class BinaryTaskFileFormat implements TaskFileFormat {
+    @Override
+    public byte[] encode(List<Task> tasks) {
+        return BinaryStorageTaskParser.tasksToBytes(tasks);
+    }
+
+    @Override
+    public List<Task> read(Path path) throws IOException {
+        return BinaryStorageTaskParser.bytesToTasks(MappedFileReader.read(path));
+    }
+
+    @Override
+    public int[] indexRecords(ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            return new int[0];
+        }
+        ByteBuffer records = buffer.duplicate();
+        int version = BinaryStorageTaskParser.readVersion(records);
+        int[] recordStarts = new int[BinaryStorageTaskParser.readTaskCount(records)];
+        for (int i = 0; i < recordStarts.length; i++) {
+            recordStarts[i] = records.position();
+            BinaryStorageTaskParser.skipTask(records, version);
+        }
+        return recordStarts;
+    }
+
+    @Override
+    public Task decodeRecord(ByteBuffer buffer, int start) {
+        ByteBuffer record = buffer.duplicate();
+        record.position(start);
+        return BinaryStorageTaskParser.readTask(record, BinaryStorageTaskParser.getVersion(buffer));
+    }
+}
@@ -0,0 +1,85 @@
+package introblaise.storage;
+
+/**
+ * Represents how often {@link Storage} forces written data to the disk.
+ * Forcing after every write is the most durable, but also the slowest. Forcing every N milliseconds
+ * bounds how much recent work a power loss can undo, and never forcing leaves it to the operating system.
+ */
+public class FsyncPolicy {
+    /**
+     * Represents the kinds of fsync policies.
+     */
+    public enum Mode {
+        ALWAYS,
+        INTERVAL,
+        NEVER
+    }
+
+    private final Mode mode;
+    private final long intervalMillis;
+
+    private FsyncPolicy(Mode mode, long intervalMillis) {
+        this.mode = mode;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Returns a policy that forces every write to the disk before it is considered done.
+     *
+     * @return The fsync policy.
+     */
+    public static FsyncPolicy always() {
+        return new FsyncPolicy(Mode.ALWAYS, 0);
+    }
+
+    /**
+     * Returns a policy that forces written data to the disk at most once every given number of milliseconds.
+     *
+     * @param intervalMillis The number of milliseconds between two syncs.
+     * @return The fsync policy.
+     */
+    public static FsyncPolicy everyMillis(long intervalMillis) {
+        assert intervalMillis > 0 : "The fsync interval should be positive";
+        return new FsyncPolicy(Mode.INTERVAL, intervalMillis);
+    }
+
+    /**
+     * Returns a policy that never forces written data to the disk.
+     *
+     * @return The fsync policy.
+     */
+    public static FsyncPolicy never() {
+        return new FsyncPolicy(Mode.NEVER, 0);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * Returns whether written data should be forced to the disk now.
+     *
+     * @param lastSyncMillis The time of the last sync, in milliseconds since the epoch.
+     * @param nowMillis      The current time, in milliseconds since the epoch.
+     * @return {@code true} if the data should be forced to the disk, {@code false} otherwise.
+     */
+    public boolean isSyncDue(long lastSyncMillis, long nowMillis) {
+        switch (mode) {
+        case ALWAYS:
+            return true;
+        case INTERVAL:
+            return nowMillis - lastSyncMillis >= intervalMillis;
+        default:
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return mode == Mode.INTERVAL ? "every " + intervalMillis + " ms" : mode.name().toLowerCase();
+    }
+}
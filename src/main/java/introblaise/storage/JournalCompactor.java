@@ -0,0 +1,185 @@
+package introblaise.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import introblaise.task.Task;
+
+/**
+ * Folds a sealed task journal into the task file on a background thread.
+ * <p>
+ * Compaction only works on files, never on the in-memory task list, so it can run while new changes are
+ * appended to a fresh journal. The handover between the files is crash-safe:
+ * <ol>
+ *     <li>The journal is sealed by atomically moving it to the sealed journal file.</li>
+ *     <li>The task file and the sealed journal are replayed and written to a temporary file, which is
+ *     synced to disk and atomically renamed to the snapshot file.</li>
+ *     <li>The sealed journal is deleted, then the snapshot file is atomically renamed over the task file.</li>
+ * </ol>
+ * A crash at any point leaves files that {@link #recover()} can complete the handover from, without
+ * losing or replaying a change twice. Saving the whole task list goes through the same handover,
+ * using {@link #installSnapshot(byte[])}. Snapshots are always forced to the disk before the sealed journal
+ * is deleted, whatever the {@link FsyncPolicy} of the storage is.
+ */
+public class JournalCompactor {
+    private final Path filePath;
+    private final TaskFileFormat fileFormat;
+    private final Path sealedJournalPath;
+    private final Path snapshotPath;
+    private final Path tempPath;
+    private final ExecutorService executor;
+    private Future<?> pendingCompaction;
+    private int compactionCount;
+
+    /**
+     * Constructs a {@code JournalCompactor} for the given task file.
+     *
+     * @param filePath          The task file that compacted snapshots are written to.
+     * @param fileFormat        The format of the task file.
+     * @param sealedJournalPath The file that a journal is moved to while it is being compacted.
+     */
+    public JournalCompactor(Path filePath, TaskFileFormat fileFormat, Path sealedJournalPath) {
+        this.filePath = filePath;
+        this.fileFormat = fileFormat;
+        this.sealedJournalPath = sealedJournalPath;
+        this.snapshotPath = filePath.resolveSibling(filePath.getFileName() + ".snapshot");
+        this.tempPath = AtomicFileWriter.getTempPath(filePath);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "introblaise-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Path getSealedJournalPath() {
+        return sealedJournalPath;
+    }
+
+    /**
+     * Returns the number of compactions that have completed successfully.
+     *
+     * @return The number of completed compactions.
+     */
+    public synchronized int getCompactionCount() {
+        return compactionCount;
+    }
+
+    /**
+     * Returns whether a compaction has been started and has not finished yet.
+     *
+     * @return {@code true} if a compaction is in progress, {@code false} otherwise.
+     */
+    public boolean isCompacting() {
+        return pendingCompaction != null && !pendingCompaction.isDone();
+    }
+
+    /**
+     * Returns whether there is a sealed journal waiting to be folded into the task file.
+     *
+     * @return {@code true} if the sealed journal file exists, {@code false} otherwise.
+     */
+    public boolean hasSealedJournal() {
+        return Files.exists(sealedJournalPath);
+    }
+
+    /**
+     * Starts folding the sealed journal into the task file on the background thread.
+     * This method returns immediately.
+     */
+    public void compactInBackground() {
+        if (isCompacting()) {
+            return;
+        }
+        pendingCompaction = executor.submit(() -> {
+            try {
+                compact();
+            } catch (IOException e) {
+                System.out.println("Error compacting journal: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Blocks until the compaction in progress, if any, has finished.
+     */
+    public void awaitCompaction() {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.out.println("Error compacting journal: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Completes a handover that was interrupted by a crash.
+     * If a finished snapshot exists, it already contains the sealed journal, so the sealed journal is
+     * discarded and the snapshot replaces the task file. Otherwise any leftover temporary file is discarded,
+     * and the sealed journal, if any, is left to be replayed and compacted again.
+     *
+     * @throws IOException If the files cannot be moved or deleted.
+     */
+    public void recover() throws IOException {
+        if (Files.exists(snapshotPath)) {
+            Files.deleteIfExists(sealedJournalPath);
+            AtomicFileWriter.replace(snapshotPath, filePath);
+        }
+        Files.deleteIfExists(tempPath);
+    }
+
+    /**
+     * Replays the sealed journal on top of the task file and makes the result the new task file.
+     * This runs on the calling thread, and should only be called when no compaction is in progress.
+     *
+     * @throws IOException If any of the files cannot be read, written or moved.
+     */
+    public void compact() throws IOException {
+        if (!Files.exists(sealedJournalPath)) {
+            return;
+        }
+        List<Task> tasks = readTasks();
+        TaskJournal.replayFile(sealedJournalPath, tasks);
+        installSnapshot(fileFormat.encode(tasks));
+        synchronized (this) {
+            compactionCount++;
+        }
+    }
+
+    /**
+     * Makes the given contents the new task file, superseding the sealed journal.
+     * The caller must make sure every change not in the sealed journal is already contained in the contents,
+     * and that no compaction is in progress.
+     *
+     * @param contents The encoded tasks of the new task file.
+     * @throws IOException If the snapshot cannot be written or moved.
+     */
+    public void installSnapshot(byte[] contents) throws IOException {
+        AtomicFileWriter.writeBytes(tempPath, contents, true);
+        AtomicFileWriter.replace(tempPath, snapshotPath);
+        recover();
+    }
+
+    /**
+     * Reads the tasks currently stored in the task file.
+     *
+     * @return The tasks in the task file.
+     * @throws IOException If the task file cannot be read.
+     */
+    private List<Task> readTasks() throws IOException {
+        if (!Files.exists(filePath) || Files.size(filePath) == 0) {
+            return new ArrayList<>();
+        }
+        return fileFormat.read(filePath);
+    }
+}
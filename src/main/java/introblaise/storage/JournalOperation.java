@@ -0,0 +1,41 @@
+package introblaise.storage;
+
+/**
+ * Represents the kinds of mutations that can be recorded in the task journal.
+ * Each operation is written to the journal as a single line that starts with its one-letter code,
+ * followed by the arguments of the operation separated by " | ".
+ */
+public enum JournalOperation {
+    ADD("A"),
+    DELETE("X"),
+    MARK("M"),
+    UNMARK("U"),
+    TAG("G"),
+    UNTAG("R"),
+    CLEAR("C");
+
+    private final String code;
+
+    JournalOperation(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the operation identified by the given journal code.
+     *
+     * @param code The one-letter code read from the journal.
+     * @return The matching {@code JournalOperation}, or {@code null} if the code is unknown.
+     */
+    public static JournalOperation fromCode(String code) {
+        for (JournalOperation operation : values()) {
+            if (operation.code.equals(code)) {
+                return operation;
+            }
+        }
+        return null;
+    }
+}
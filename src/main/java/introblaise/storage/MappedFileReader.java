@@ -0,0 +1,74 @@
+package introblaise.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Provides utility methods for reading task files through memory-mapped buffers.
+ * <p>
+ * Mapping a file lets records be decoded straight from the operating system's page cache,
+ * without copying the whole file into the heap first. Mappings are not used on Windows, where a mapped
+ * file cannot be replaced until the mapping is garbage collected, which would break atomic saves.
+ */
+public class MappedFileReader {
+    private static final boolean IS_WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+
+    /**
+     * Returns whether the given file can be read through a memory-mapped buffer.
+     *
+     * @param path The file to read.
+     * @return {@code true} if the file can be mapped, {@code false} if it should be read by other means.
+     * @throws IOException If the size of the file cannot be read.
+     */
+    public static boolean canMap(Path path) throws IOException {
+        return !IS_WINDOWS && Files.size(path) <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Maps the whole file into memory for reading.
+     * The channel is closed before returning, which does not affect the mapping.
+     *
+     * @param path The file to map.
+     * @return A read-only buffer over the contents of the file.
+     * @throws IOException If the file cannot be opened or mapped.
+     */
+    public static MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Returns the contents of the whole file, through a memory-mapped buffer when the file can be mapped,
+     * or read into the heap otherwise.
+     *
+     * @param path The file to read.
+     * @return A buffer over the contents of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    public static ByteBuffer read(Path path) throws IOException {
+        return canMap(path) ? map(path) : ByteBuffer.wrap(Files.readAllBytes(path));
+    }
+
+    /**
+     * Returns the index of the next line feed in the buffer, scanning from the given index.
+     *
+     * @param buffer The buffer to scan.
+     * @param from   The index to start scanning from.
+     * @param limit  The index to stop scanning at.
+     * @return The index of the line feed, or {@code limit} if there is none before it.
+     */
+    public static int findLineEnd(ByteBuffer buffer, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return limit;
+    }
+}
@@ -1,50 +1,166 @@
 package introblaise.storage;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
-import introblaise.parsers.StorageTaskParser;
+import introblaise.jfr.JournalAppendEvent;
+import introblaise.jfr.StorageLoadEvent;
+import introblaise.jfr.StorageSaveEvent;
 import introblaise.task.Task;
 
 /**
  * Handles the storage operations for tasks, including creating, loading, saving, and handling corrupted files.
  * This class ensures that the necessary files and directories exist, and it provides functionality to read and
- * write tasks to a text file.
+ * write tasks to a text file, or to a binary file when {@link StorageFormat#BINARY} is selected.
+ * <p>
+ * In {@link StorageMode#JOURNAL} mode, changes to the task list are appended to a {@link TaskJournal}
+ * next to the task file instead of rewriting the task file, and the journal is replayed when tasks are loaded.
+ * Once the journal grows past a number of records or bytes, it is folded back into the task file by a
+ * {@link JournalCompactor} on a background thread.
+ * <p>
+ * The task file is never truncated in place. Every full save goes through an {@link AtomicFileWriter},
+ * and the {@link FsyncPolicy} decides how often written data is forced to the disk. With an interval policy,
+ * a save made before the interval has passed is forced to the disk by a background thread once it has.
+ * <p>
+ * Loads, full saves and journal appends are recorded as Java Flight Recorder events, so that a recording shows
+ * which commands waited on storage.
  */
 public class Storage {
     // Path for the directory where tasks will be stored
     private static final String DIRECTORY_PATH = "data";
 
-    // Path for the file containing tasks
-    private static final String FILE_PATH = "data/introBlaise.txt";
+    // Name of the file containing the journal of changes made since the task file was last written
+    private static final String JOURNAL_FILE_NAME = "introBlaise.journal";
+
+    // Name of the file a journal is moved to while it is being folded into the task file
+    private static final String SEALED_JOURNAL_FILE_NAME = "introBlaise.journal.compacting";
+
+    private static final int DEFAULT_MAX_JOURNAL_RECORDS = 1000;
+    private static final long DEFAULT_MAX_JOURNAL_BYTES = 1024 * 1024;
+
+    private final Path dirPath;
+    private final Path filePath;
+    private final StorageMode mode;
+    private final TaskFileFormat fileFormat;
+    private final TaskJournal journal;
+    private final JournalCompactor compactor;
+    private int maxJournalRecords;
+    private long maxJournalBytes;
+    private FsyncPolicy fsyncPolicy;
+    private long lastSyncMillis;
+    private boolean hasUnsyncedSave;
+    private ScheduledExecutorService syncScheduler;
 
     /**
      * Constructor that initializes the Storage object by ensuring the directory and file exist,
      * If they do not exist, it creates them.
      */
     public Storage() {
+        this(StorageMode.REWRITE);
+    }
+
+    /**
+     * Constructs a {@code Storage} that stores tasks in the default "data" directory using the given mode.
+     *
+     * @param mode How changes to the task list are persisted.
+     */
+    public Storage(StorageMode mode) {
+        this(DIRECTORY_PATH, mode);
+    }
+
+    /**
+     * Constructs a {@code Storage} that stores tasks in the given directory using the given mode.
+     *
+     * @param directoryPath The directory in which the task file and journal are stored.
+     * @param mode          How changes to the task list are persisted.
+     */
+    public Storage(String directoryPath, StorageMode mode) {
+        this(directoryPath, mode, StorageFormat.TEXT);
+    }
+
+    /**
+     * Constructs a {@code Storage} that stores tasks in the given directory using the given mode and file format.
+     *
+     * @param directoryPath The directory in which the task file and journal are stored.
+     * @param mode          How changes to the task list are persisted.
+     * @param format        The format of the task file.
+     */
+    public Storage(String directoryPath, StorageMode mode, StorageFormat format) {
+        this.dirPath = Paths.get(directoryPath);
+        this.filePath = dirPath.resolve(format.getFileName());
+        this.mode = mode;
+        this.fileFormat = format.getFileFormat();
+        this.journal = new TaskJournal(dirPath.resolve(JOURNAL_FILE_NAME));
+        this.compactor = new JournalCompactor(filePath, fileFormat, dirPath.resolve(SEALED_JOURNAL_FILE_NAME));
+        this.maxJournalRecords = DEFAULT_MAX_JOURNAL_RECORDS;
+        this.maxJournalBytes = DEFAULT_MAX_JOURNAL_BYTES;
+        this.fsyncPolicy = FsyncPolicy.always();
+        this.lastSyncMillis = 0;
         createFile();
     }
 
+    /**
+     * Sets how often written tasks and journal records are forced to the disk.
+     *
+     * @param fsyncPolicy The fsync policy to use.
+     */
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+        journal.setFsyncPolicy(fsyncPolicy);
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    /**
+     * Sets how large the journal may grow before it is compacted into the task file.
+     * Compaction starts as soon as either limit is reached.
+     *
+     * @param maxRecords The number of records after which the journal is compacted.
+     * @param maxBytes   The size in bytes after which the journal is compacted.
+     */
+    public void setCompactionThreshold(int maxRecords, long maxBytes) {
+        this.maxJournalRecords = maxRecords;
+        this.maxJournalBytes = maxBytes;
+    }
+
+    /**
+     * Returns the number of journal compactions that have completed since this storage was created.
+     *
+     * @return The number of completed compactions.
+     */
+    public int getCompactionCount() {
+        return compactor.getCompactionCount();
+    }
+
+    /**
+     * Returns whether changes are appended to the journal instead of rewriting the task file.
+     *
+     * @return {@code true} if this storage is in journal mode, {@code false} otherwise.
+     */
+    public boolean isJournalMode() {
+        return mode == StorageMode.JOURNAL;
+    }
+
     /**
      * Creates the necessary directory and file if they do not already exist.
-     * The directory is created at "data" and the file is created at "data/introBlaise.txt".
+     * The directory is created at "data" and the file is created at "data/introBlaise.txt",
+     * or "data/introBlaise.bin" for the binary format.
      */
     private void createFile() {
         try {
-            Path dirPath = Paths.get(DIRECTORY_PATH);
-            Path filePath = Paths.get(FILE_PATH);
-
             // Create directory if it doesn't exist
             if (!Files.exists(dirPath)) {
                 Files.createDirectories(dirPath);
@@ -61,53 +177,49 @@ public class Storage {
 
     /**
      * Loads the list of tasks from the file.
-     * If the file exists an contains tasks, it reads each task and returns a list of strings.
+     * If the file exists and contains tasks, it is read using the {@link TaskFileFormat} of this storage.
      * If the file is empty or does not exist, an empty list is returned.
      *
-     * @return A list of task descriptions read from the file.
+     * @return A list of tasks read from the file.
+     * @throws IOException If the file cannot be read.
      */
-    public List<String> readFromFile() {
-        List<String> tasks = new ArrayList<>();
-
-        // Check if the file exists and is not empty
-        try {
-            Path filePath = Paths.get(FILE_PATH);
-            if (Files.exists(filePath) && Files.size(filePath) > 0) {
-                // Read from the file if it exists and is not empty
-                try (BufferedReader br = new BufferedReader(new FileReader(FILE_PATH))) {
-                    String line;
-                    while ((line = br.readLine()) != null) {
-                        tasks.add(line);
-                    }
-                }
-            } else {
-                System.out.println("File is empty or does not exist. No tasks to load.");
-            }
-        } catch (IOException e) {
-            System.out.println("Error reading file: " + e.getMessage());
-            handleCorruptedFile();
+    private List<Task> readFromFile() throws IOException {
+        if (!Files.exists(filePath) || Files.size(filePath) == 0) {
+            System.out.println("File is empty or does not exist. No tasks to load.");
+            return new ArrayList<>();
         }
-
-        return tasks;
+        return fileFormat.read(filePath);
     }
 
     /**
      * Loads tasks from the storage file.
-     * This method reads all lines from the storage file, converts each line into a {@link Task}
-     * object using the {@link StorageTaskParser#stringToTask(String)} method, filters out
-     * any null tasks (which might result from parsing errors), and collects the valid
-     * tasks into a list.
+     * This method reads the storage file using its {@link TaskFileFormat}, which skips any lines of a
+     * text file that cannot be parsed. In journal mode, the journal is then replayed on top of those tasks.
      *
      * @return A {@link List} of {@link Task} objects loaded from the storage file.
      *         Returns an empty list if the file is empty or if no valid tasks could
      *         be parsed.
      */
     public List<Task> loadTasksFromFile() {
+        StorageLoadEvent event = new StorageLoadEvent();
+        event.begin();
         try {
-            return readFromFile().stream()
-                    .map(StorageTaskParser::stringToTask)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
+            if (isJournalMode()) {
+                compactor.recover();
+            }
+            long bytes = !event.isEnabled() ? 0 : sizeOf(filePath) + sizeOf(compactor.getSealedJournalPath())
+                    + sizeOf(journal.getJournalPath());
+            List<Task> tasks = readFromFile();
+            if (isJournalMode()) {
+                replayJournals(tasks);
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.setBytes(bytes);
+                event.setRecords(tasks.size());
+                event.commit();
+            }
+            return tasks;
         } catch (Exception e) {
             System.out.println("Error parsing tasks: " + e.getMessage());
             handleCorruptedFile();
@@ -115,40 +227,321 @@ public class Storage {
         }
     }
 
+    /**
+     * Indexes the task file, so that its tasks can be decoded one at a time instead of all being loaded.
+     * This is only possible when every change is already in the task file. In journal mode, the task file
+     * cannot be indexed while the journal still holds changes that would have to be replayed.
+     *
+     * @return The index of the task file, or {@code null} if the tasks should be loaded with
+     *         {@link #loadTasksFromFile()} instead.
+     */
+    public TaskFileIndex openTaskIndex() {
+        StorageLoadEvent event = new StorageLoadEvent();
+        event.begin();
+        try {
+            if (isJournalMode()) {
+                compactor.recover();
+                Path journalPath = journal.getJournalPath();
+                if (compactor.hasSealedJournal() || (Files.exists(journalPath) && Files.size(journalPath) > 0)) {
+                    return null;
+                }
+            }
+            ByteBuffer buffer = Files.exists(filePath) ? MappedFileReader.read(filePath) : ByteBuffer.allocate(0);
+            TaskFileIndex index = new TaskFileIndex(fileFormat, buffer);
+            event.end();
+            if (event.shouldCommit()) {
+                event.setBytes(buffer.capacity());
+                event.setRecords(index.size());
+                event.setLazy(true);
+                event.commit();
+            }
+            return index;
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Error indexing tasks: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the size of a file, for recording how much was loaded.
+     *
+     * @param path The file.
+     * @return The size of the file in bytes, or 0 if it does not exist or cannot be read.
+     */
+    private static long sizeOf(Path path) {
+        try {
+            return Files.exists(path) ? Files.size(path) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Replays the sealed journal left by an unfinished compaction, then the current journal, on top of
+     * the tasks read from the task file. Compaction is resumed or started in the background if needed.
+     *
+     * @param tasks The tasks read from the task file, which will be updated in place.
+     * @throws IOException If a journal file cannot be read.
+     */
+    private void replayJournals(List<Task> tasks) throws IOException {
+        TaskJournal.replayFile(compactor.getSealedJournalPath(), tasks);
+        journal.replay(tasks);
+        if (compactor.hasSealedJournal()) {
+            compactor.compactInBackground();
+        } else {
+            compactJournalIfNeeded();
+        }
+    }
+
+    /**
+     * Converts the tasks to the contents of the task file, using the file format of this storage.
+     * This is separate from saving, so that callers can take a snapshot of their tasks while holding
+     * their own lock, and write it without holding that lock.
+     *
+     * @param tasks The tasks to convert.
+     * @return The encoded tasks.
+     */
+    public byte[] encodeTasks(List<Task> tasks) {
+        return fileFormat.encode(tasks);
+    }
+
     /**
      * Saves the list of tasks to the file.
-     * Each task is written on a new line in the file.
      *
-     * @param tasks A list of task descriptions to save to the file.
+     * @param tasks The tasks to save to the file.
      */
-    public void saveTasks(List<String> tasks) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(FILE_PATH))) {
-            for (String task : tasks) {
-                bw.write(task);
-                bw.newLine();
+    public void saveTasks(List<Task> tasks) {
+        saveTasks(encodeTasks(tasks), tasks.size());
+    }
+
+    /**
+     * Saves tasks encoded by {@link #encodeTasks(List)} to the file.
+     * The file is replaced atomically, so a crash during the save leaves the previous tasks intact.
+     * In journal mode, the journal is emptied since the file now contains every change.
+     *
+     * @param encodedTasks The encoded tasks to save to the file.
+     * @param recordCount  The number of tasks encoded, for recording how many were saved.
+     */
+    public synchronized void saveTasks(byte[] encodedTasks, int recordCount) {
+        StorageSaveEvent event = new StorageSaveEvent();
+        event.begin();
+        if (isJournalMode()) {
+            saveSnapshot(encodedTasks);
+        } else {
+            try {
+                AtomicFileWriter.write(filePath, encodedTasks, isSyncDue());
+            } catch (IOException e) {
+                System.out.println("Error saving tasks: " + e.getMessage());
             }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setBytes(encodedTasks.length);
+            event.setRecords(recordCount);
+            event.setSnapshot(isJournalMode());
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns whether the next write should be forced to the disk according to the fsync policy.
+     * If it should, the time of this sync is recorded. If it should not only because the interval of the policy
+     * has not passed yet, the write is forced to the disk later, once it has.
+     *
+     * @return {@code true} if the next write should be forced to the disk, {@code false} otherwise.
+     */
+    private boolean isSyncDue() {
+        long nowMillis = System.currentTimeMillis();
+        if (fsyncPolicy.isSyncDue(lastSyncMillis, nowMillis)) {
+            lastSyncMillis = nowMillis;
+            hasUnsyncedSave = false;
+            return true;
+        }
+        if (fsyncPolicy.getMode() == FsyncPolicy.Mode.INTERVAL && !hasUnsyncedSave) {
+            hasUnsyncedSave = true;
+            scheduleSync(lastSyncMillis + fsyncPolicy.getIntervalMillis() - nowMillis);
+        }
+        return false;
+    }
+
+    /**
+     * Schedules the task file to be forced to the disk by a background thread, which is started on first use.
+     *
+     * @param delayMillis The number of milliseconds to wait before forcing the task file to the disk.
+     */
+    private void scheduleSync(long delayMillis) {
+        if (syncScheduler == null) {
+            syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "introblaise-file-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        syncScheduler.schedule(this::syncIfNeeded, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Forces the task file to the disk, if a save has not been forced to the disk since it was made.
+     */
+    private synchronized void syncIfNeeded() {
+        if (!hasUnsyncedSave) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+            lastSyncMillis = System.currentTimeMillis();
+            hasUnsyncedSave = false;
+        } catch (IOException e) {
+            System.out.println("Error syncing tasks: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns whether a save has been written but not yet forced to the disk.
+     *
+     * @return {@code true} if a save is waiting to be forced to the disk, {@code false} otherwise.
+     */
+    synchronized boolean hasUnsyncedSave() {
+        return hasUnsyncedSave;
+    }
+
+    /**
+     * Saves the list of tasks as a snapshot that replaces the task file and every journal.
+     * The journal is sealed first, so that a crash before the snapshot is in place still leaves
+     * every change in either the task file or a journal.
+     *
+     * @param encodedTasks The encoded tasks to save to the file.
+     */
+    private void saveSnapshot(byte[] encodedTasks) {
+        try {
+            compactor.awaitCompaction();
+            if (compactor.hasSealedJournal()) {
+                compactor.compact();
+            }
+            journal.seal(compactor.getSealedJournalPath());
+            compactor.installSnapshot(encodedTasks);
         } catch (IOException e) {
             System.out.println("Error saving tasks: " + e.getMessage());
         }
     }
 
+    /**
+     * Appends a record of a change made to the task list to the journal.
+     *
+     * @param operation The change made to the task list.
+     * @param arguments The arguments of the change, such as the task index or the tag label.
+     */
+    public void appendToJournal(JournalOperation operation, String... arguments) {
+        assert isJournalMode() : "Changes should only be journaled in journal mode";
+        JournalAppendEvent event = new JournalAppendEvent();
+        event.begin();
+        long bytesBefore = journal.getByteCount();
+        try {
+            journal.append(operation, arguments);
+        } catch (IOException e) {
+            System.out.println("Error writing to journal: " + e.getMessage());
+        }
+        long bytes = journal.getByteCount() - bytesBefore;
+        compactJournalIfNeeded();
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(operation.name());
+            event.setBytes(bytes);
+            event.commit();
+        }
+    }
+
+    /**
+     * Seals the journal and compacts it in the background if it has grown past the compaction threshold.
+     * Only sealing the journal happens on the calling thread, which is a single file rename.
+     */
+    private void compactJournalIfNeeded() {
+        boolean isOverThreshold = journal.getRecordCount() >= maxJournalRecords
+                || journal.getByteCount() >= maxJournalBytes;
+        if (!isOverThreshold || compactor.isCompacting()) {
+            return;
+        }
+        try {
+            if (!compactor.hasSealedJournal()) {
+                journal.seal(compactor.getSealedJournalPath());
+            }
+            compactor.compactInBackground();
+        } catch (IOException e) {
+            System.out.println("Error compacting journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Blocks until any compaction in progress has finished.
+     */
+    public void awaitCompaction() {
+        compactor.awaitCompaction();
+    }
+
     /**
      * Handles a corrupted file by resetting the task list to an empty one.
      * This method is used to recover from a corrupted file and prevent further issues.
+     * The corrupted task file and journals are backed up first, so that their tasks can still be recovered by hand.
+     * The sealed journal left by an unfinished compaction is moved to its backup rather than copied, since
+     * resetting would otherwise compact it first and replay the corrupted records again.
      */
     public void handleCorruptedFile() {
         System.out.println("Warning: Corrupted file detected. Resetting...");
+        compactor.awaitCompaction();
+        backUpCorruptedFile(filePath, false);
+        backUpCorruptedFile(journal.getJournalPath(), false);
+        backUpCorruptedFile(compactor.getSealedJournalPath(), true);
         saveTasks(new ArrayList<>()); // Reset file with an empty task list
     }
 
     /**
-     * Clears the contents of the task file by overwriting it with an empty file.
+     * Copies or moves a corrupted file next to itself with a ".corrupted" suffix.
+     *
+     * @param path     The corrupted file to back up.
+     * @param isMoved  Whether the corrupted file is moved to its backup instead of copied.
      */
-    public void clearFile() {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(FILE_PATH, false))) {
-            // Writing nothing clears the file
+    private void backUpCorruptedFile(Path path, boolean isMoved) {
+        try {
+            if (Files.exists(path) && Files.size(path) > 0) {
+                Path backupPath = path.resolveSibling(path.getFileName() + ".corrupted");
+                if (isMoved) {
+                    Files.move(path, backupPath, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    Files.copy(path, backupPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+                System.out.println("The corrupted file has been backed up to " + backupPath);
+            } else if (isMoved) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            System.out.println("Error backing up corrupted file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the journal, forcing its records and any unsynced save to the disk according to the fsync policy,
+     * and waits for any compaction in progress to finish.
+     */
+    public void close() {
+        try {
+            journal.close();
         } catch (IOException e) {
-            System.out.println("Error clearing file: " + e.getMessage());
+            System.out.println("Error closing journal: " + e.getMessage());
         }
+        compactor.awaitCompaction();
+        synchronized (this) {
+            syncIfNeeded();
+            if (syncScheduler != null) {
+                syncScheduler.shutdown();
+                syncScheduler = null;
+            }
+        }
+    }
+
+    /**
+     * Clears the contents of the task file by overwriting it with an empty file.
+     */
+    public void clearFile() {
+        saveTasks(new ArrayList<>());
     }
 }
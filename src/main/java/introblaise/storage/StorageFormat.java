@@ -0,0 +1,30 @@
+package introblaise.storage;
+
+/**
+ * Represents the format of the task file written by {@link Storage}.
+ * <ul>
+ *     <li>{@code TEXT} - Pipe-delimited text in "introBlaise.txt", which can be read and edited by hand.</li>
+ *     <li>{@code BINARY} - Compact binary records in "introBlaise.bin", which are faster to load.</li>
+ * </ul>
+ * Task files can be converted between the formats with {@link StorageFormatConverter}.
+ */
+public enum StorageFormat {
+    TEXT("introBlaise.txt", new TextTaskFileFormat()),
+    BINARY("introBlaise.bin", new BinaryTaskFileFormat());
+
+    private final String fileName;
+    private final TaskFileFormat fileFormat;
+
+    StorageFormat(String fileName, TaskFileFormat fileFormat) {
+        this.fileName = fileName;
+        this.fileFormat = fileFormat;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public TaskFileFormat getFileFormat() {
+        return fileFormat;
+    }
+}
@@ -0,0 +1,63 @@
+package introblaise.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import introblaise.task.Task;
+
+/**
+ * Converts task files between the {@link StorageFormat}s.
+ * The conversion is lossless: converting a task file to another format and back gives the same tasks,
+ * down to the way their dates were entered.
+ * <p>
+ * This class can also be run on its own, for example:
+ * {@code java introblaise.storage.StorageFormatConverter text data/introBlaise.txt binary data/introBlaise.bin}
+ */
+public class StorageFormatConverter {
+    /**
+     * Reads the tasks in the source file and writes them to the target file in the target format.
+     * The target file is replaced atomically.
+     *
+     * @param source       The task file to read.
+     * @param sourceFormat The format of the source file.
+     * @param target       The task file to write.
+     * @param targetFormat The format to write the target file in.
+     * @return The number of tasks converted.
+     * @throws IOException If the source file cannot be read or the target file cannot be written.
+     */
+    public static int convert(Path source, StorageFormat sourceFormat, Path target, StorageFormat targetFormat)
+            throws IOException {
+        List<Task> tasks = sourceFormat.getFileFormat().read(source);
+        AtomicFileWriter.write(target, targetFormat.getFileFormat().encode(tasks), true);
+        return tasks.size();
+    }
+
+    /**
+     * Converts a task file from the command line.
+     *
+     * @param args The source format, source file, target format and target file.
+     */
+    public static void main(String[] args) {
+        if (args.length != 4) {
+            System.out.println("Usage: StorageFormatConverter <text|binary> <source file> <text|binary> <target file>");
+            return;
+        }
+        StorageFormat sourceFormat;
+        StorageFormat targetFormat;
+        try {
+            sourceFormat = StorageFormat.valueOf(args[0].toUpperCase());
+            targetFormat = StorageFormat.valueOf(args[2].toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.out.println("Unknown storage format: " + e.getMessage());
+            return;
+        }
+        try {
+            int taskCount = convert(Paths.get(args[1]), sourceFormat, Paths.get(args[3]), targetFormat);
+            System.out.println("Converted " + taskCount + " tasks to " + args[3]);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Error converting tasks: " + e.getMessage());
+        }
+    }
+}
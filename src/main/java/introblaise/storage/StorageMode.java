@@ -0,0 +1,14 @@
+package introblaise.storage;
+
+/**
+ * Represents how {@link Storage} persists changes made to the task list.
+ * <ul>
+ *     <li>{@code REWRITE} - Every change rewrites the whole task file.</li>
+ *     <li>{@code JOURNAL} - Every change appends one record to the journal file, which is
+ *     replayed on top of the task file when the tasks are loaded.</li>
+ * </ul>
+ */
+public enum StorageMode {
+    REWRITE,
+    JOURNAL
+}
@@ -0,0 +1,53 @@
+package introblaise.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+
+import introblaise.task.Task;
+
+/**
+ * Represents a way of laying out tasks in the task file.
+ * Journals are not affected by the task file format, since their records are always text.
+ */
+public interface TaskFileFormat {
+    /**
+     * Converts the tasks to the contents of a task file.
+     *
+     * @param tasks The tasks to convert.
+     * @return The bytes of the task file.
+     */
+    byte[] encode(List<Task> tasks);
+
+    /**
+     * Reads the tasks stored in a task file.
+     *
+     * @param path The task file to read.
+     * @return The tasks in the file, in order.
+     * @throws IOException If the file cannot be read.
+     */
+    List<Task> read(Path path) throws IOException;
+
+    /**
+     * Finds where each task record starts in the contents of a task file, without decoding the tasks.
+     * Together with {@link #decodeRecord(ByteBuffer, int)}, this lets tasks be decoded one at a time.
+     * Records that {@link #read(Path)} would skip are left out, so that the positions of the tasks are the same.
+     *
+     * @param buffer The contents of a task file.
+     * @return The index in the buffer at which each record starts, in order.
+     * @throws IllegalArgumentException If the contents cannot be indexed.
+     */
+    int[] indexRecords(ByteBuffer buffer);
+
+    /**
+     * Decodes the task record starting at the given index of the contents of a task file.
+     * The buffer is only read with absolute reads, so records can be decoded by several threads at once.
+     *
+     * @param buffer The contents of a task file.
+     * @param start  The index at which the record starts, as found by {@link #indexRecords(ByteBuffer)}.
+     * @return The task stored in the record.
+     * @throws IllegalArgumentException If the record cannot be decoded.
+     */
+    Task decodeRecord(ByteBuffer buffer, int start);
+}
@@ -0,0 +1,50 @@
+package introblaise.storage;
+
+import java.nio.ByteBuffer;
+
+import introblaise.task.Task;
+
+/**
+ * Represents an index of where each task record starts in the contents of a task file.
+ * The index only holds one offset per task, so a task file with millions of tasks can be indexed
+ * without decoding them, and each task can then be decoded on its own when it is needed.
+ */
+public class TaskFileIndex {
+    private final TaskFileFormat fileFormat;
+    private final ByteBuffer buffer;
+    private final int[] recordStarts;
+
+    /**
+     * Constructs a {@code TaskFileIndex} by scanning the contents of a task file for its records.
+     *
+     * @param fileFormat The format of the task file.
+     * @param buffer     The contents of the task file.
+     * @throws IllegalArgumentException If the contents cannot be indexed.
+     */
+    public TaskFileIndex(TaskFileFormat fileFormat, ByteBuffer buffer) {
+        this.fileFormat = fileFormat;
+        this.buffer = buffer;
+        this.recordStarts = fileFormat.indexRecords(buffer);
+    }
+
+    /**
+     * Returns the number of tasks in the task file.
+     *
+     * @return The number of tasks.
+     */
+    public int size() {
+        return recordStarts.length;
+    }
+
+    /**
+     * Decodes the task at the given position in the task file.
+     * Every call decodes a new {@link Task} object.
+     *
+     * @param taskIndex The position of the task, starting from 0.
+     * @return The decoded task.
+     * @throws IllegalArgumentException If the record cannot be decoded.
+     */
+    public Task decode(int taskIndex) {
+        return fileFormat.decodeRecord(buffer, recordStarts[taskIndex]);
+    }
+}
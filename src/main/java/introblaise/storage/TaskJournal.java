@@ -0,0 +1,328 @@
+package introblaise.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import introblaise.parsers.StorageTaskParser;
+import introblaise.task.Task;
+import introblaise.task.TaskList;
+
+/**
+ * Handles the append-only journal of task list mutations.
+ * Instead of rewriting the whole task file on every change, each mutation is appended to the journal
+ * as one compact record, e.g. {@code M | #12} for marking the task with ID 12 as done. When the tasks are loaded,
+ * the journal is replayed on top of the tasks read from the task file. Records written before tasks had IDs
+ * refer to tasks by their position instead, e.g. {@code M | 4}, and are still replayed.
+ * <p>
+ * Records are forced to the disk according to the {@link FsyncPolicy} of the journal. With an interval policy,
+ * a background thread forces the records written since the last sync once the interval has passed.
+ */
+public class TaskJournal {
+    private static final String SEPARATOR = " | ";
+
+    private final Path journalPath;
+    private BufferedWriter writer;
+    private FileChannel channel;
+    private int recordCount;
+    private long byteCount;
+    private FsyncPolicy fsyncPolicy;
+    private ScheduledExecutorService syncScheduler;
+    private boolean hasUnsyncedRecords;
+
+    /**
+     * Constructs a {@code TaskJournal} that appends its records to the given file.
+     *
+     * @param journalPath The path of the journal file.
+     */
+    public TaskJournal(Path journalPath) {
+        this.journalPath = journalPath;
+        this.recordCount = 0;
+        this.byteCount = 0;
+        this.fsyncPolicy = FsyncPolicy.always();
+        this.hasUnsyncedRecords = false;
+    }
+
+    /**
+     * Sets how often appended records are forced to the disk.
+     *
+     * @param fsyncPolicy The fsync policy of the journal.
+     */
+    public synchronized void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+        if (syncScheduler != null) {
+            syncScheduler.shutdown();
+            syncScheduler = null;
+        }
+        if (fsyncPolicy.getMode() == FsyncPolicy.Mode.INTERVAL) {
+            startSyncScheduler(fsyncPolicy.getIntervalMillis());
+        }
+    }
+
+    /**
+     * Starts the background thread that forces unsynced records to the disk at a fixed interval.
+     *
+     * @param intervalMillis The number of milliseconds between two syncs.
+     */
+    private void startSyncScheduler(long intervalMillis) {
+        syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "introblaise-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncScheduler.scheduleWithFixedDelay(this::syncIfNeeded, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Forces the records written since the last sync to the disk, if there are any.
+     */
+    private synchronized void syncIfNeeded() {
+        if (!hasUnsyncedRecords || channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+            hasUnsyncedRecords = false;
+        } catch (IOException e) {
+            System.out.println("Error syncing journal: " + e.getMessage());
+        }
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Returns the number of records currently in the journal.
+     * This count is only accurate after the journal has been replayed once.
+     *
+     * @return The number of records in the journal.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the approximate size of the journal file in bytes.
+     * This size is only accurate after the journal has been replayed once.
+     *
+     * @return The approximate size of the journal in bytes.
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Appends one record for the given operation to the journal.
+     * The record is flushed to the file before this method returns, and forced to the disk
+     * if the fsync policy is to always sync.
+     *
+     * @param operation The operation to record.
+     * @param arguments The arguments of the operation, such as the task index or the tag label.
+     * @throws IOException If the record cannot be written to the journal file.
+     */
+    public synchronized void append(JournalOperation operation, String... arguments) throws IOException {
+        if (writer == null) {
+            FileOutputStream outputStream = new FileOutputStream(journalPath.toFile(), true);
+            channel = outputStream.getChannel();
+            writer = new BufferedWriter(new OutputStreamWriter(outputStream, Charset.defaultCharset()));
+        }
+        String record = buildRecord(operation, arguments);
+        writer.write(record);
+        writer.newLine();
+        writer.flush();
+        if (fsyncPolicy.getMode() == FsyncPolicy.Mode.ALWAYS) {
+            channel.force(false);
+        } else {
+            hasUnsyncedRecords = true;
+        }
+        recordCount++;
+        byteCount += record.length() + 1;
+    }
+
+    /**
+     * Builds the journal line for an operation and its arguments.
+     *
+     * @param operation The operation to record.
+     * @param arguments The arguments of the operation.
+     * @return The journal line, without the line separator.
+     */
+    private static String buildRecord(JournalOperation operation, String... arguments) {
+        StringBuilder record = new StringBuilder(operation.getCode());
+        for (String argument : arguments) {
+            record.append(SEPARATOR).append(argument);
+        }
+        return record.toString();
+    }
+
+    /**
+     * Replays every record in the journal on top of the given tasks, in the order they were written.
+     * Records that cannot be applied, such as a partially written last line left behind by a crash,
+     * are skipped.
+     *
+     * @param tasks The tasks loaded from the task file, which will be updated in place.
+     * @throws IOException If the journal file cannot be read.
+     */
+    public void replay(List<Task> tasks) throws IOException {
+        recordCount = replayFile(journalPath, tasks);
+        byteCount = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+    }
+
+    /**
+     * Replays every record in the given journal file on top of the given tasks.
+     * This is also used to replay a journal that has been sealed for compaction.
+     *
+     * @param path  The journal file to replay. Nothing is replayed if the file does not exist.
+     * @param tasks The tasks to update in place.
+     * @return The number of records read from the journal file.
+     * @throws IOException If the journal file cannot be read.
+     */
+    static int replayFile(Path path, List<Task> tasks) throws IOException {
+        int count = 0;
+        if (!Files.exists(path)) {
+            return count;
+        }
+        try (BufferedReader br = new BufferedReader(new FileReader(path.toFile(), Charset.defaultCharset()))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                applyRecord(tasks, line);
+                count++;
+            }
+        }
+        StorageTaskParser.assignMissingIds(tasks);
+        return count;
+    }
+
+    /**
+     * Applies a single journal record to the tasks.
+     *
+     * @param tasks  The tasks to update.
+     * @param record The journal line to apply.
+     */
+    private static void applyRecord(List<Task> tasks, String record) {
+        try {
+            int separator = record.indexOf(SEPARATOR);
+            String code = separator < 0 ? record.trim() : record.substring(0, separator);
+            String arguments = separator < 0 ? "" : record.substring(separator + SEPARATOR.length());
+            JournalOperation operation = JournalOperation.fromCode(code);
+            if (operation == null) {
+                System.out.println("Skipping unknown journal record: " + record);
+                return;
+            }
+            applyOperation(tasks, operation, arguments);
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            System.out.println("Skipping invalid journal record: " + record);
+        }
+    }
+
+    /**
+     * Applies an operation with its raw arguments to the tasks.
+     *
+     * @param tasks     The tasks to update.
+     * @param operation The operation to apply.
+     * @param arguments The raw arguments of the record.
+     */
+    private static void applyOperation(List<Task> tasks, JournalOperation operation, String arguments) {
+        switch (operation) {
+        case ADD:
+            Task task = StorageTaskParser.stringToTask(arguments);
+            if (task != null) {
+                tasks.add(task);
+            }
+            break;
+        case DELETE:
+            tasks.remove(parseIndex(tasks, arguments));
+            break;
+        case MARK:
+            tasks.get(parseIndex(tasks, arguments)).markAsDone();
+            break;
+        case UNMARK:
+            tasks.get(parseIndex(tasks, arguments)).markAsUndone();
+            break;
+        case TAG:
+            String[] parts = arguments.split(" \\| ", 2);
+            tasks.get(parseIndex(tasks, parts[0])).setTag(parts[1]);
+            break;
+        case UNTAG:
+            tasks.get(parseIndex(tasks, arguments)).deleteTag();
+            break;
+        case CLEAR:
+            tasks.clear();
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Returns the position of the task that a record refers to, either by its ID, e.g. "#12",
+     * or by its position, e.g. "4".
+     *
+     * @param tasks    The tasks the record is applied to.
+     * @param argument The reference to the task.
+     * @return The index of the task.
+     * @throws IndexOutOfBoundsException If there is no task with the referenced ID.
+     */
+    private static int parseIndex(List<Task> tasks, String argument) {
+        String reference = argument.trim();
+        if (!reference.startsWith("#")) {
+            return Integer.parseInt(reference);
+        }
+        int taskIndex = TaskList.findIndexOfId(tasks, Integer.parseInt(reference.substring(1)));
+        if (taskIndex < 0) {
+            throw new IndexOutOfBoundsException("No task with ID " + reference);
+        }
+        return taskIndex;
+    }
+
+    /**
+     * Seals the journal by moving it to the given path, so that new records start a fresh journal.
+     * The move is atomic, so a crash leaves each record in exactly one of the two files.
+     *
+     * @param sealedPath The path to move the current journal to.
+     * @throws IOException If the journal cannot be moved.
+     */
+    public synchronized void seal(Path sealedPath) throws IOException {
+        close();
+        if (Files.exists(journalPath)) {
+            Files.move(journalPath, sealedPath, StandardCopyOption.ATOMIC_MOVE);
+        }
+        recordCount = 0;
+        byteCount = 0;
+    }
+
+    /**
+     * Closes the journal file if it is open, forcing unsynced records to the disk first
+     * unless the fsync policy is to never sync.
+     *
+     * @throws IOException If the journal file cannot be closed.
+     */
+    public synchronized void close() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        if (hasUnsyncedRecords && fsyncPolicy.getMode() != FsyncPolicy.Mode.NEVER) {
+            channel.force(false);
+        }
+        writer.close();
+        writer = null;
+        channel = null;
+        hasUnsyncedRecords = false;
+    }
+}
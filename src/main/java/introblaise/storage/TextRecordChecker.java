@@ -0,0 +1,277 @@
+package introblaise.storage;
+
+import java.nio.ByteBuffer;
+
+import introblaise.parsers.StorageTaskParser;
+
+/**
+ * Checks whether a line of a text task file can be parsed into a task, without parsing it.
+ * <p>
+ * The check looks at the bytes of the line the way {@link StorageTaskParser#stringToTask(String)} reads them:
+ * the fields split by {@code " | "}, the type and optional ID in the first field, and the shape and range of
+ * the dates of deadlines and events. It accepts exactly the lines that the parser accepts, but creates no
+ * strings or tasks, so a task file can be indexed without decoding every task in it. Since line feeds, pipes,
+ * spaces and digits are single bytes in the charsets that task files are indexed in, the bytes can be checked
+ * directly.
+ */
+public class TextRecordChecker {
+    private static final byte[] FIELD_SEPARATOR = {' ', '|', ' '};
+    private static final byte[] EVENT_SEPARATOR = {' ', 't', 'o', ' '};
+    private static final byte[] ID_PREFIX = {'#'};
+    // Most digits that the parser reads for a day or a year, including leading zeros
+    private static final int MAX_NUMBER_DIGITS = 19;
+    private static final long MAX_YEAR = 999_999_999;
+    private static final long MAX_NUMBER = MAX_YEAR + 1;
+
+    /**
+     * Returns whether the line between the given indices of a buffer can be parsed into a task.
+     *
+     * @param buffer The buffer holding the contents of a task file.
+     * @param start  The index of the first byte of the line.
+     * @param end    The index of the line feed ending the line, or the limit of the buffer.
+     * @return {@code true} if the line can be parsed, {@code false} otherwise.
+     */
+    public static boolean isParseable(ByteBuffer buffer, int start, int end) {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        int typeEnd = end;
+        int dateStart = -1;
+        int dateEnd = -1;
+        int lastFilledField = -1;
+        int fieldStart = start;
+        for (int field = 0; ; field++) {
+            int separator = indexOf(buffer, FIELD_SEPARATOR, fieldStart, end);
+            int fieldEnd = separator < 0 ? end : separator;
+            if (fieldEnd > fieldStart) {
+                lastFilledField = field;
+            }
+            if (field == 0) {
+                typeEnd = fieldEnd;
+            } else if (field == 3) {
+                dateStart = fieldStart;
+                dateEnd = fieldEnd;
+            }
+            if (separator < 0) {
+                break;
+            }
+            fieldStart = separator + FIELD_SEPARATOR.length;
+        }
+        // Empty fields at the end of the line are dropped by the parser before it counts the fields
+        if (lastFilledField < 2) {
+            return false;
+        }
+        byte type = getType(buffer, start, typeEnd);
+        if (type == 'T') {
+            return true;
+        } else if (type != 'D' && type != 'E') {
+            return false;
+        }
+        if (dateStart < 0) {
+            return false;
+        }
+        dateStart = trimStart(buffer, dateStart, dateEnd);
+        dateEnd = trimEnd(buffer, dateStart, dateEnd);
+        if (type == 'D') {
+            return isDateTime(buffer, dateStart, dateEnd);
+        }
+        int separator = indexOf(buffer, EVENT_SEPARATOR, dateStart, dateEnd);
+        if (separator < 0) {
+            return false;
+        }
+        int toStart = separator + EVENT_SEPARATOR.length;
+        int nextSeparator = indexOf(buffer, EVENT_SEPARATOR, toStart, dateEnd);
+        return isDateTime(buffer, dateStart, separator)
+                && isDateTime(buffer, toStart, nextSeparator < 0 ? dateEnd : nextSeparator);
+    }
+
+    /**
+     * Returns the type of task in the first field of a line, if the field is a type, optionally followed by
+     * {@code #} and an ID that fits in an {@code int}.
+     *
+     * @param buffer The buffer holding the line.
+     * @param start  The index of the first byte of the field.
+     * @param end    The index after the last byte of the field.
+     * @return The type of task, or 0 if the field is not a type with an optional ID.
+     */
+    private static byte getType(ByteBuffer buffer, int start, int end) {
+        start = trimStart(buffer, start, end);
+        end = trimEnd(buffer, start, end);
+        if (end == start) {
+            return 0;
+        }
+        int idIndex = indexOf(buffer, ID_PREFIX, start, end);
+        if (idIndex >= 0 && (idIndex != start + 1 || !isInt(buffer, idIndex + 1, end))) {
+            return 0;
+        }
+        if (idIndex < 0 && end != start + 1) {
+            return 0;
+        }
+        return buffer.get(start);
+    }
+
+    /**
+     * Returns whether the bytes between the given indices are an optionally signed number that fits in an
+     * {@code int}, as accepted by {@link Integer#parseInt(String)}.
+     *
+     * @param buffer The buffer holding the number.
+     * @param start  The index of the first byte of the number.
+     * @param end    The index after the last byte of the number.
+     * @return {@code true} if the bytes are such a number, {@code false} otherwise.
+     */
+    private static boolean isInt(ByteBuffer buffer, int start, int end) {
+        boolean isNegative = false;
+        if (start < end && (buffer.get(start) == '+' || buffer.get(start) == '-')) {
+            isNegative = buffer.get(start) == '-';
+            start++;
+        }
+        if (start == end) {
+            return false;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + (isNegative ? 1 : 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the bytes between the given indices are a date and time in the "d-MM-yyyy HHmm" format
+     * that the parser accepts. Days past the end of a month are accepted, since the parser moves them back to
+     * the last day of the month, and so is 2400, which the parser reads as midnight of the next day. Years of
+     * more than four digits are accepted after a plus sign, as the parser does.
+     *
+     * @param buffer The buffer holding the date and time.
+     * @param start  The index of the first byte of the date.
+     * @param end    The index after the last byte of the time.
+     * @return {@code true} if the bytes are such a date and time, {@code false} otherwise.
+     */
+    private static boolean isDateTime(ByteBuffer buffer, int start, int end) {
+        int dayEnd = skipDigits(buffer, start, end);
+        if (dayEnd == start || dayEnd - start > MAX_NUMBER_DIGITS || end - dayEnd < 13) {
+            return false;
+        }
+        long day = readNumber(buffer, start, dayEnd);
+        long month = readNumber(buffer, dayEnd + 1, dayEnd + 3);
+        int yearStart = dayEnd + 4;
+        int yearEnd = skipDigits(buffer, yearStart, end);
+        if (buffer.get(yearStart) == '+') {
+            yearStart++;
+            yearEnd = skipDigits(buffer, yearStart, end);
+            if (yearEnd - yearStart <= 4 || yearEnd - yearStart > MAX_NUMBER_DIGITS) {
+                return false;
+            }
+        } else if (yearEnd - yearStart != 4) {
+            return false;
+        }
+        long year = readNumber(buffer, yearStart, yearEnd);
+        if (end - yearEnd != 5) {
+            return false;
+        }
+        long hour = readNumber(buffer, yearEnd + 1, yearEnd + 3);
+        long minute = readNumber(buffer, yearEnd + 3, yearEnd + 5);
+        boolean isShaped = buffer.get(dayEnd) == '-' && buffer.get(dayEnd + 3) == '-'
+                && buffer.get(yearEnd) == ' ' && month >= 0 && hour >= 0 && minute >= 0;
+        boolean isTime = (hour <= 23 && minute <= 59) || (hour == 24 && minute == 0);
+        return isShaped && day >= 1 && day <= 31 && month >= 1 && month <= 12 && year >= 1 && year <= MAX_YEAR
+                && isTime;
+    }
+
+    /**
+     * Returns the index of the first byte from the given index that is not a digit.
+     *
+     * @param buffer The buffer to scan.
+     * @param start  The index to start scanning from.
+     * @param end    The index after the last byte to scan.
+     * @return The index of the first byte that is not a digit, or {@code end} if every byte is a digit.
+     */
+    private static int skipDigits(ByteBuffer buffer, int start, int end) {
+        while (start < end && isDigit(buffer.get(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Reads the decimal number between the given indices. Numbers too large for any field are read as
+     * {@value #MAX_NUMBER}, so that they cannot overflow.
+     *
+     * @param buffer The buffer holding the number.
+     * @param start  The index of the first digit.
+     * @param end    The index after the last digit.
+     * @return The number, or -1 if any of the bytes is not a digit.
+     */
+    private static long readNumber(ByteBuffer buffer, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            if (!isDigit(buffer.get(i))) {
+                return -1;
+            }
+            value = Math.min(value * 10 + buffer.get(i) - '0', MAX_NUMBER);
+        }
+        return value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    /**
+     * Returns the index of the first occurrence of a sequence of bytes between the given indices.
+     *
+     * @param buffer   The buffer to search.
+     * @param sequence The bytes to find.
+     * @param start    The index to start searching from.
+     * @param end      The index after the last byte that the sequence may cover.
+     * @return The index at which the sequence starts, or -1 if it does not occur.
+     */
+    private static int indexOf(ByteBuffer buffer, byte[] sequence, int start, int end) {
+        for (int i = start; i <= end - sequence.length; i++) {
+            int matched = 0;
+            while (matched < sequence.length && buffer.get(i + matched) == sequence[matched]) {
+                matched++;
+            }
+            if (matched == sequence.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first byte from the given index that {@link String#trim()} would keep.
+     *
+     * @param buffer The buffer holding the text.
+     * @param start  The index of the first byte of the text.
+     * @param end    The index after the last byte of the text.
+     * @return The index of the first byte kept, or {@code end} if every byte would be trimmed.
+     */
+    private static int trimStart(ByteBuffer buffer, int start, int end) {
+        while (start < end && (buffer.get(start) & 0xff) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the index after the last byte before the given index that {@link String#trim()} would keep.
+     *
+     * @param buffer The buffer holding the text.
+     * @param start  The index of the first byte of the text.
+     * @param end    The index after the last byte of the text.
+     * @return The index after the last byte kept, or {@code start} if every byte would be trimmed.
+     */
+    private static int trimEnd(ByteBuffer buffer, int start, int end) {
+        while (end > start && (buffer.get(end - 1) & 0xff) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+}
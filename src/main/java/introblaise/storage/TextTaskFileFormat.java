@@ -0,0 +1,230 @@
+package introblaise.storage;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import introblaise.parsers.StorageTaskParser;
+import introblaise.task.Task;
+
+/**
+ * Lays out tasks in the task file as pipe-delimited text, one task per line.
+ * Lines are converted using {@link StorageTaskParser}, and lines that cannot be parsed are skipped.
+ * <p>
+ * The file is read through a {@link MappedFileReader} when possible. Line boundaries are then found
+ * directly in the mapped bytes, and each line is decoded into a task as soon as it is found, so that
+ * the lines of the file are never held in the heap all at once.
+ * <p>
+ * Files larger than the parallel threshold are split into chunks on line boundaries, which are decoded
+ * on the common {@link ForkJoinPool} and joined back together in their original order.
+ */
+public class TextTaskFileFormat implements TaskFileFormat {
+    private static final int DEFAULT_PARALLEL_THRESHOLD_BYTES = 4 * 1024 * 1024;
+
+    // More chunks than threads, so that threads which finish early can take over the remaining chunks
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final int parallelThresholdBytes;
+
+    /**
+     * Constructs a {@code TextTaskFileFormat} that decodes files of 4 MiB or more in parallel.
+     */
+    public TextTaskFileFormat() {
+        this(DEFAULT_PARALLEL_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Constructs a {@code TextTaskFileFormat} that decodes files of the given size or more in parallel.
+     *
+     * @param parallelThresholdBytes The smallest file size, in bytes, that is decoded in parallel.
+     */
+    public TextTaskFileFormat(int parallelThresholdBytes) {
+        this.parallelThresholdBytes = parallelThresholdBytes;
+    }
+
+    @Override
+    public byte[] encode(List<Task> tasks) {
+        StringBuilder sb = new StringBuilder(tasks.size() * 48);
+        for (Task task : tasks) {
+            sb.append(StorageTaskParser.taskToString(task)).append(System.lineSeparator());
+        }
+        return sb.toString().getBytes(Charset.defaultCharset());
+    }
+
+    @Override
+    public List<Task> read(Path path) throws IOException {
+        Charset charset = Charset.defaultCharset();
+        List<Task> tasks;
+        if (!isAsciiCompatible(charset) || !MappedFileReader.canMap(path)) {
+            tasks = readLines(path, charset);
+        } else {
+            ByteBuffer buffer = MappedFileReader.map(path);
+            int parallelism = ForkJoinPool.getCommonPoolParallelism();
+            if (buffer.limit() < parallelThresholdBytes || parallelism < 2) {
+                tasks = decodeLines(buffer, 0, buffer.limit(), charset);
+            } else {
+                tasks = decodeLinesInParallel(buffer, charset, parallelism * CHUNKS_PER_THREAD);
+            }
+        }
+        StorageTaskParser.assignMissingIds(tasks);
+        return tasks;
+    }
+
+    @Override
+    public int[] indexRecords(ByteBuffer buffer) {
+        if (!isAsciiCompatible(Charset.defaultCharset())) {
+            throw new IllegalArgumentException("Task files in " + Charset.defaultCharset() + " cannot be indexed");
+        }
+        int[] recordStarts = new int[1024];
+        int recordCount = 0;
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = MappedFileReader.findLineEnd(buffer, lineStart, limit);
+            // Lines that cannot be parsed are skipped as when the file is read, so that the tasks keep their
+            // positions, but they are only checked here, and decoded when they are needed
+            if (TextRecordChecker.isParseable(buffer, lineStart, lineEnd)) {
+                if (recordCount == recordStarts.length) {
+                    recordStarts = Arrays.copyOf(recordStarts, recordCount * 2);
+                }
+                recordStarts[recordCount++] = lineStart;
+            }
+            lineStart = lineEnd + 1;
+        }
+        return Arrays.copyOf(recordStarts, recordCount);
+    }
+
+    @Override
+    public Task decodeRecord(ByteBuffer buffer, int start) {
+        int lineEnd = MappedFileReader.findLineEnd(buffer, start, buffer.limit());
+        List<Task> tasks = decodeLines(buffer, start, lineEnd, Charset.defaultCharset());
+        if (tasks.isEmpty()) {
+            throw new IllegalArgumentException("The task at byte " + start + " cannot be parsed");
+        }
+        return tasks.get(0);
+    }
+
+    /**
+     * Returns whether line feeds and pipes are always encoded as single bytes of the same value in the charset,
+     * so that record boundaries can be found by scanning bytes.
+     *
+     * @param charset The charset of the task file.
+     * @return {@code true} if the bytes of the file can be scanned directly, {@code false} otherwise.
+     */
+    private static boolean isAsciiCompatible(Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8) || charset.newEncoder().maxBytesPerChar() == 1;
+    }
+
+    /**
+     * Reads the task file line by line through a reader.
+     *
+     * @param path    The task file to read.
+     * @param charset The charset of the task file.
+     * @return The tasks in the file, in order.
+     * @throws IOException If the file cannot be read.
+     */
+    private static List<Task> readLines(Path path, Charset charset) throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new FileReader(path.toFile(), charset))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                addTask(tasks, line);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Decodes the lines between the given indices of a buffer into tasks.
+     * A line ends with a line feed, optionally preceded by a carriage return, or at the end of the range.
+     *
+     * @param buffer  The buffer holding the contents of a task file.
+     * @param start   The index of the first byte of the first line.
+     * @param end     The index after the last byte to decode.
+     * @param charset The charset of the task file.
+     * @return The tasks in the range, in order.
+     */
+    static List<Task> decodeLines(ByteBuffer buffer, int start, int end, Charset charset) {
+        List<Task> tasks = new ArrayList<>();
+        byte[] lineBytes = new byte[256];
+        int lineStart = start;
+        while (lineStart < end) {
+            int lineEnd = MappedFileReader.findLineEnd(buffer, lineStart, end);
+            int contentEnd = lineEnd;
+            if (contentEnd > lineStart && buffer.get(contentEnd - 1) == '\r') {
+                contentEnd--;
+            }
+            int length = contentEnd - lineStart;
+            if (lineBytes.length < length) {
+                lineBytes = new byte[Math.max(length, lineBytes.length * 2)];
+            }
+            buffer.get(lineStart, lineBytes, 0, length);
+            addTask(tasks, new String(lineBytes, 0, length, charset));
+            lineStart = lineEnd + 1;
+        }
+        return tasks;
+    }
+
+    /**
+     * Decodes every line of a buffer into tasks, splitting the buffer into chunks that are decoded in parallel.
+     * Only absolute reads are made on the buffer, so the chunks can share it safely.
+     *
+     * @param buffer     The buffer holding the contents of a task file.
+     * @param charset    The charset of the task file.
+     * @param chunkCount The number of chunks to split the buffer into.
+     * @return The tasks in the buffer, in order.
+     */
+    static List<Task> decodeLinesInParallel(ByteBuffer buffer, Charset charset, int chunkCount) {
+        int[] chunkStarts = findChunkStarts(buffer, chunkCount);
+        List<List<Task>> chunks = IntStream.range(0, chunkCount)
+                .parallel()
+                .mapToObj(i -> decodeLines(buffer, chunkStarts[i], chunkStarts[i + 1], charset))
+                .collect(Collectors.toList());
+
+        int taskCount = 0;
+        for (List<Task> chunk : chunks) {
+            taskCount += chunk.size();
+        }
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (List<Task> chunk : chunks) {
+            tasks.addAll(chunk);
+        }
+        return tasks;
+    }
+
+    /**
+     * Splits a buffer into chunks of roughly equal size, moving each split forward to the start of a line.
+     *
+     * @param buffer     The buffer holding the contents of a task file.
+     * @param chunkCount The number of chunks to split the buffer into.
+     * @return The index at which each chunk starts, followed by the limit of the buffer.
+     */
+    private static int[] findChunkStarts(ByteBuffer buffer, int chunkCount) {
+        int limit = buffer.limit();
+        int[] chunkStarts = new int[chunkCount + 1];
+        for (int i = 1; i < chunkCount; i++) {
+            int target = Math.max((int) ((long) limit * i / chunkCount), chunkStarts[i - 1]);
+            int lineEnd = MappedFileReader.findLineEnd(buffer, target, limit);
+            chunkStarts[i] = Math.min(lineEnd + 1, limit);
+        }
+        chunkStarts[chunkCount] = limit;
+        return chunkStarts;
+    }
+
+    private static void addTask(List<Task> tasks, String line) {
+        Task task = StorageTaskParser.stringToTask(line);
+        if (task != null) {
+            tasks.add(task);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package introblaise.storage;
+
+/**
+ * Saves the task list on a background thread, coalescing bursts of changes into a single save.
+ * <p>
+ * Changes only mark the task list as dirty, which is O(1) for the caller. The writer thread waits for the
+ * coalescing window to pass after the first change, then takes one snapshot of the task list and saves it,
+ * so every change made during the window is written by the same save. {@link #flush()} blocks until every
+ * change marked so far has been saved, which makes shutdown deterministic.
+ */
+public class WriteBehindPersister {
+    private final Runnable saveAction;
+    private final long coalesceWindowMillis;
+    private final Thread writerThread;
+
+    private long requestedVersion;
+    private long savedVersion;
+    private long flushRequestedVersion;
+    private long firstUnsavedChangeNanos;
+    private boolean isRunning;
+
+    private long changeCount;
+    private long saveCount;
+    private long totalFlushLatencyNanos;
+    private long maxFlushLatencyNanos;
+
+    /**
+     * Constructs a {@code WriteBehindPersister} and starts its writer thread.
+     *
+     * @param saveAction           Takes a snapshot of the task list and saves it to {@link Storage}.
+     * @param coalesceWindowMillis How long to wait after the first unsaved change before saving.
+     */
+    public WriteBehindPersister(Runnable saveAction, long coalesceWindowMillis) {
+        this.saveAction = saveAction;
+        this.coalesceWindowMillis = coalesceWindowMillis;
+        this.isRunning = true;
+        this.writerThread = new Thread(this::runWriter, "introblaise-write-behind");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Marks the task list as changed since it was last saved.
+     * This method returns immediately; the change is saved later by the writer thread.
+     */
+    public synchronized void markDirty() {
+        if (requestedVersion == savedVersion) {
+            firstUnsavedChangeNanos = System.nanoTime();
+        }
+        requestedVersion++;
+        changeCount++;
+        notifyAll();
+    }
+
+    /**
+     * Blocks until every change marked before this call has been saved.
+     */
+    public synchronized void flush() {
+        long targetVersion = requestedVersion;
+        flushRequestedVersion = Math.max(flushRequestedVersion, targetVersion);
+        notifyAll();
+        while (savedVersion < targetVersion && writerThread.isAlive()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Saves every pending change and stops the writer thread.
+     */
+    public void close() {
+        flush();
+        synchronized (this) {
+            isRunning = false;
+            notifyAll();
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs the writer loop until the persister is closed.
+     */
+    private void runWriter() {
+        while (true) {
+            long version;
+            synchronized (this) {
+                try {
+                    waitForChanges();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (requestedVersion == savedVersion) {
+                    return;
+                }
+                version = requestedVersion;
+            }
+            saveAction.run();
+            recordSave(version);
+        }
+    }
+
+    /**
+     * Waits until there are unsaved changes and the coalescing window has passed, or the persister is closed.
+     * The window is cut short when a caller is waiting in {@link #flush()} or the persister is closed.
+     * Whether a flush is pending is checked again after every wakeup, so a flush requested before the writer
+     * thread starts waiting out the window is not missed.
+     *
+     * @throws InterruptedException If the writer thread is interrupted while waiting.
+     */
+    private void waitForChanges() throws InterruptedException {
+        while (isRunning && requestedVersion == savedVersion) {
+            wait();
+        }
+        long deadlineNanos = firstUnsavedChangeNanos + coalesceWindowMillis * 1_000_000;
+        while (isRunning && flushRequestedVersion <= savedVersion) {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return;
+            }
+            wait(remainingNanos / 1_000_000, (int) (remainingNanos % 1_000_000));
+        }
+    }
+
+    /**
+     * Records that every change up to the given version has been saved, and wakes up waiting callers.
+     *
+     * @param version The version of the task list that was saved.
+     */
+    private synchronized void recordSave(long version) {
+        long latencyNanos = System.nanoTime() - firstUnsavedChangeNanos;
+        totalFlushLatencyNanos += latencyNanos;
+        maxFlushLatencyNanos = Math.max(maxFlushLatencyNanos, latencyNanos);
+        saveCount++;
+        savedVersion = version;
+        if (requestedVersion != savedVersion) {
+            firstUnsavedChangeNanos = System.nanoTime();
+        }
+        notifyAll();
+    }
+
+    /**
+     * Returns the number of changes that have been marked.
+     *
+     * @return The number of changes.
+     */
+    public synchronized long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Returns the number of saves the writer thread has made.
+     *
+     * @return The number of saves.
+     */
+    public synchronized long getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Returns the number of changes that were written by a save made for an earlier change,
+     * instead of needing a save of their own.
+     *
+     * @return The number of coalesced changes.
+     */
+    public synchronized long getCoalescedWriteCount() {
+        long savedChanges = changeCount - (requestedVersion - savedVersion);
+        return savedChanges - saveCount;
+    }
+
+    /**
+     * Returns the average time between the first unsaved change and the save that wrote it.
+     *
+     * @return The average flush latency in milliseconds.
+     */
+    public synchronized double getAverageFlushLatencyMillis() {
+        return saveCount == 0 ? 0 : totalFlushLatencyNanos / 1e6 / saveCount;
+    }
+
+    /**
+     * Returns the longest time between the first unsaved change and the save that wrote it.
+     *
+     * @return The maximum flush latency in milliseconds.
+     */
+    public synchronized double getMaxFlushLatencyMillis() {
+        return maxFlushLatencyNanos / 1e6;
+    }
+
+    /**
+     * Returns a summary of the writes made by this persister.
+     *
+     * @return The summary of the writes.
+     */
+    public synchronized String getStats() {
+        return String.format("changes: %d, saves: %d, coalesced: %d, flush latency avg: %.2f ms, max: %.2f ms",
+                changeCount, saveCount, getCoalescedWriteCount(), getAverageFlushLatencyMillis(),
+                getMaxFlushLatencyMillis());
+    }
+}
@@ -0,0 +1,235 @@
+package introblaise.task;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+
+import introblaise.tasktype.Event;
+
+/**
+ * Holds events in an interval tree, to find every event that overlaps a period of time.
+ * <p>
+ * The tree is a treap ordered by the start of each event, where every node also records the latest end
+ * of any event below it. A query skips every subtree that ends before the period starts, and stops going right
+ * once events start after the period ends, so it takes {@code O(log n + k)} expected time for {@code k}
+ * overlapping events.
+ * <p>
+ * Times are kept as seconds since the epoch in UTC, only to be compared, so that nodes do not hold on to
+ * {@code LocalDateTime} objects.
+ */
+public class EventIntervalTree {
+    private final Random random;
+    private Node root;
+    private int size;
+
+    /**
+     * A node of the tree, holding one event.
+     */
+    private static final class Node {
+        private final long start;
+        private final long end;
+        private final Event event;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(long start, long end, Event event, int priority) {
+            this.start = start;
+            this.end = end;
+            this.event = event;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+
+    /**
+     * Constructs an empty {@code EventIntervalTree}.
+     */
+    public EventIntervalTree() {
+        this.random = new Random();
+        this.root = null;
+        this.size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Converts a time to the number of seconds since the epoch, as it is compared in the tree.
+     *
+     * @param dateTime The time to convert.
+     * @return The number of seconds since the epoch in UTC.
+     */
+    private static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Adds an event to the tree.
+     * Events without a valid start or end are ignored, and an event that ends before it starts is treated
+     * as ending when it starts.
+     *
+     * @param event The event to add.
+     */
+    public void add(Event event) {
+        if (event.getParsedFrom() == null || event.getParsedTo() == null) {
+            return;
+        }
+        long start = toSeconds(event.getParsedFrom());
+        long end = Math.max(start, toSeconds(event.getParsedTo()));
+        root = insert(root, new Node(start, end, event, random.nextInt()));
+        size++;
+    }
+
+    private Node insert(Node node, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode.start, newNode.event, node) < 0) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Removes an event from the tree.
+     *
+     * @param event The event to remove.
+     * @return {@code true} if the event was in the tree, {@code false} otherwise.
+     */
+    public boolean remove(Event event) {
+        if (event.getParsedFrom() == null || event.getParsedTo() == null) {
+            return false;
+        }
+        int oldSize = size;
+        root = delete(root, toSeconds(event.getParsedFrom()), event);
+        return size < oldSize;
+    }
+
+    private Node delete(Node node, long start, Event event) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(start, event, node);
+        if (comparison < 0) {
+            node.left = delete(node.left, start, event);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, start, event);
+        } else if (node.event == event) {
+            size--;
+            return merge(node.left, node.right);
+        } else {
+            // Another event with the same start and ID, which can only come from a task file edited by hand.
+            int oldSize = size;
+            node.left = delete(node.left, start, event);
+            if (size == oldSize) {
+                node.right = delete(node.right, start, event);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    /**
+     * Joins two trees, where every event in the left tree comes before every event in the right tree.
+     */
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    /**
+     * Removes every event from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Adds every event that overlaps the given period to a list, in order of their start.
+     * An event overlaps the period if it starts no later than the period ends, and ends no earlier than
+     * the period starts.
+     *
+     * @param from   The start of the period.
+     * @param to     The end of the period.
+     * @param events The list to add the overlapping events to.
+     */
+    public void findOverlapping(LocalDateTime from, LocalDateTime to, List<Task> events) {
+        collect(root, toSeconds(from), toSeconds(to), events);
+    }
+
+    private void collect(Node node, long from, long to, List<Task> events) {
+        while (node != null && node.maxEnd >= from) {
+            collect(node.left, from, to, events);
+            if (node.start > to) {
+                return;
+            }
+            if (node.end >= from) {
+                events.add(node.event);
+            }
+            node = node.right;
+        }
+    }
+
+    /**
+     * Compares an event with the event of a node, by start and then by ID.
+     */
+    private static int compare(long start, Event event, Node node) {
+        int comparison = Long.compare(start, node.start);
+        return comparison != 0 ? comparison : Integer.compare(event.getId(), node.event.getId());
+    }
+
+    private static void update(Node node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+}
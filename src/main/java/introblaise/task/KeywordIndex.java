@@ -0,0 +1,137 @@
+package introblaise.task;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes tasks by the words in their descriptions, to find tasks that contain whole words.
+ * <p>
+ * Each word, in lower case, maps to a posting list of the IDs of the tasks that contain it, sorted in increasing
+ * order. A query is a list of groups of words, where a task matches if it contains every word of any group.
+ * The tasks containing every word of a group are found by intersecting the posting lists of its words,
+ * starting from the shortest, and the groups are then merged, so a query never looks at tasks that do not
+ * contain at least one of its words.
+ */
+public class KeywordIndex {
+    private final Map<String, PostingList> postingsByWord;
+
+    /**
+     * Constructs an empty {@code KeywordIndex}.
+     */
+    public KeywordIndex() {
+        this.postingsByWord = new HashMap<>();
+    }
+
+    /**
+     * Splits text into its words, in lower case.
+     * A word is a run of letters and digits, so punctuation does not need to be typed to find a task.
+     *
+     * @param text The text to split.
+     * @return The words of the text, in order and without duplicates.
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns whether a task matches a query, by checking its description directly.
+     * This gives the same result as the index, for task lists that are not indexed.
+     *
+     * @param task  The task.
+     * @param query The groups of words, where the task must contain every word of any group.
+     * @return {@code true} if the task matches the query, {@code false} otherwise.
+     */
+    public static boolean matches(Task task, List<List<String>> query) {
+        Set<String> words = tokenize(task.getDescription());
+        for (List<String> group : query) {
+            if (words.containsAll(group)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the words of a task's description to the index.
+     *
+     * @param task The task to add, which must have an ID.
+     */
+    public void add(Task task) {
+        for (String word : tokenize(task.getDescription())) {
+            postingsByWord.computeIfAbsent(word, key -> new PostingList()).add(task.getId());
+        }
+    }
+
+    /**
+     * Removes a task from the posting lists of the words in its description.
+     *
+     * @param task The task to remove.
+     */
+    public void remove(Task task) {
+        for (String word : tokenize(task.getDescription())) {
+            PostingList postings = postingsByWord.get(word);
+            if (postings == null) {
+                continue;
+            }
+            postings.remove(task.getId());
+            if (postings.size() == 0) {
+                postingsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    public void clear() {
+        postingsByWord.clear();
+    }
+
+    public int getWordCount() {
+        return postingsByWord.size();
+    }
+
+    /**
+     * Finds the IDs of the tasks that match a query.
+     *
+     * @param query The groups of words, in lower case, where a task must contain every word of any group.
+     * @return The IDs of the matching tasks, in increasing order.
+     */
+    public int[] find(List<List<String>> query) {
+        int[] result = PostingList.NO_IDS;
+        for (List<String> group : query) {
+            result = PostingList.union(result, findAll(group));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the IDs of the tasks that contain every word in a group.
+     */
+    private int[] findAll(List<String> group) {
+        List<PostingList> postings = new ArrayList<>(group.size());
+        for (String word : group) {
+            PostingList wordPostings = postingsByWord.get(word);
+            if (wordPostings == null) {
+                return PostingList.NO_IDS;
+            }
+            postings.add(wordPostings);
+        }
+        return PostingList.intersectAll(postings);
+    }
+}
@@ -0,0 +1,151 @@
+package introblaise.task;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import introblaise.storage.TaskFileIndex;
+
+/**
+ * Represents a read-only list of tasks that are decoded from the task file only when they are needed.
+ * <p>
+ * Tasks fetched with {@link #get(int)} are kept in a least-recently-used cache, so that the tasks being
+ * worked with are decoded once and stay the same objects. Iterating over the list, for example to find tasks,
+ * reuses cached tasks but does not add the rest to the cache, so that a full scan does not evict them.
+ * Such tasks are decoded outside the lock on the list, so that several threads can scan it at once.
+ * <p>
+ * The list cannot be changed. {@link TaskList} copies it into a regular list with {@link #materialize()}
+ * before its first change.
+ */
+public class LazyTaskList extends AbstractList<Task> {
+    public static final int DEFAULT_CACHE_CAPACITY = 1024;
+
+    private final TaskFileIndex index;
+    private final Map<Integer, Task> cache;
+    private final AtomicLong decodeCount;
+
+    /**
+     * Constructs a {@code LazyTaskList} over the tasks in an indexed task file.
+     *
+     * @param index         The index of the task file.
+     * @param cacheCapacity The number of decoded tasks to keep in the cache.
+     */
+    public LazyTaskList(TaskFileIndex index, int cacheCapacity) {
+        this.index = index;
+        this.decodeCount = new AtomicLong();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Task> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the task at the given position, decoding it if it is not in the cache.
+     *
+     * @param taskIndex The position of the task, starting from 0.
+     * @return The task at the given position.
+     */
+    @Override
+    public synchronized Task get(int taskIndex) {
+        Objects.checkIndex(taskIndex, size());
+        Task task = cache.get(taskIndex);
+        if (task == null) {
+            task = decode(taskIndex);
+            cache.put(taskIndex, task);
+        }
+        return task;
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns an iterator over the tasks, which uses cached tasks but does not add decoded tasks to the cache.
+     *
+     * @return An iterator over the tasks, in order.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<>() {
+            private int nextIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size();
+            }
+
+            @Override
+            public Task next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return peek(nextIndex++);
+            }
+        };
+    }
+
+    /**
+     * Copies every task into a regular list that can be changed.
+     * Tasks that are in the cache are copied as they are, so that callers holding them still hold
+     * the tasks in the new list.
+     *
+     * @return The tasks, in order.
+     */
+    public synchronized ArrayList<Task> materialize() {
+        ArrayList<Task> tasks = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            tasks.add(peek(i));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the number of tasks decoded from the task file so far.
+     *
+     * @return The number of decoded tasks.
+     */
+    public long getDecodeCount() {
+        return decodeCount.get();
+    }
+
+    /**
+     * Returns the task at the given position, without adding it to the cache.
+     * Only the cache is looked up while holding the lock on the list, so this can be called from several threads.
+     *
+     * @param taskIndex The position of the task, starting from 0.
+     * @return The task at the given position.
+     */
+    Task peek(int taskIndex) {
+        Task task;
+        synchronized (this) {
+            task = cache.get(taskIndex);
+        }
+        return task != null ? task : decode(taskIndex);
+    }
+
+    /**
+     * Decodes the task at the given position from the task file.
+     * A task without an ID comes from a file written before tasks had IDs, where every task is without one,
+     * so it is numbered by its position, just as it would be when every task is loaded.
+     *
+     * @param taskIndex The position of the task, starting from 0.
+     * @return The decoded task.
+     */
+    private Task decode(int taskIndex) {
+        decodeCount.incrementAndGet();
+        Task task = index.decode(taskIndex);
+        if (task.getId() == 0) {
+            task.setId(taskIndex + 1);
+        }
+        return task;
+    }
+}
@@ -0,0 +1,99 @@
+package introblaise.task;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Scans a list of tasks for those that match a predicate, splitting large lists across the common
+ * fork-join pool.
+ * <p>
+ * Tasks are either fetched by position, so that a {@link LazyTaskList} can decode them on several threads
+ * at once, or streamed from the list's own spliterator, so that a {@link TaskSnapshot} is split along its
+ * subtrees instead of being fetched one position at a time. The results are always in the order of the list.
+ * Lists smaller than the threshold, or scans on a machine with a single core, run on the calling thread,
+ * since splitting them costs more than it saves.
+ */
+public class ParallelTaskScanner {
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 50_000;
+
+    private final int parallelThreshold;
+
+    /**
+     * Constructs a {@code ParallelTaskScanner} that scans lists of at least the given size in parallel.
+     *
+     * @param parallelThreshold The smallest number of tasks to scan in parallel.
+     */
+    public ParallelTaskScanner(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Returns the positions to scan, as a parallel stream if there are enough of them.
+     *
+     * @param size The number of tasks in the list.
+     * @return The positions from 0 to {@code size - 1}, in order.
+     */
+    private IntStream positions(int size) {
+        IntStream positions = IntStream.range(0, size);
+        if (isParallel(size)) {
+            return positions.parallel();
+        }
+        return positions;
+    }
+
+    /**
+     * Returns whether a list of the given size is scanned in parallel.
+     *
+     * @param size The number of tasks in the list.
+     * @return {@code true} if the list is scanned in parallel, {@code false} otherwise.
+     */
+    private boolean isParallel(int size) {
+        return size >= parallelThreshold && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Finds the tasks that match a predicate.
+     *
+     * @param size      The number of tasks in the list.
+     * @param tasks     Fetches the task at a position, which must be safe to call from several threads.
+     * @param predicate The predicate to test each task with.
+     * @return The matching tasks, in the order of the list.
+     */
+    public List<Task> filter(int size, IntFunction<Task> tasks, Predicate<Task> predicate) {
+        return positions(size).mapToObj(tasks).filter(predicate).collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the tasks in a list that match a predicate, splitting the list by its own spliterator.
+     *
+     * @param tasks     The tasks to scan, whose spliterator must be safe to split across threads.
+     * @param predicate The predicate to test each task with.
+     * @return The matching tasks, in the order of the list.
+     */
+    public List<Task> filter(List<Task> tasks, Predicate<Task> predicate) {
+        return StreamSupport.stream(tasks.spliterator(), isParallel(tasks.size()))
+                .filter(predicate)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the positions of the tasks that match a predicate.
+     *
+     * @param size      The number of tasks in the list.
+     * @param tasks     Fetches the task at a position, which must be safe to call from several threads.
+     * @param predicate The predicate to test each task with.
+     * @return The positions of the matching tasks, in increasing order.
+     */
+    public int[] findPositions(int size, IntFunction<Task> tasks, Predicate<Task> predicate) {
+        return positions(size).filter(position -> predicate.test(tasks.apply(position))).toArray();
+    }
+}
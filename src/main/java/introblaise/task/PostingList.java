@@ -0,0 +1,139 @@
+package introblaise.task;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A sorted list of task IDs, stored in a growable {@code int} array, as kept for each word or trigram
+ * by the indexes of a {@link TaskList}.
+ */
+class PostingList {
+    static final int[] NO_IDS = new int[0];
+
+    private int[] ids = new int[2];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return ids.length;
+    }
+
+    /**
+     * Returns a copy of the IDs in the list.
+     *
+     * @return The IDs, in increasing order.
+     */
+    int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Adds an ID, which is usually larger than every ID already in the list.
+     * Adding an ID that is already in the list has no effect.
+     *
+     * @param id The ID to add.
+     */
+    void add(int id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                insertAt(-position - 1, id);
+            }
+            return;
+        }
+        insertAt(size, id);
+    }
+
+    private void insertAt(int position, int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        ids[position] = id;
+        size++;
+    }
+
+    /**
+     * Removes an ID from the list, if it is in the list.
+     *
+     * @param id The ID to remove.
+     */
+    void remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Finds the IDs that are in every one of the given posting lists.
+     * The lists are intersected starting from the shortest, so the work done depends on the shortest list.
+     *
+     * @param postings The posting lists to intersect.
+     * @return The IDs in every list, in increasing order.
+     */
+    static int[] intersectAll(List<PostingList> postings) {
+        if (postings.isEmpty()) {
+            return NO_IDS;
+        }
+        postings.sort((first, second) -> Integer.compare(first.size, second.size));
+        PostingList shortest = postings.get(0);
+        int[] result = Arrays.copyOf(shortest.ids, shortest.size);
+        for (int i = 1; i < postings.size() && result.length > 0; i++) {
+            result = postings.get(i).retainAll(result);
+        }
+        return result;
+    }
+
+    /**
+     * Keeps the given IDs that are also in this list.
+     * Each ID is found by a binary search, since the IDs are usually far fewer than this list.
+     */
+    private int[] retainAll(int[] candidateIds) {
+        int[] result = new int[candidateIds.length];
+        int count = 0;
+        int from = 0;
+        for (int id : candidateIds) {
+            int position = Arrays.binarySearch(ids, from, size, id);
+            if (position >= 0) {
+                result[count++] = id;
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Merges two sorted arrays of IDs, without duplicates.
+     *
+     * @param first  The first array of IDs, in increasing order.
+     * @param second The second array of IDs, in increasing order.
+     * @return The IDs in either array, in increasing order.
+     */
+    static int[] union(int[] first, int[] second) {
+        if (first.length == 0) {
+            return second;
+        }
+        int[] result = new int[first.length + second.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length || j < second.length) {
+            if (j == second.length || (i < first.length && first[i] < second[j])) {
+                result[count++] = first[i++];
+            } else if (i == first.length || second[j] < first[i]) {
+                result[count++] = second[j++];
+            } else {
+                result[count++] = first[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
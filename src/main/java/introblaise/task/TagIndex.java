@@ -0,0 +1,84 @@
+package introblaise.task;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Indexes tagged tasks by their tags.
+ * <p>
+ * Each tag maps to a posting list of the IDs of the tasks with that tag, sorted in increasing order, so listing
+ * the tasks with a tag never looks at untagged tasks or tasks with other tags. The index must be told about
+ * a task before its tag changes, since a task is found in the index by its current tag.
+ */
+public class TagIndex {
+    private final Map<String, PostingList> postingsByTag;
+
+    /**
+     * Constructs an empty {@code TagIndex}.
+     */
+    public TagIndex() {
+        this.postingsByTag = new HashMap<>();
+    }
+
+    /**
+     * Adds a task to the index under its tag, if it is tagged.
+     *
+     * @param task The task to add, which must have an ID.
+     */
+    public void add(Task task) {
+        if (task.getIsTagged()) {
+            postingsByTag.computeIfAbsent(task.getTag(), key -> new PostingList()).add(task.getId());
+        }
+    }
+
+    /**
+     * Removes a task from the index under its tag, if it is tagged.
+     *
+     * @param task The task to remove.
+     */
+    public void remove(Task task) {
+        if (!task.getIsTagged()) {
+            return;
+        }
+        PostingList postings = postingsByTag.get(task.getTag());
+        if (postings == null) {
+            return;
+        }
+        postings.remove(task.getId());
+        if (postings.size() == 0) {
+            postingsByTag.remove(task.getTag());
+        }
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    public void clear() {
+        postingsByTag.clear();
+    }
+
+    /**
+     * Finds the IDs of the tasks with a tag.
+     *
+     * @param tag The tag, in lower case.
+     * @return The IDs of the tasks with the tag, in increasing order.
+     */
+    public int[] find(String tag) {
+        PostingList postings = postingsByTag.get(tag);
+        return postings == null ? PostingList.NO_IDS : postings.toArray();
+    }
+
+    /**
+     * Returns the number of tasks with each tag.
+     *
+     * @return The number of tasks with each tag, sorted by tag.
+     */
+    public Map<String, Integer> getTagCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Map.Entry<String, PostingList> entry : postingsByTag.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().size());
+        }
+        return counts;
+    }
+}
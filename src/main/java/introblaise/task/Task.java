@@ -4,8 +4,12 @@ package introblaise.task;
  * Represents a generic task with a description and completion status.
  * The {@code Task} class serves as a base class for different types of tasks.
  * It provides methods to manage the task's description and completion status.
+ * <p>
+ * Each task in a {@link TaskList} also has an ID, which stays the same when other tasks are added or deleted,
+ * unlike its position in the list. An ID of 0 means that the task has not been given an ID yet.
  */
 public class Task {
+    private int id;
     private final String description;
     private boolean isDone;
     private String tag;
@@ -27,6 +31,14 @@ public class Task {
         return description;
     }
 
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
     /**
      * Returns the status icon representing whether the task is done.
      *
@@ -0,0 +1,143 @@
+package introblaise.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import introblaise.tasktype.Deadline;
+import introblaise.tasktype.Event;
+
+/**
+ * Indexes deadlines and events by when they are scheduled.
+ * A deadline is scheduled for the date it is due, and an event for every date from its start to its end.
+ * <p>
+ * Deadlines are kept in a map sorted by date, and events in an {@link EventIntervalTree}, so the tasks
+ * scheduled between two dates are found in {@code O(log n + k)} time for {@code k} matching tasks, without
+ * parsing any date strings.
+ */
+public class TaskDateIndex {
+    private final NavigableMap<LocalDate, List<Task>> deadlinesByDate;
+    private final EventIntervalTree events;
+
+    /**
+     * Constructs an empty {@code TaskDateIndex}.
+     */
+    public TaskDateIndex() {
+        this.deadlinesByDate = new TreeMap<>();
+        this.events = new EventIntervalTree();
+    }
+
+    /**
+     * Returns whether a task is scheduled for any date in a range.
+     * This checks a single task in the same way as the index, for task lists that are not indexed.
+     *
+     * @param task The task.
+     * @param from The first date of the range.
+     * @param to   The last date of the range.
+     * @return {@code true} if the task is a deadline due in the range, or an event that overlaps it.
+     */
+    public static boolean isScheduledBetween(Task task, LocalDate from, LocalDate to) {
+        if (task instanceof Deadline) {
+            LocalDateTime dateTime = ((Deadline) task).getDateTime();
+            return dateTime != null && !dateTime.toLocalDate().isBefore(from) && !dateTime.toLocalDate().isAfter(to);
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            if (event.getParsedFrom() == null || event.getParsedTo() == null) {
+                return false;
+            }
+            LocalDate startDate = event.getParsedFrom().toLocalDate();
+            LocalDate endDate = event.getParsedTo().toLocalDate();
+            LocalDate lastDate = endDate.isBefore(startDate) ? startDate : endDate;
+            return !startDate.isAfter(to) && !lastDate.isBefore(from);
+        }
+        return false;
+    }
+
+    /**
+     * Adds a task to the index.
+     * Tasks that are not scheduled for a date are ignored.
+     *
+     * @param task The task to add.
+     */
+    public void add(Task task) {
+        if (task instanceof Deadline) {
+            LocalDateTime dateTime = ((Deadline) task).getDateTime();
+            if (dateTime != null) {
+                deadlinesByDate.computeIfAbsent(dateTime.toLocalDate(), key -> new ArrayList<>(2)).add(task);
+            }
+        } else if (task instanceof Event) {
+            events.add((Event) task);
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task The task to remove.
+     */
+    public void remove(Task task) {
+        if (task instanceof Event) {
+            events.remove((Event) task);
+            return;
+        }
+        LocalDateTime dateTime = task instanceof Deadline ? ((Deadline) task).getDateTime() : null;
+        List<Task> tasks = dateTime == null ? null : deadlinesByDate.get(dateTime.toLocalDate());
+        if (tasks == null) {
+            return;
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.get(i) == task) {
+                tasks.remove(i);
+                break;
+            }
+        }
+        if (tasks.isEmpty()) {
+            deadlinesByDate.remove(dateTime.toLocalDate());
+        }
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    public void clear() {
+        deadlinesByDate.clear();
+        events.clear();
+    }
+
+    /**
+     * Returns the tasks scheduled for a date, in the order of the task list.
+     *
+     * @param date The date.
+     * @return The deadlines due on the date and the events that take place on it.
+     */
+    public List<Task> getTasksOn(LocalDate date) {
+        return getTasksBetween(date, date);
+    }
+
+    /**
+     * Returns the tasks scheduled for any date in a range, in the order of the task list.
+     * Tasks are always added to the end of the task list with the next ID, so they are put back in that order
+     * by sorting them by ID.
+     *
+     * @param from The first date of the range.
+     * @param to   The last date of the range.
+     * @return The deadlines due in the range and the events that overlap it.
+     */
+    public List<Task> getTasksBetween(LocalDate from, LocalDate to) {
+        List<Task> tasks = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return tasks;
+        }
+        for (List<Task> deadlines : deadlinesByDate.subMap(from, true, to, true).values()) {
+            tasks.addAll(deadlines);
+        }
+        events.findOverlapping(from.atStartOfDay(), to.atTime(LocalTime.MAX), tasks);
+        tasks.sort(Comparator.comparingInt(Task::getId));
+        return tasks;
+    }
+}
@@ -0,0 +1,138 @@
+package introblaise.task;
+
+import java.util.Arrays;
+
+/**
+ * Maps task IDs to tasks, using open addressing over primitive {@code int} keys.
+ * Unlike a {@code HashMap<Integer, Task>}, looking up a task does not box its ID, and the map holds
+ * two flat arrays instead of one entry object per task.
+ * <p>
+ * IDs must be positive, since 0 marks an empty slot. Removed entries are filled by shifting later entries
+ * of the same probe sequence back, so lookups never have to skip over deleted slots.
+ */
+public class TaskIdMap {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys;
+    private Task[] values;
+    private int size;
+
+    /**
+     * Constructs an empty {@code TaskIdMap}.
+     */
+    public TaskIdMap() {
+        this.keys = new int[INITIAL_CAPACITY];
+        this.values = new Task[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the task with the given ID.
+     *
+     * @param id The ID of the task.
+     * @return The task, or {@code null} if there is no task with the ID.
+     */
+    public Task get(int id) {
+        int slot = findSlot(id);
+        return keys[slot] == id ? values[slot] : null;
+    }
+
+    /**
+     * Maps the ID of the task to the task, replacing any task with the same ID.
+     *
+     * @param task The task to add, which must have a positive ID.
+     */
+    public void put(Task task) {
+        assert task.getId() > 0 : "Only tasks with an ID can be mapped";
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+        int slot = findSlot(task.getId());
+        if (keys[slot] == 0) {
+            keys[slot] = task.getId();
+            size++;
+        }
+        values[slot] = task;
+    }
+
+    /**
+     * Removes the task with the given ID.
+     *
+     * @param id The ID of the task to remove.
+     */
+    public void remove(int id) {
+        int slot = findSlot(id);
+        if (keys[slot] != id) {
+            return;
+        }
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0) {
+            int home = hash(keys[next]) & mask;
+            // Move the entry back into the gap unless its home slot lies cyclically between the gap and it
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+        size--;
+    }
+
+    /**
+     * Removes every task from the map.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the slot holding the given ID, or the empty slot where it would be added.
+     *
+     * @param id The ID to look for.
+     * @return The index of the slot.
+     */
+    private int findSlot(int id) {
+        int mask = keys.length - 1;
+        int slot = hash(id) & mask;
+        while (keys[slot] != 0 && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Task[] oldValues = values;
+        keys = new int[capacity];
+        values = new Task[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads consecutive IDs across the table, since IDs are handed out in increasing order.
+     *
+     * @param id The ID to hash.
+     * @return The hash of the ID.
+     */
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -3,22 +3,80 @@ package introblaise.task;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
-import introblaise.exceptions.EmptyDateException;
 import introblaise.exceptions.EmptyTaskListException;
+import introblaise.jfr.IndexUpdateEvent;
+import introblaise.metrics.MetricsRegistry;
 import introblaise.parsers.StorageTaskParser;
+import introblaise.storage.JournalOperation;
 import introblaise.storage.Storage;
-import introblaise.tasktype.Deadline;
-import introblaise.tasktype.Event;
+import introblaise.storage.TaskFileIndex;
+import introblaise.storage.WriteBehindPersister;
 
 /**
  * Manages a list of tasks, allowing tasks to be added, removed, retrieved, and displayed.
  * The {@code TaskList} class serves as a central utility for handling user tasks,
  * providing operations to interact with and manipulate the task list.
+ * <p>
+ * A task list can be used by several threads at once, such as several front-ends sharing it. Changes are
+ * made one at a time under the write lock of a {@link StampedLock}, while reads share its read lock, so that
+ * reads never wait for each other, and a {@link WriteBehindPersister} can take a consistent snapshot from its
+ * writer thread. Finding tasks by keyword first reads the task list optimistically, without taking any lock,
+ * and only reads it again under the read lock if a change was made in the meantime.
+ * <p>
+ * The tasks are kept in a {@link TaskSnapshot}, and every change publishes a new snapshot, which shares most
+ * of its structure with the previous one. Adding or removing a task, wherever it is in the list, therefore takes
+ * O(log n) time. Listing tasks reads the latest snapshot without any lock or copy, and sees the task list as it
+ * was after a single change.
+ * <p>
+ * A task list can also be opened lazily, for archived lists that are mostly read. It then only keeps an index
+ * of where each task is stored in the task file, and decodes tasks when they are listed or found, through a
+ * {@link LazyTaskList}. The first change made to a lazy task list loads every task, since the whole list
+ * has to be rewritten anyway.
+ * <p>
+ * Every task is given an ID when it is added, which is one more than the largest ID in the list, so tasks
+ * are always stored in increasing order of ID. A task can then be found by its ID through a {@link TaskIdMap},
+ * and its position found by a binary search, instead of scanning the whole list.
+ * <p>
+ * Deadlines and events are also indexed by the dates they are scheduled for, through a {@link TaskDateIndex},
+ * so that finding the tasks on a date, or between two dates, does not scan the whole list.
+ * Tasks are indexed by the words in their descriptions as well, through a {@link KeywordIndex}, to find the
+ * tasks that contain a combination of words. Finding tasks that contain a keyword anywhere can optionally be
+ * narrowed down by a {@link TrigramIndex}, within a memory budget. Tagged tasks are indexed by their tags,
+ * through a {@link TagIndex}, so that listing the tasks with a tag does not look at any other task.
+ * <p>
+ * Searches that no index covers, such as every search on a lazy task list, scan the tasks through
+ * a {@link ParallelTaskScanner}, which splits large task lists across cores.
+ * <p>
+ * Given a {@link MetricsRegistry}, the time spent persisting each change is reported to it, to be attributed
+ * to the command that made the change. Index updates are recorded as Java Flight Recorder events.
  */
 public class TaskList {
-    private final ArrayList<Task> tasksList;
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private List<Task> tasksList;
+    private final TaskIdMap tasksById;
+    private final TaskDateIndex tasksByDate;
+    private final KeywordIndex tasksByWord;
+    private volatile TrigramIndex tasksBySubstring;
+    private final TagIndex tasksByTag;
+    private ParallelTaskScanner scanner;
     private final Storage storage;
+    private final StampedLock lock;
+    private volatile WriteBehindPersister persister;
+    private volatile TaskSnapshot snapshot;
+    private volatile boolean isSavingDeferred;
+    private volatile boolean hasUnsavedChanges;
+    private volatile MetricsRegistry metrics;
+    private int nextId;
 
     /**
      * Constructs a new {@code TaskList} for users to add tasks in it.
@@ -26,16 +84,237 @@ public class TaskList {
      * @param storage The storage handler used to persist and retrieve tasks.
      */
     public TaskList(Storage storage) {
+        this(storage, false);
+    }
+
+    /**
+     * Constructs a new {@code TaskList}, which either loads every task from storage or opens them lazily.
+     * If the task file cannot be indexed, for example because the journal holds changes that have not been
+     * compacted yet, every task is loaded even if the task list was meant to be lazy.
+     *
+     * @param storage The storage handler used to persist and retrieve tasks.
+     * @param isLazy  Whether tasks are only decoded from the task file when they are needed.
+     */
+    public TaskList(Storage storage, boolean isLazy) {
         this.storage = storage;
-        this.tasksList = new ArrayList<>();
-        loadTask();
+        this.lock = new StampedLock();
+        this.snapshot = TaskSnapshot.empty();
+        this.tasksList = snapshot;
+        this.tasksById = new TaskIdMap();
+        this.tasksByDate = new TaskDateIndex();
+        this.tasksByWord = new KeywordIndex();
+        this.tasksByTag = new TagIndex();
+        this.scanner = new ParallelTaskScanner(ParallelTaskScanner.DEFAULT_PARALLEL_THRESHOLD);
+        this.nextId = 1;
+        TaskFileIndex index = isLazy ? storage.openTaskIndex() : null;
+        if (index != null) {
+            this.snapshot = null;
+            this.tasksList = new LazyTaskList(index, LazyTaskList.DEFAULT_CACHE_CAPACITY);
+            if (!tasksList.isEmpty()) {
+                nextId = tasksList.get(tasksList.size() - 1).getId() + 1;
+            }
+        } else {
+            loadTask();
+        }
     }
 
     /**
      * Loads tasks from storage and populates the task list.
      */
     public void loadTask() {
-        tasksList.addAll(storage.loadTasksFromFile());
+        List<Task> tasks = storage.loadTasksFromFile();
+        long stamp = lock.writeLock();
+        try {
+            IndexUpdateEvent event = new IndexUpdateEvent();
+            event.begin();
+            for (Task task : tasks) {
+                indexTask(task);
+                nextId = Math.max(nextId, task.getId() + 1);
+            }
+            commitIndexUpdate(event, "load", tasks.size());
+            List<Task> loadedTasks = new ArrayList<>(tasksList);
+            loadedTasks.addAll(tasks);
+            snapshot = TaskSnapshot.of(loadedTasks);
+            tasksList = snapshot;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Reads the task list without taking a lock, and reads it again under the read lock if the task list
+     * was changed while it was being read. This must only be used for reads that only ever loop over the task
+     * list itself, since a read made during a change may see the list halfway through it.
+     *
+     * @param reader Reads the task list, without changing it.
+     * @param <T>    The type of the result of the read.
+     * @return The result of the read.
+     */
+    private <T> T readOptimistically(Supplier<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = reader.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+                // The task list was changed during the read, which may have caused the exception
+            }
+        }
+        return read(reader);
+    }
+
+    /**
+     * Reads the latest snapshot of the task list without taking a lock. A lazy task list has no snapshot
+     * until it is first changed, so it is read optimistically instead.
+     *
+     * @param reader Reads a list of tasks, without changing it.
+     * @param <T>    The type of the result of the read.
+     * @return The result of the read.
+     */
+    private <T> T readSnapshot(Function<List<Task>, T> reader) {
+        TaskSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null) {
+            return reader.apply(currentSnapshot);
+        }
+        return readOptimistically(() -> reader.apply(tasksList));
+    }
+
+    /**
+     * Reads the task list under the read lock, which is shared with other reads but not with changes.
+     *
+     * @param reader Reads the task list, without changing it.
+     * @param <T>    The type of the result of the read.
+     * @return The result of the read.
+     */
+    private <T> T read(Supplier<T> reader) {
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns whether tasks are still being decoded from the task file only when they are needed.
+     *
+     * @return {@code true} if the task list is lazy and has not been changed, {@code false} otherwise.
+     */
+    public boolean isLazy() {
+        return readOptimistically(() -> tasksList instanceof LazyTaskList);
+    }
+
+    /**
+     * Returns whether the task list is lazy, for callers that already hold the lock.
+     *
+     * @return {@code true} if the task list is lazy, {@code false} otherwise.
+     */
+    private boolean isLazyList() {
+        return tasksList instanceof LazyTaskList;
+    }
+
+    /**
+     * Loads every task into the task list before it is changed, if it is lazy.
+     */
+    private void ensureMaterialized() {
+        if (tasksList instanceof LazyTaskList) {
+            List<Task> tasks = ((LazyTaskList) tasksList).materialize();
+            IndexUpdateEvent event = new IndexUpdateEvent();
+            event.begin();
+            for (Task task : tasks) {
+                indexTask(task);
+            }
+            commitIndexUpdate(event, "materialize", tasks.size());
+            snapshot = TaskSnapshot.of(tasks);
+            tasksList = snapshot;
+        }
+    }
+
+    /**
+     * Adds a task to every index of the task list.
+     *
+     * @param task The task to index, which must have an ID.
+     */
+    private void indexTask(Task task) {
+        tasksById.put(task);
+        tasksByDate.add(task);
+        tasksByWord.add(task);
+        tasksByTag.add(task);
+        if (tasksBySubstring != null) {
+            addToSubstringIndex(task);
+        }
+    }
+
+    /**
+     * Records an update of the indexes that has just finished, if it is being recorded.
+     *
+     * @param event     The event, which was begun before the update.
+     * @param operation What the indexes were updated for.
+     * @param taskCount The number of tasks indexed or removed from the indexes.
+     */
+    private static void commitIndexUpdate(IndexUpdateEvent event, String operation, int taskCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(operation);
+            event.setTaskCount(taskCount);
+            event.commit();
+        }
+    }
+
+    /**
+     * Adds a task to the substring index, and disables the index if it is then over its memory budget.
+     *
+     * @param task The task to index.
+     */
+    private void addToSubstringIndex(Task task) {
+        tasksBySubstring.add(task);
+        if (tasksBySubstring.isOverBudget()) {
+            tasksBySubstring.disable();
+        }
+    }
+
+    /**
+     * Indexes the descriptions of tasks by their trigrams, so that finding tasks by keyword does not check
+     * every task. The index is disabled if it would use more memory than the budget, in which case every task
+     * is checked again, and enabling it again tries with the new budget. A lazy task list is only indexed once
+     * it loads every task.
+     *
+     * @param maxBytes The largest number of bytes the index should use.
+     */
+    public void enableSubstringIndex(long maxBytes) {
+        long stamp = lock.writeLock();
+        try {
+            if (tasksBySubstring != null && !tasksBySubstring.isDisabled()) {
+                return;
+            }
+            tasksBySubstring = new TrigramIndex(maxBytes);
+            if (isLazyList()) {
+                return;
+            }
+            IndexUpdateEvent event = new IndexUpdateEvent();
+            event.begin();
+            for (int i = 0; i < tasksList.size() && !tasksBySubstring.isDisabled(); i++) {
+                addToSubstringIndex(tasksList.get(i));
+            }
+            commitIndexUpdate(event, "substring", tasksList.size());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the substring index of this task list, to report how much memory it uses, or whether it was
+     * disabled for going over its budget.
+     *
+     * @return The substring index, or {@code null} if it is not enabled.
+     */
+    public TrigramIndex getSubstringIndex() {
+        return read(() -> tasksBySubstring);
     }
 
     /**
@@ -44,16 +323,17 @@ public class TaskList {
      * @return The size of the task list.
      */
     public int getSize() {
-        return tasksList.size();
+        return readSnapshot(List::size);
     }
 
     /**
-     * Returns a copy of the full list of tasks.
+     * Returns the full list of tasks, which cannot be changed and is not affected by later changes to
+     * the task list. This is the latest snapshot of the task list, or a copy of a lazy task list.
      *
-     * @return An {@code ArrayList} containing all tasks.
+     * @return A list containing all tasks.
      */
-    public ArrayList<Task> getTasksList() {
-        return new ArrayList<>(tasksList);
+    public List<Task> getTasksList() {
+        return readSnapshot(tasks -> tasks instanceof TaskSnapshot ? tasks : List.copyOf(tasks));
     }
 
     /**
@@ -63,40 +343,518 @@ public class TaskList {
      * @return The task at the specified index.
      */
     public Task getTask(int taskIndex) {
-        return tasksList.get(taskIndex);
+        return readOptimistically(() -> tasksList.get(taskIndex));
     }
 
     /**
-     * Adds a new task to the task list.
+     * Sets how many tasks there must be before searches that scan every task are split across cores.
+     *
+     * @param parallelThreshold The smallest number of tasks to scan in parallel.
+     */
+    public void setParallelScanThreshold(int parallelThreshold) {
+        long stamp = lock.writeLock();
+        try {
+            this.scanner = new ParallelTaskScanner(parallelThreshold);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns how to fetch the task at a position while scanning a lazy task list, possibly from several threads.
+     * Tasks are fetched without adding them to its cache, so that a scan does not evict the tasks being worked with.
+     *
+     * @return A function from a position to the task at that position.
+     */
+    private IntFunction<Task> getScanAccessor() {
+        return ((LazyTaskList) tasksList)::peek;
+    }
+
+    /**
+     * Finds every task that matches a predicate by scanning the task list.
+     * A snapshot is walked along its subtrees, so that the tasks are neither copied nor fetched by position.
+     *
+     * @param predicate The predicate to test each task with.
+     * @return The matching tasks, in the order of the task list.
+     */
+    private List<Task> scanTasks(Predicate<Task> predicate) {
+        if (isLazyList()) {
+            return scanner.filter(tasksList.size(), getScanAccessor(), predicate);
+        }
+        return scanner.filter(tasksList, predicate);
+    }
+
+    /**
+     * Retrieves a task from the task list by its ID.
+     *
+     * @param id The ID of the task to retrieve.
+     * @return The task with the ID, or {@code null} if there is no such task.
+     */
+    public Task getTaskById(int id) {
+        return read(() -> {
+            if (isLazyList()) {
+                int taskIndex = findIndexOfId(tasksList, id);
+                return taskIndex < 0 ? null : tasksList.get(taskIndex);
+            }
+            return tasksById.get(id);
+        });
+    }
+
+    /**
+     * Returns the position of the task with the given ID in the task list.
+     *
+     * @param id The ID of the task.
+     * @return The index of the task, or -1 if there is no such task.
+     */
+    public int indexOfId(int id) {
+        return read(() -> findIndexOfTask(id));
+    }
+
+    /**
+     * Returns the positions of the given tasks in the task list, all found while holding the read lock once,
+     * so that they agree with each other.
+     *
+     * @param tasks The tasks to find, such as the tasks found by a search.
+     * @return The index of each task, or -1 for a task that is no longer in the task list.
+     */
+    public int[] indexesOf(List<Task> tasks) {
+        return read(() -> {
+            int[] taskIndexes = new int[tasks.size()];
+            int i = 0;
+            for (Task task : tasks) {
+                taskIndexes[i++] = findIndexOfTask(task.getId());
+            }
+            return taskIndexes;
+        });
+    }
+
+    /**
+     * Returns the position of the task with the given ID, for callers that already hold the lock.
+     *
+     * @param id The ID of the task.
+     * @return The index of the task, or -1 if there is no such task.
+     */
+    private int findIndexOfTask(int id) {
+        if (!isLazyList() && tasksById.get(id) == null) {
+            return -1;
+        }
+        return findIndexOfId(tasksList, id);
+    }
+
+    /**
+     * Returns the position of the task with the given ID in a list of tasks stored in increasing order of ID.
+     * The position is found by a binary search. If the tasks are out of order, for example because the task file
+     * was edited by hand, the list is scanned instead.
+     *
+     * @param tasks The tasks to search.
+     * @param id    The ID of the task.
+     * @return The index of the task, or -1 if there is no such task.
+     */
+    public static int findIndexOfId(List<Task> tasks, int id) {
+        int low = 0;
+        int high = tasks.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = tasks.get(mid).getId();
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.get(i).getId() == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a new task to the task list, giving it the next ID.
      *
      * @param task The task to be added.
      */
     public void addTask(Task task) {
-        tasksList.add(task);
-        saveTasks();
+        long stamp = lock.writeLock();
+        try {
+            ensureMaterialized();
+            task.setId(nextId++);
+            snapshot = snapshot.withAdded(task);
+            tasksList = snapshot;
+            IndexUpdateEvent event = new IndexUpdateEvent();
+            event.begin();
+            indexTask(task);
+            commitIndexUpdate(event, "add", 1);
+            persist(JournalOperation.ADD, StorageTaskParser.taskToString(task));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     /**
      * Removes a specific task from the task list.
+     * The task is found by its ID, so that removing it does not need to compare it with every task.
      *
      * @param task The task to be removed.
      */
     public void removeTask(Task task) {
-        tasksList.remove(task);
-        saveTasks();
+        long stamp = lock.writeLock();
+        try {
+            ensureMaterialized();
+            int taskIndex = findIndexOfTask(task.getId());
+            if (taskIndex < 0 || tasksList.get(taskIndex) != task) {
+                return;
+            }
+            removeTaskAt(taskIndex);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the task with the given ID from the task list.
+     * The task is found and removed under the same lock, so that a concurrent change cannot make this remove
+     * a different task.
+     *
+     * @param id The ID of the task to remove.
+     * @return The task that was removed, or {@code null} if there is no task with the ID.
+     */
+    public Task removeTaskById(int id) {
+        long stamp = lock.writeLock();
+        try {
+            ensureMaterialized();
+            int taskIndex = findIndexOfTask(id);
+            return taskIndex < 0 ? null : removeTaskAt(taskIndex);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the task at a position from the task list and its indexes, while holding the write lock.
+     *
+     * @param taskIndex The index of the task to remove.
+     * @return The task that was removed.
+     */
+    private Task removeTaskAt(int taskIndex) {
+        Task task = tasksList.get(taskIndex);
+        snapshot = snapshot.withRemoved(taskIndex);
+        tasksList = snapshot;
+        IndexUpdateEvent event = new IndexUpdateEvent();
+        event.begin();
+        tasksById.remove(task.getId());
+        tasksByDate.remove(task);
+        tasksByWord.remove(task);
+        tasksByTag.remove(task);
+        if (tasksBySubstring != null) {
+            tasksBySubstring.remove(task);
+        }
+        commitIndexUpdate(event, "remove", 1);
+        persist(JournalOperation.DELETE, toReference(task));
+        return task;
+    }
+
+    /**
+     * Returns how a task is referred to in journal records, which is by its ID rather than its position.
+     *
+     * @param task The task.
+     * @return The ID of the task with a leading "#".
+     */
+    private static String toReference(Task task) {
+        return "#" + task.getId();
+    }
+
+    /**
+     * Marks a specific task in the task list as done.
+     *
+     * @param taskIndex The index of the task to mark.
+     * @return The task that was marked.
+     */
+    public Task markTask(int taskIndex) {
+        return changeTask(taskIndex, this::markAsDone);
+    }
+
+    /**
+     * Marks the task with the given ID as done, finding and marking it under the same lock.
+     *
+     * @param id The ID of the task to mark.
+     * @return The task that was marked, or {@code null} if there is no task with the ID.
+     */
+    public Task markTaskById(int id) {
+        return changeTaskById(id, this::markAsDone);
+    }
+
+    private void markAsDone(Task task) {
+        task.markAsDone();
+        persist(JournalOperation.MARK, toReference(task));
+    }
+
+    /**
+     * Marks a specific task in the task list as not done.
+     *
+     * @param taskIndex The index of the task to unmark.
+     * @return The task that was unmarked.
+     */
+    public Task unmarkTask(int taskIndex) {
+        return changeTask(taskIndex, this::markAsUndone);
+    }
+
+    /**
+     * Marks the task with the given ID as not done, finding and unmarking it under the same lock.
+     *
+     * @param id The ID of the task to unmark.
+     * @return The task that was unmarked, or {@code null} if there is no task with the ID.
+     */
+    public Task unmarkTaskById(int id) {
+        return changeTaskById(id, this::markAsUndone);
+    }
+
+    private void markAsUndone(Task task) {
+        task.markAsUndone();
+        persist(JournalOperation.UNMARK, toReference(task));
+    }
+
+    /**
+     * Tags a specific task in the task list with a label.
+     *
+     * @param taskIndex The index of the task to tag.
+     * @param label     The label to tag the task with.
+     * @return The task that was tagged.
+     */
+    public Task tagTask(int taskIndex, String label) {
+        return changeTask(taskIndex, task -> setTag(task, label));
+    }
+
+    /**
+     * Tags the task with the given ID with a label, finding and tagging it under the same lock.
+     *
+     * @param id    The ID of the task to tag.
+     * @param label The label to tag the task with.
+     * @return The task that was tagged, or {@code null} if there is no task with the ID.
+     */
+    public Task tagTaskById(int id, String label) {
+        return changeTaskById(id, task -> setTag(task, label));
+    }
+
+    private void setTag(Task task, String label) {
+        tasksByTag.remove(task);
+        task.setTag(label);
+        tasksByTag.add(task);
+        persist(JournalOperation.TAG, toReference(task), task.getTag());
+    }
+
+    /**
+     * Removes the tag of a specific task in the task list.
+     *
+     * @param taskIndex The index of the task to untag.
+     * @return The task that was untagged.
+     */
+    public Task untagTask(int taskIndex) {
+        return changeTask(taskIndex, this::deleteTag);
+    }
+
+    /**
+     * Removes the tag of the task with the given ID, finding and untagging it under the same lock.
+     *
+     * @param id The ID of the task to untag.
+     * @return The task that was untagged, or {@code null} if there is no task with the ID.
+     */
+    public Task untagTaskById(int id) {
+        return changeTaskById(id, this::deleteTag);
+    }
+
+    private void deleteTag(Task task) {
+        tasksByTag.remove(task);
+        task.deleteTag();
+        persist(JournalOperation.UNTAG, toReference(task));
+    }
+
+    /**
+     * Changes the task at a position under the write lock.
+     *
+     * @param taskIndex The index of the task to change.
+     * @param change    The change, which persists itself.
+     * @return The task that was changed.
+     */
+    private Task changeTask(int taskIndex, Consumer<Task> change) {
+        long stamp = lock.writeLock();
+        try {
+            ensureMaterialized();
+            Task task = tasksList.get(taskIndex);
+            change.accept(task);
+            return task;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Finds the task with the given ID and changes it under the same write lock, so that a concurrent deletion
+     * cannot make the change apply to a different task.
+     *
+     * @param id     The ID of the task to change.
+     * @param change The change, which persists itself.
+     * @return The task that was changed, or {@code null} if there is no task with the ID.
+     */
+    private Task changeTaskById(int id, Consumer<Task> change) {
+        long stamp = lock.writeLock();
+        try {
+            ensureMaterialized();
+            int taskIndex = findIndexOfTask(id);
+            if (taskIndex < 0) {
+                return null;
+            }
+            Task task = tasksList.get(taskIndex);
+            change.accept(task);
+            return task;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Persists a change made to the task list, while holding the write lock.
+     * With saving deferred, the change is only remembered, to be saved with the rest of the batch.
+     * In journal mode, only a record of the change is appended to storage.
+     * With write-behind enabled, the task list is only marked as dirty, to be saved in the background.
+     * Otherwise, the whole task list is saved.
+     *
+     * @param operation The change made to the task list.
+     * @param arguments The arguments of the change.
+     */
+    private void persist(JournalOperation operation, String... arguments) {
+        long startNanos = startPersistTimer();
+        if (isSavingDeferred) {
+            hasUnsavedChanges = true;
+        } else if (storage.isJournalMode()) {
+            storage.appendToJournal(operation, arguments);
+        } else if (persister != null) {
+            persister.markDirty();
+        } else {
+            storage.saveTasks(storage.encodeTasks(tasksList), tasksList.size());
+        }
+        stopPersistTimer(startNanos);
+    }
+
+    /**
+     * Reports the time spent persisting each later change to the given registry.
+     *
+     * @param metrics The registry to report to.
+     */
+    public void setMetricsRegistry(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    private long startPersistTimer() {
+        MetricsRegistry currentMetrics = metrics;
+        return currentMetrics != null && currentMetrics.isEnabled() ? System.nanoTime() : NOT_TIMED;
+    }
+
+    private void stopPersistTimer(long startNanos) {
+        if (startNanos != NOT_TIMED) {
+            metrics.recordPersist(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Saves changes to the whole task list in the background instead of after every change.
+     * Bursts of changes made within the coalescing window are written by a single save.
+     * This only applies when the storage is not in journal mode, since journal mode already appends each change
+     * to the journal instead of rewriting the task file. {@code IntroBlaise} uses rewrite mode when the system
+     * property {@code introblaise.writeBehindMillis} asks for saving in the background.
+     *
+     * @param coalesceWindowMillis How long to wait after the first unsaved change before saving.
+     */
+    public void enableWriteBehind(long coalesceWindowMillis) {
+        long stamp = lock.writeLock();
+        try {
+            if (persister == null && !storage.isJournalMode()) {
+                persister = new WriteBehindPersister(this::saveSnapshot, coalesceWindowMillis);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Holds back every later change until {@link #saveTasks()} or {@link #close()}, which then save the whole
+     * task list once. This suits batches of many changes, which would otherwise each be saved or journaled.
+     * In journal mode, the save replaces the task file and the journal with a snapshot of the task list.
+     */
+    public void deferSaves() {
+        long stamp = lock.writeLock();
+        try {
+            isSavingDeferred = true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the write-behind persister of this task list.
+     *
+     * @return The write-behind persister, or {@code null} if write-behind is not enabled.
+     */
+    public WriteBehindPersister getPersister() {
+        return persister;
     }
 
     /**
      * Saves the tasks list to storage.
-     * Converts task objects to strings before saving them.
+     * Converts task objects to the format of the task file before saving them.
+     * With write-behind enabled and saving not deferred, this waits for the writer thread to save the task list
+     * instead. Otherwise, the task list is saved under the read lock, so that no change is made between encoding
+     * the tasks and saving them.
      */
     public void saveTasks() {
-        List<String> taskStrings = new ArrayList<>();
-        for (Task task : tasksList) {
-            String taskStr = StorageTaskParser.taskToString(task);
-            taskStrings.add(taskStr);
+        WriteBehindPersister currentPersister = persister;
+        if (currentPersister != null && !isSavingDeferred) {
+            currentPersister.markDirty();
+            currentPersister.flush();
+            return;
+        }
+        read(() -> {
+            storage.saveTasks(storage.encodeTasks(tasksList), tasksList.size());
+            hasUnsavedChanges = false;
+            return null;
+        });
+    }
+
+    /**
+     * Saves a snapshot of the task list for the write-behind persister.
+     * The tasks are encoded and counted under the read lock, and saved once it is released, so that changes are
+     * not held back while the task file is written.
+     */
+    private void saveSnapshot() {
+        byte[] encodedTasks;
+        int taskCount;
+        long stamp = lock.readLock();
+        try {
+            encodedTasks = storage.encodeTasks(tasksList);
+            taskCount = tasksList.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        storage.saveTasks(encodedTasks, taskCount);
+    }
+
+    /**
+     * Saves every pending change and releases the resources used for persistence.
+     * This should be called once, when the application exits.
+     */
+    public void close() {
+        if (hasUnsavedChanges) {
+            saveTasks();
+        }
+        WriteBehindPersister currentPersister = persister;
+        if (currentPersister != null) {
+            currentPersister.close();
+            persister = null;
         }
-        storage.saveTasks(taskStrings);
+        storage.close();
     }
 
     /**
@@ -105,20 +863,99 @@ public class TaskList {
      * @return The formatted task list.
      */
     public String printTaskList() {
-        if (isTaskListEmpty()) {
-            return getEmptyTaskListMessage();
-        } else {
-            return formatTaskList();
-        }
+        return readSnapshot(tasks -> {
+            if (tasks.isEmpty()) {
+                return getEmptyTaskListMessage();
+            } else {
+                return formatTaskList(tasks);
+            }
+        });
+    }
+
+    /**
+     * Prints one page of the formatted task list.
+     * Tasks are numbered as in the full task list, and only the tasks on the page are decoded in a lazy task list.
+     *
+     * @param pageNumber The page to print, starting from 1.
+     * @param pageSize   The number of tasks on each page.
+     * @return The formatted page of the task list.
+     */
+    public String printTaskPage(int pageNumber, int pageSize) {
+        return readSnapshot(tasks -> {
+            if (tasks.isEmpty()) {
+                return getEmptyTaskListMessage();
+            }
+            int pageCount = (tasks.size() + pageSize - 1) / pageSize;
+            if (pageNumber < 1 || pageNumber > pageCount) {
+                return "Oops! There are only " + pageCount + " pages of tasks.";
+            }
+            int fromIndex = (pageNumber - 1) * pageSize;
+            int toIndex = Math.min(fromIndex + pageSize, tasks.size());
+            StringBuilder result = new StringBuilder();
+            for (int i = fromIndex; i < toIndex; i++) {
+                result.append(i + 1).append(". ").append(tasks.get(i)).append("\n");
+            }
+            result.append("Page ").append(pageNumber).append(" of ").append(pageCount);
+            return result.toString();
+        });
+    }
+
+    /**
+     * Prints the tasks with a tag, numbered by their positions in the full task list.
+     * The tasks are found through the tag index, or by scanning a lazy task list, which is not indexed.
+     *
+     * @param tag The tag to list the tasks of.
+     * @return The formatted list of tasks with the tag.
+     */
+    public String printTasksWithTag(String tag) {
+        return read(() -> {
+            String lowerCaseTag = tag.toLowerCase();
+            StringBuilder result = new StringBuilder();
+            if (isLazyList()) {
+                IntFunction<Task> tasks = getScanAccessor();
+                int[] positions = scanner.findPositions(tasksList.size(), tasks,
+                        task -> task.getIsTagged() && task.getTag().equals(lowerCaseTag));
+                for (int position : positions) {
+                    result.append(position + 1).append(". ").append(tasks.apply(position)).append("\n");
+                }
+            } else {
+                for (int id : tasksByTag.find(lowerCaseTag)) {
+                    result.append(findIndexOfTask(id) + 1).append(". ").append(tasksById.get(id)).append("\n");
+                }
+            }
+            if (result.length() == 0) {
+                return "Oops! There are no tasks tagged " + lowerCaseTag + ".";
+            }
+            return ("Here are the tasks tagged " + lowerCaseTag + ":\n" + result).trim();
+        });
     }
 
     /**
-     * Checks whether the task list is empty.
+     * Prints every tag with the number of tasks that have it.
      *
-     * @return {@code true} if the task list is empty, {@code false} otherwise.
+     * @return The formatted list of tags, sorted by tag.
      */
-    private boolean isTaskListEmpty() {
-        return tasksList.isEmpty();
+    public String printTagCounts() {
+        return read(() -> {
+            Map<String, Integer> tagCounts;
+            if (isLazyList()) {
+                tagCounts = new TreeMap<>();
+                for (Task task : scanTasks(Task::getIsTagged)) {
+                    tagCounts.merge(task.getTag(), 1, Integer::sum);
+                }
+            } else {
+                tagCounts = tasksByTag.getTagCounts();
+            }
+            if (tagCounts.isEmpty()) {
+                return "You have not tagged any tasks yet.";
+            }
+            StringBuilder result = new StringBuilder("Here are your tags:");
+            for (Map.Entry<String, Integer> entry : tagCounts.entrySet()) {
+                result.append("\n").append(entry.getKey()).append(": ").append(entry.getValue())
+                        .append(entry.getValue() == 1 ? " task" : " tasks");
+            }
+            return result.toString();
+        });
     }
 
     /**
@@ -137,56 +974,76 @@ public class TaskList {
     /**
      * Formates the task list into a numbered string representation.
      *
+     * @param tasks The tasks to format, in order.
      * @return A formatted string displaying all tasks with their indices.
      */
-    private String formatTaskList() {
+    private String formatTaskList(List<Task> tasks) {
         StringBuilder result = new StringBuilder();
-        for (int i = 0; i < tasksList.size(); i++) {
-            int indexNo = i + 1;
-            Task currTask = getTask(i);
-            result.append(indexNo).append(". ").append(currTask).append("\n");
+        int indexNo = 1;
+        for (Task currTask : tasks) {
+            result.append(indexNo++).append(". ").append(currTask).append("\n");
         }
         return result.toString().trim();
     }
 
     /**
      * Returns a formatted list of tasks scheduled for a specific date.
+     * The tasks are found through the date index, or by scanning a lazy task list, which has no date index
+     * so that opening it does not decode every task.
      *
      * @param date The date for which tasks should be retrieved.
      * @return A formatted string containing tasks scheduled for the give date.
      */
-    public String printTasksForDate(LocalDate date) throws EmptyDateException {
-        StringBuilder result = new StringBuilder();
-        result.append("These are the tasks on ").append(date).append(": ").append("\n");
-        int originalSize = result.length();
-        for (Task task : tasksList) {
-            if (taskIsScheduledForDate(task, date)) {
+    public String printTasksForDate(LocalDate date) {
+        return read(() -> {
+            StringBuilder result = new StringBuilder();
+            result.append("These are the tasks on ").append(date).append(": ").append("\n");
+            int originalSize = result.length();
+            for (Task task : getTasksBetween(date, date)) {
                 result.append(task).append("\n");
             }
-        }
-        if (result.length() == originalSize) {
-            return "Yay! There is no task to be done on this date!";
-        }
-        return result.toString().trim();
+            if (result.length() == originalSize) {
+                return "Yay! There is no task to be done on this date!";
+            }
+            return result.toString().trim();
+        });
+    }
+
+    /**
+     * Returns a formatted list of tasks scheduled between two dates, including both dates.
+     *
+     * @param from The first date of the range.
+     * @param to   The last date of the range.
+     * @return A formatted string containing the tasks scheduled in the range.
+     */
+    public String printTasksBetween(LocalDate from, LocalDate to) {
+        return read(() -> {
+            StringBuilder result = new StringBuilder();
+            result.append("These are the tasks from ").append(from).append(" to ").append(to).append(": ").append("\n");
+            int originalSize = result.length();
+            for (Task task : getTasksBetween(from, to)) {
+                result.append(task).append("\n");
+            }
+            if (result.length() == originalSize) {
+                return "Yay! There is no task to be done between these dates!";
+            }
+            return result.toString().trim();
+        });
     }
 
     /**
-     * Determines whether a task is scheduled for a given date.
-     * @param task The task to check.
-     * @param date The date to check against.
-     * @return {@code true} if the task is scheduled for the specified date, {@code false} otherwise.
+     * Returns the tasks scheduled between two dates, in the order of the task list.
+     * A deadline is scheduled for the date it is due, and an event for every date it takes place on.
+     *
+     * @param from The first date of the range.
+     * @param to   The last date of the range.
+     * @return The tasks scheduled in the range.
      */
-    private boolean taskIsScheduledForDate(Task task, LocalDate date) throws EmptyDateException {
-        if (task instanceof Deadline) {
-            Deadline deadlineTask = (Deadline) task;
-            LocalDate deadlineDate = deadlineTask.getFormattedDate();
-            return deadlineDate.equals(date);
-        } else if (task instanceof Event) {
-            Event eventTask = (Event) task;
-            LocalDate eventDate = eventTask.getFormattedFromDate();
-            return eventDate.equals(date);
+    private List<Task> getTasksBetween(LocalDate from, LocalDate to) {
+        if (!isLazyList()) {
+            return tasksByDate.getTasksBetween(from, to);
         }
-        return false;
+        return scanTasks(task -> TaskDateIndex.isScheduledBetween(task, from, to));
     }
 
     /**
@@ -196,27 +1053,109 @@ public class TaskList {
      * @return A list of tasks that matches the keyword.
      */
     public List<Task> findTasksByKeyword(String keyword) {
+        String lowerCaseKeyword = keyword.toLowerCase();
+        Predicate<Task> containsKeyword = task -> task.getDescription().toLowerCase().contains(lowerCaseKeyword);
+        if (tasksBySubstring != null) {
+            List<Task> matchingTasks = read(() -> findIndexedTasks(lowerCaseKeyword, containsKeyword));
+            if (matchingTasks != null) {
+                return matchingTasks;
+            }
+        }
+        return readOptimistically(() -> scanTasks(containsKeyword));
+    }
+
+    /**
+     * Finds the tasks that match a keyword among the candidates from the substring index, while holding
+     * the read lock.
+     *
+     * @param lowerCaseKeyword The keyword, in lower case.
+     * @param containsKeyword  Checks whether a candidate contains the keyword.
+     * @return The matching tasks, or {@code null} if the substring index cannot narrow down the search.
+     */
+    private List<Task> findIndexedTasks(String lowerCaseKeyword, Predicate<Task> containsKeyword) {
+        int[] candidateIds = tasksBySubstring != null && !isLazyList()
+                ? tasksBySubstring.findCandidates(lowerCaseKeyword)
+                : null;
+        if (candidateIds == null) {
+            return null;
+        }
         List<Task> matchingTasks = new ArrayList<>();
-        for (Task task : tasksList) {
-            String taskDescription = task.getDescription().toLowerCase();
-            if (taskDescription.contains(keyword.toLowerCase())) {
+        for (int id : candidateIds) {
+            Task task = tasksById.get(id);
+            if (containsKeyword.test(task)) {
                 matchingTasks.add(task);
             }
         }
         return matchingTasks;
     }
 
+    /**
+     * Finds tasks whose descriptions contain every word of any group of words in a query.
+     * Words are matched whole and ignoring case, through the keyword index, or by checking every task
+     * in a lazy task list, which is not indexed.
+     *
+     * @param query The groups of words, in lower case.
+     * @return The matching tasks, in the order of the task list.
+     */
+    public List<Task> findTasksByWords(List<List<String>> query) {
+        return read(() -> {
+            if (isLazyList()) {
+                return scanTasks(task -> KeywordIndex.matches(task, query));
+            }
+            List<Task> matchingTasks = new ArrayList<>();
+            for (int id : tasksByWord.find(query)) {
+                matchingTasks.add(tasksById.get(id));
+            }
+            return matchingTasks;
+        });
+    }
+
     /**
      * Clears the entire task list to empty.
+     * In journal mode, the clear is recorded so that replaying the journal gives the same task list.
      */
     public void clearTaskList() {
-        tasksList.clear();
+        long stamp = lock.writeLock();
+        try {
+            int taskCount = tasksList.size();
+            snapshot = TaskSnapshot.empty();
+            tasksList = snapshot;
+            IndexUpdateEvent event = new IndexUpdateEvent();
+            event.begin();
+            tasksById.clear();
+            tasksByDate.clear();
+            tasksByWord.clear();
+            tasksByTag.clear();
+            if (tasksBySubstring != null) {
+                tasksBySubstring.clear();
+            }
+            commitIndexUpdate(event, "clear", taskCount);
+            long startNanos = startPersistTimer();
+            if (isSavingDeferred) {
+                hasUnsavedChanges = true;
+            } else if (storage.isJournalMode()) {
+                storage.appendToJournal(JournalOperation.CLEAR);
+            }
+            stopPersistTimer(startNanos);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     /**
      * Clears the file from storage to return an empty list.
+     * With saving deferred, the empty task list is saved with the rest of the batch instead.
      */
     public void clearFile() {
-        storage.clearFile();
+        if (isSavingDeferred) {
+            return;
+        }
+        long startNanos = startPersistTimer();
+        if (persister != null) {
+            saveTasks();
+        } else {
+            storage.clearFile();
+        }
+        stopPersistTimer(startNanos);
     }
 }
@@ -0,0 +1,285 @@
+package introblaise.task;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Represents an immutable list of tasks, which is changed by making a new snapshot that shares most of
+ * its structure with the old one.
+ * <p>
+ * The tasks are kept in an implicit treap: a binary tree ordered by position, where each node knows the size
+ * of its subtree. Adding or removing a task only copies the nodes on the path to it, so a change takes
+ * O(log n) time and space, and every older snapshot stays valid. Instead of storing a priority in each node,
+ * two trees are merged by picking the root of either one at random, weighted by their sizes, which keeps
+ * the tree balanced in expectation.
+ * <p>
+ * The tasks can be streamed in parallel without copying them: the range of positions is split in halves, and
+ * each half walks only the subtrees that hold its positions, in order.
+ * <p>
+ * Only the list itself is immutable. The tasks in it are shared with the task list, so marking or tagging
+ * a task is seen by every snapshot that contains it.
+ */
+public class TaskSnapshot extends AbstractList<Task> {
+    private static final TaskSnapshot EMPTY = new TaskSnapshot(null);
+
+    private final Node root;
+
+    /**
+     * Represents a node of the tree, holding one task.
+     */
+    private static final class Node {
+        private final Task task;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        private Node(Task task, Node left, Node right) {
+            this.task = task;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+
+    private TaskSnapshot(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the snapshot with no tasks.
+     *
+     * @return The empty snapshot.
+     */
+    public static TaskSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a snapshot of the given tasks, built as a balanced tree in O(n) time.
+     *
+     * @param tasks The tasks, in order.
+     * @return A snapshot of the tasks.
+     */
+    public static TaskSnapshot of(List<Task> tasks) {
+        return tasks.isEmpty() ? EMPTY : new TaskSnapshot(build(tasks, 0, tasks.size()));
+    }
+
+    private static Node build(List<Task> tasks, int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return null;
+        }
+        int middle = (fromIndex + toIndex) >>> 1;
+        return new Node(tasks.get(middle), build(tasks, fromIndex, middle), build(tasks, middle + 1, toIndex));
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the task at the given position, in O(log n) time.
+     *
+     * @param taskIndex The position of the task, starting from 0.
+     * @return The task at the given position.
+     */
+    @Override
+    public Task get(int taskIndex) {
+        Objects.checkIndex(taskIndex, size());
+        return get(root, taskIndex);
+    }
+
+    private static Task get(Node node, int taskIndex) {
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (taskIndex < leftSize) {
+                node = node.left;
+            } else if (taskIndex > leftSize) {
+                taskIndex -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.task;
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot with a task added to the end of this one.
+     *
+     * @param task The task to add.
+     * @return The new snapshot.
+     */
+    public TaskSnapshot withAdded(Task task) {
+        return new TaskSnapshot(merge(root, new Node(task, null, null)));
+    }
+
+    /**
+     * Returns a snapshot without the task at the given position of this one.
+     *
+     * @param taskIndex The position of the task to remove, starting from 0.
+     * @return The new snapshot.
+     */
+    public TaskSnapshot withRemoved(int taskIndex) {
+        Objects.checkIndex(taskIndex, size());
+        return new TaskSnapshot(remove(root, taskIndex));
+    }
+
+    private static Node remove(Node node, int taskIndex) {
+        int leftSize = sizeOf(node.left);
+        if (taskIndex < leftSize) {
+            return new Node(node.task, remove(node.left, taskIndex), node.right);
+        } else if (taskIndex > leftSize) {
+            return new Node(node.task, node.left, remove(node.right, taskIndex - leftSize - 1));
+        }
+        return merge(node.left, node.right);
+    }
+
+    /**
+     * Joins two trees, with every task of the first before every task of the second.
+     * The root is taken from either tree with a probability proportional to its size.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (ThreadLocalRandom.current().nextInt(first.size + second.size) < first.size) {
+            return new Node(first.task, first.left, merge(first.right, second));
+        }
+        return new Node(second.task, merge(first, second.left), second.right);
+    }
+
+    /**
+     * Returns an iterator over the tasks in order, which takes O(1) amortized time per task.
+     *
+     * @return An iterator over the tasks.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node> path = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            private void pushLeftSpine(Node node) {
+                for (Node current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public Task next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node node = path.pop();
+                pushLeftSpine(node.right);
+                return node.task;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the tasks in order, which splits its range of positions in halves.
+     * Walking a range of k tasks takes O(k + log n) time and does not copy the tasks.
+     *
+     * @return A spliterator over the tasks.
+     */
+    @Override
+    public Spliterator<Task> spliterator() {
+        return new RangeSpliterator(root, 0, size());
+    }
+
+    /**
+     * Represents a spliterator over a range of positions of a tree.
+     */
+    private static final class RangeSpliterator implements Spliterator<Task> {
+        private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+
+        private final Node root;
+        private int fromIndex;
+        private final int toIndex;
+
+        private RangeSpliterator(Node root, int fromIndex, int toIndex) {
+            this.root = root;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Task> action) {
+            if (fromIndex >= toIndex) {
+                return false;
+            }
+            action.accept(get(root, fromIndex++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Task> action) {
+            visit(root, 0, action);
+            fromIndex = toIndex;
+        }
+
+        /**
+         * Passes the tasks of a subtree that are within the range to an action, in order.
+         *
+         * @param node   The root of the subtree.
+         * @param offset The position of the first task of the subtree.
+         * @param action The action to pass the tasks to.
+         */
+        private void visit(Node node, int offset, Consumer<? super Task> action) {
+            if (node == null || offset >= toIndex || offset + node.size <= fromIndex) {
+                return;
+            }
+            int position = offset + sizeOf(node.left);
+            visit(node.left, offset, action);
+            if (position >= fromIndex && position < toIndex) {
+                action.accept(node.task);
+            }
+            visit(node.right, position + 1, action);
+        }
+
+        @Override
+        public Spliterator<Task> trySplit() {
+            int middle = (fromIndex + toIndex) >>> 1;
+            if (middle <= fromIndex) {
+                return null;
+            }
+            RangeSpliterator prefix = new RangeSpliterator(root, fromIndex, middle);
+            fromIndex = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return toIndex - fromIndex;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package introblaise.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes tasks by every run of three characters (trigram) in their lower-cased descriptions, to narrow down
+ * the tasks whose descriptions contain a keyword anywhere.
+ * <p>
+ * A description can only contain a keyword if it contains every trigram of the keyword, so the candidates are
+ * found by intersecting the posting lists of the keyword's trigrams. The candidates still have to be checked,
+ * since the trigrams may appear in a different order. Keywords shorter than three characters cannot be narrowed
+ * down this way.
+ * <p>
+ * The index estimates how much memory it uses, from the number of trigrams and the capacity of their posting
+ * lists, so that it can be limited to a budget. An index that goes over its budget is disabled: it drops its
+ * posting lists and stops indexing tasks, but can still be asked whether it was disabled and what its budget was.
+ */
+public class TrigramIndex {
+    private static final int GRAM_LENGTH = 3;
+    // Rough size of a map entry, a boxed key, a posting list and its array header on a 64-bit JVM
+    private static final long BYTES_PER_TRIGRAM = 88;
+
+    private final Map<Long, PostingList> postingsByTrigram;
+    private final long maxBytes;
+    private long estimatedBytes;
+    private boolean isDisabled;
+
+    /**
+     * Constructs an empty {@code TrigramIndex} with a memory budget.
+     *
+     * @param maxBytes The largest number of bytes the index should use.
+     */
+    public TrigramIndex(long maxBytes) {
+        this.postingsByTrigram = new HashMap<>();
+        this.maxBytes = maxBytes;
+        this.estimatedBytes = 0;
+    }
+
+    /**
+     * Returns the distinct trigrams of a text, each packed into a {@code long}.
+     *
+     * @param text The text, already in lower case.
+     * @return The trigrams, in increasing order and without duplicates.
+     */
+    private static long[] getTrigrams(String text) {
+        if (text.length() < GRAM_LENGTH) {
+            return new long[0];
+        }
+        long[] trigrams = new long[text.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(trigrams);
+        int count = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[count++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, count);
+    }
+
+    /**
+     * Adds the trigrams of a task's description to the index.
+     *
+     * @param task The task to add, which must have an ID.
+     */
+    public void add(Task task) {
+        if (isDisabled) {
+            return;
+        }
+        for (long trigram : getTrigrams(task.getDescription().toLowerCase())) {
+            PostingList postings = postingsByTrigram.get(trigram);
+            if (postings == null) {
+                postings = new PostingList();
+                postingsByTrigram.put(trigram, postings);
+                estimatedBytes += BYTES_PER_TRIGRAM + (long) Integer.BYTES * postings.capacity();
+            }
+            int oldCapacity = postings.capacity();
+            postings.add(task.getId());
+            estimatedBytes += (long) Integer.BYTES * (postings.capacity() - oldCapacity);
+        }
+    }
+
+    /**
+     * Removes a task from the posting lists of the trigrams in its description.
+     *
+     * @param task The task to remove.
+     */
+    public void remove(Task task) {
+        if (isDisabled) {
+            return;
+        }
+        for (long trigram : getTrigrams(task.getDescription().toLowerCase())) {
+            PostingList postings = postingsByTrigram.get(trigram);
+            if (postings == null) {
+                continue;
+            }
+            postings.remove(task.getId());
+            if (postings.size() == 0) {
+                postingsByTrigram.remove(trigram);
+                estimatedBytes -= BYTES_PER_TRIGRAM + (long) Integer.BYTES * postings.capacity();
+            }
+        }
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    public void clear() {
+        postingsByTrigram.clear();
+        estimatedBytes = 0;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public int getTrigramCount() {
+        return postingsByTrigram.size();
+    }
+
+    public boolean isDisabled() {
+        return isDisabled;
+    }
+
+    /**
+     * Drops every posting list and stops indexing tasks, so that the memory used is freed.
+     * Keywords can then no longer be narrowed down by the index.
+     */
+    public void disable() {
+        clear();
+        isDisabled = true;
+    }
+
+    /**
+     * Returns whether the index uses more memory than its budget.
+     *
+     * @return {@code true} if the estimated memory used is over the budget, {@code false} otherwise.
+     */
+    public boolean isOverBudget() {
+        return estimatedBytes > maxBytes;
+    }
+
+    /**
+     * Finds the IDs of the tasks whose descriptions might contain a keyword.
+     *
+     * @param keyword The keyword, already in lower case.
+     * @return The IDs of the tasks that contain every trigram of the keyword, in increasing order,
+     *         or {@code null} if the keyword is too short to have any trigrams or the index is disabled.
+     */
+    public int[] findCandidates(String keyword) {
+        long[] trigrams = getTrigrams(keyword);
+        if (trigrams.length == 0 || isDisabled) {
+            return null;
+        }
+        List<PostingList> postings = new ArrayList<>(trigrams.length);
+        for (long trigram : trigrams) {
+            PostingList trigramPostings = postingsByTrigram.get(trigram);
+            if (trigramPostings == null) {
+                return PostingList.NO_IDS;
+            }
+            postings.add(trigramPostings);
+        }
+        return PostingList.intersectAll(postings);
+    }
+}
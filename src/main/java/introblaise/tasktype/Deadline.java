@@ -28,6 +28,19 @@ public class Deadline extends Task {
         this.formattedDatetime = getParsedFormattedDateTime(dateTimeStr);
     }
 
+    /**
+     * Constructs a new {@code Deadline} task with the specified description and an already parsed deadline.
+     * The deadline string is formatted as "dd-MM-yyyy HHmm", so the deadline does not need to be parsed again.
+     *
+     * @param description The description of the task.
+     * @param dateTime    The deadline (date/time) by which the task must be completed.
+     */
+    public Deadline(String description, LocalDateTime dateTime) {
+        super(description);
+        this.dateTimeStr = UtilParser.convertDateTimeToStorageString(dateTime);
+        this.formattedDatetime = dateTime;
+    }
+
     /**
      * Converts the given String representation of a date and time to a {@code LocalDateTime} object.
      * This method utilizes a utility parser to interpret the string as a formatted date/time and return
@@ -49,6 +62,9 @@ public class Deadline extends Task {
      * @return the {@code LocalDate} representing the date of the deadline.
      */
     public LocalDate getFormattedDate() {
+        if (formattedDatetime != null) {
+            return formattedDatetime.toLocalDate();
+        }
         String dateString = extractStringDate(dateTimeStr);
         return UtilParser.convertDateString(dateString);
     }
@@ -67,6 +83,10 @@ public class Deadline extends Task {
         return dateTimeStr;
     }
 
+    public LocalDateTime getDateTime() {
+        return formattedDatetime;
+    }
+
     /**
      * Converts the {@code LocalDateTime} to a formatted string representation.
      * This method uses a utility to convert the {@code LocalDateTime} to a string for display purposes.
@@ -32,6 +32,22 @@ public class Event extends Task {
         this.parsedTo = getParsedFormattedDateTime(to);
     }
 
+    /**
+     * Constructs an {@code Event} object with the specified description and already parsed start and end times.
+     * The start and end strings are formatted as "dd-MM-yyyy HHmm", so the times do not need to be parsed again.
+     *
+     * @param description A brief description of the event.
+     * @param parsedFrom The starting date/time of the event.
+     * @param parsedTo The ending date/time of the event.
+     */
+    public Event(String description, LocalDateTime parsedFrom, LocalDateTime parsedTo) {
+        super(description);
+        this.from = UtilParser.convertDateTimeToStorageString(parsedFrom);
+        this.to = UtilParser.convertDateTimeToStorageString(parsedTo);
+        this.parsedFrom = parsedFrom;
+        this.parsedTo = parsedTo;
+    }
+
     /**
      * Converts the given String representation of a date and time to a {@code LocalDateTime} object.
      * This method utilizes a utility parser to interpret the string as a formatted date/time and return
@@ -53,6 +69,9 @@ public class Event extends Task {
      * @return the {@code LocalDate} representing the date which event starts.
      */
     public LocalDate getFormattedFromDate() {
+        if (parsedFrom != null) {
+            return parsedFrom.toLocalDate();
+        }
         String fromDate = extractStringDate(from);
         return UtilParser.convertDateString(fromDate);
     }
@@ -78,6 +97,14 @@ public class Event extends Task {
         return from;
     }
 
+    public LocalDateTime getParsedFrom() {
+        return parsedFrom;
+    }
+
+    public LocalDateTime getParsedTo() {
+        return parsedTo;
+    }
+
     /**
      * Converts the {@code LocalDateTime} to a formatted string representation.
      * This method uses a utility to convert the {@code LocalDateTime} to a string for display purposes.
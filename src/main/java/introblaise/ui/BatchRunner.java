@@ -0,0 +1,98 @@
+package introblaise.ui;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Runs IntroBlaise without the GUI, executing commands read from standard input or a file, one per line.
+ * <p>
+ * This is meant for scripts and bulk imports. Responses are written to standard output through a large buffer
+ * instead of being flushed after every command, and saving is deferred until the batch ends, so that the task
+ * file is written once instead of after every change. Reading stops at the end of the input or at "bye".
+ * The number of commands run per second is reported on standard error, so that it does not mix with
+ * the responses.
+ */
+public class BatchRunner {
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final IntroBlaise introBlaise;
+
+    /**
+     * Constructs a {@code BatchRunner} that sends commands to the given bot.
+     *
+     * @param introBlaise The bot to execute the commands.
+     */
+    public BatchRunner(IntroBlaise introBlaise) {
+        this.introBlaise = introBlaise;
+    }
+
+    /**
+     * Executes every command in the input and writes each response on its own line.
+     * Blank lines are skipped.
+     *
+     * @param input  The commands, one per line.
+     * @param output Where the responses are written.
+     * @return The number of commands executed.
+     * @throws IOException If the input cannot be read.
+     */
+    public int run(BufferedReader input, PrintStream output) throws IOException {
+        int commandCount = 0;
+        String line;
+        while ((line = input.readLine()) != null) {
+            String command = line.trim();
+            if (command.isEmpty()) {
+                continue;
+            }
+            if (command.equalsIgnoreCase("bye")) {
+                break;
+            }
+            output.println(introBlaise.getResponse(command));
+            commandCount++;
+        }
+        return commandCount;
+    }
+
+    /**
+     * Runs the commands in the file given as the first argument, or in standard input if there is none,
+     * against the task list in the default "data" directory.
+     *
+     * @param args The path of the file of commands, if given.
+     */
+    public static void main(String[] args) {
+        PrintStream output = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out),
+                OUTPUT_BUFFER_SIZE), false, StandardCharsets.UTF_8);
+        // Messages printed by storage go through the same buffer, so they stay in order with the responses
+        System.setOut(output);
+
+        long startNanos = System.nanoTime();
+        IntroBlaise introBlaise = new IntroBlaise();
+        introBlaise.deferSavesUntilShutdown();
+        int commandCount = 0;
+        try (BufferedReader input = openInput(args)) {
+            commandCount = new BatchRunner(introBlaise).run(input, output);
+        } catch (IOException e) {
+            System.out.println("Error reading commands: " + e.getMessage());
+        } finally {
+            introBlaise.shutdown();
+            output.flush();
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.err.printf("Ran %d commands in %.3f s (%.0f commands/s)%n",
+                commandCount, seconds, commandCount / seconds);
+    }
+
+    private static BufferedReader openInput(String[] args) throws IOException {
+        if (args.length > 0) {
+            return Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8);
+        }
+        return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+    }
+}
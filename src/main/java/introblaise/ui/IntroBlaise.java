@@ -4,8 +4,12 @@ import java.util.Map;
 
 import introblaise.commands.CommandFactory;
 import introblaise.commands.TaskCommand;
+import introblaise.jfr.CommandEvent;
+import introblaise.metrics.MetricsRegistry;
 import introblaise.parsers.CommandParser;
+import introblaise.parsers.UtilParser;
 import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
 import introblaise.task.TaskList;
 
 /**
@@ -15,7 +19,27 @@ import introblaise.task.TaskList;
  * for processing user commands and returning appropriate responses.
  */
 public class IntroBlaise {
+    /**
+     * The system property with the coalescing window, in milliseconds, of saving in the background.
+     * Saving in the background is only used when this is set to more than 0.
+     */
+    public static final String WRITE_BEHIND_PROPERTY = "introblaise.writeBehindMillis";
+
+    /**
+     * The system property with the memory budget, in bytes, of the index for finding tasks by keyword.
+     * The index is only used when this is set to more than 0.
+     */
+    public static final String SUBSTRING_INDEX_PROPERTY = "introblaise.substringIndexBytes";
+
+    /**
+     * The system property that, when {@code true}, only decodes tasks from the task file when they are needed,
+     * until the first change loads every task.
+     */
+    public static final String LAZY_LOAD_PROPERTY = "introblaise.lazyLoad";
+
     private final CommandParser commandParser;
+    private final TaskList taskList;
+    private final MetricsRegistry metrics;
 
     /**
      * Initializes the IntroBlaise bot by setting up storage, task management,
@@ -23,31 +47,95 @@ public class IntroBlaise {
      * <p>
      * This constructor initializes:
      * <ul>
-     *     <li>{@link Storage} - Manages task persistence.</li>
+     *     <li>{@link Storage} - Manages task persistence, journaling each change, or rewriting the task file
+     *     in the background if the system property {@value #WRITE_BEHIND_PROPERTY} is set.</li>
      *     <li>{@link TaskList} - Handles the list of tasks.</li>
      *     <li>{@link CommandFactory} - Creates and registers available commands.</li>
      *     <li>{@link CommandParser} - Parses and executes user commands.</li>
+     *     <li>{@link MetricsRegistry} - Records the metrics of every command.</li>
      * </ul>
      * </p>
      */
     public IntroBlaise() {
-        Storage storage = new Storage();
-        TaskList taskList = new TaskList(storage);
+        this(new Storage(getWriteBehindMillis() > 0 ? StorageMode.REWRITE : StorageMode.JOURNAL));
+    }
+
+    /**
+     * Initializes the IntroBlaise bot with tasks kept in the given storage.
+     * Command metrics are recorded unless the system property "introblaise.metrics" is {@code false}.
+     * Changes are saved in the background if the system property {@value #WRITE_BEHIND_PROPERTY} is set
+     * and the storage is not in journal mode. Tasks are indexed for finding them by keyword if the system
+     * property {@value #SUBSTRING_INDEX_PROPERTY} is set, and are only decoded when they are needed if the
+     * system property {@value #LAZY_LOAD_PROPERTY} is {@code true}.
+     *
+     * @param storage The storage that tasks are loaded from and saved to.
+     */
+    public IntroBlaise(Storage storage) {
+        this.taskList = new TaskList(storage, Boolean.getBoolean(LAZY_LOAD_PROPERTY));
+        long writeBehindMillis = getWriteBehindMillis();
+        if (writeBehindMillis > 0) {
+            taskList.enableWriteBehind(writeBehindMillis);
+        }
+        long substringIndexBytes = Long.getLong(SUBSTRING_INDEX_PROPERTY, 0);
+        if (substringIndexBytes > 0) {
+            taskList.enableSubstringIndex(substringIndexBytes);
+        }
+        this.metrics = MetricsRegistry.fromSystemProperties();
+        taskList.setMetricsRegistry(metrics);
 
-        CommandFactory commandFactory = new CommandFactory(taskList);
+        CommandFactory commandFactory = new CommandFactory(taskList, metrics);
         commandFactory.initializeCommandMap();
 
         Map<String, TaskCommand> commandMap = commandFactory.getCommandMap();
-        this.commandParser = new CommandParser(commandMap);
+        this.commandParser = new CommandParser(commandMap, metrics);
+    }
+
+    private static long getWriteBehindMillis() {
+        return Long.getLong(WRITE_BEHIND_PROPERTY, 0);
+    }
+
+    public TaskList getTaskList() {
+        return taskList;
+    }
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
     }
 
     /**
      * Processes a user command and generates an appropriate response.
+     * The command is recorded as a Java Flight Recorder event, while a recording is enabled for it.
      *
      * @param input The user input, typically a command to be processed.
      * @return A string response after the command has been executed.
      */
     public String getResponse(String input) {
-        return commandParser.executeCommand(input);
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        String response = commandParser.executeCommand(input);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setCommand(UtilParser.parseCommand(input));
+            event.setTaskCount(taskList.getSize());
+            event.setResponseLength(response.length());
+            event.commit();
+        }
+        return response;
+    }
+
+    /**
+     * Holds back saving until {@link #shutdown()}, so that a batch of commands is saved once at the end
+     * instead of after every command.
+     */
+    public void deferSavesUntilShutdown() {
+        taskList.deferSaves();
+    }
+
+    /**
+     * Saves every pending change to storage before the application exits.
+     * Calling this more than once has no further effect.
+     */
+    public void shutdown() {
+        taskList.close();
     }
 }
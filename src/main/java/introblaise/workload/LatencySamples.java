@@ -0,0 +1,47 @@
+package introblaise.workload;
+
+import java.util.Arrays;
+
+/**
+ * Collects latency samples, in nanoseconds, and reports their percentiles.
+ */
+class LatencySamples {
+    private long[] samples = new long[64];
+    private int count;
+    private boolean isSorted = true;
+
+    /**
+     * Adds a sample.
+     *
+     * @param nanos The latency, in nanoseconds.
+     */
+    void add(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        isSorted = false;
+    }
+
+    int count() {
+        return count;
+    }
+
+    /**
+     * Returns the sample at a percentile, by the nearest-rank method.
+     *
+     * @param fraction The percentile, from 0 to 1.
+     * @return The latency at the percentile, in milliseconds, or 0 if there are no samples.
+     */
+    double percentileMillis(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!isSorted) {
+            Arrays.sort(samples, 0, count);
+            isSorted = true;
+        }
+        int rank = (int) Math.ceil(fraction * count);
+        return samples[Math.max(rank, 1) - 1] / 1e6;
+    }
+}
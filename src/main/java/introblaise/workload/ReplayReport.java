@@ -0,0 +1,74 @@
+package introblaise.workload;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarizes the replay of a trace: its throughput, and the latency percentiles of each type of command.
+ */
+public class ReplayReport {
+    private final LatencySamples allCommands;
+    private final Map<String, LatencySamples> commandsByType;
+    private long totalNanos;
+
+    /**
+     * Constructs an empty {@code ReplayReport}.
+     */
+    public ReplayReport() {
+        this.allCommands = new LatencySamples();
+        this.commandsByType = new TreeMap<>();
+    }
+
+    /**
+     * Records how long a command took.
+     *
+     * @param command The command, whose first word is its type.
+     * @param nanos   How long the command took, in nanoseconds.
+     */
+    void record(String command, long nanos) {
+        int spaceIndex = command.indexOf(' ');
+        String type = spaceIndex < 0 ? command : command.substring(0, spaceIndex);
+        allCommands.add(nanos);
+        commandsByType.computeIfAbsent(type, key -> new LatencySamples()).add(nanos);
+    }
+
+    void setTotalNanos(long totalNanos) {
+        this.totalNanos = totalNanos;
+    }
+
+    public int getCommandCount() {
+        return allCommands.count();
+    }
+
+    public double getCommandsPerSecond() {
+        return totalNanos == 0 ? 0 : allCommands.count() / (totalNanos / 1e9);
+    }
+
+    public double getP99Millis() {
+        return allCommands.percentileMillis(0.99);
+    }
+
+    /**
+     * Returns the report as a table, with one row for all commands and one row for each type of command.
+     *
+     * @return The formatted report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder(String.format("Replayed %d commands in %.3f s (%.0f commands/s)%n",
+                allCommands.count(), totalNanos / 1e9, getCommandsPerSecond()));
+        result.append(String.format("%-10s %8s %10s %10s %10s %10s%n", "command", "count", "p50 ms", "p90 ms",
+                "p99 ms", "max ms"));
+        appendRow(result, "all", allCommands);
+        for (Map.Entry<String, LatencySamples> entry : commandsByType.entrySet()) {
+            appendRow(result, entry.getKey(), entry.getValue());
+        }
+        return result.toString().trim();
+    }
+
+    private static void appendRow(StringBuilder result, String type, LatencySamples samples) {
+        result.append(String.format("%-10s %8d %10.3f %10.3f %10.3f %10.3f%n", type, samples.count(),
+                samples.percentileMillis(0.5), samples.percentileMillis(0.9), samples.percentileMillis(0.99),
+                samples.percentileMillis(1.0)));
+    }
+}
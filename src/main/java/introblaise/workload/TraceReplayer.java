@@ -0,0 +1,73 @@
+package introblaise.workload;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.ui.IntroBlaise;
+
+/**
+ * Replays a trace of commands through {@link IntroBlaise#getResponse(String)}, timing each command.
+ * <p>
+ * Commands are replayed one after another on the calling thread, the same way the GUI runs them, so the
+ * latencies include persisting each change. Responses are discarded once they have been produced.
+ */
+public class TraceReplayer {
+    private final IntroBlaise introBlaise;
+
+    /**
+     * Constructs a {@code TraceReplayer} that replays commands against the given bot.
+     *
+     * @param introBlaise The bot to run the commands.
+     */
+    public TraceReplayer(IntroBlaise introBlaise) {
+        this.introBlaise = introBlaise;
+    }
+
+    /**
+     * Replays every command of a trace, in order.
+     *
+     * @param commands The commands, as a user would type them.
+     * @return The throughput and latencies of the replay.
+     */
+    public ReplayReport replay(List<String> commands) {
+        ReplayReport report = new ReplayReport();
+        long startNanos = System.nanoTime();
+        for (String command : commands) {
+            long commandStartNanos = System.nanoTime();
+            introBlaise.getResponse(command);
+            report.record(command, System.nanoTime() - commandStartNanos);
+        }
+        report.setTotalNanos(System.nanoTime() - startNanos);
+        return report;
+    }
+
+    /**
+     * Replays a trace against the task list in a directory, in journal mode like the app, and prints the report.
+     * The task list is changed by the replay, so it should be a copy made for the purpose.
+     *
+     * @param args The directory of the task list and the trace file, which defaults to "trace.txt" in
+     *             that directory.
+     * @throws IOException If the trace cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: TraceReplayer DIRECTORY [TRACE_FILE]");
+            return;
+        }
+        Path directory = Paths.get(args[0]);
+        Path tracePath = args.length > 1 ? Paths.get(args[1]) : directory.resolve(WorkloadGenerator.TRACE_FILE_NAME);
+        List<String> commands = Files.readAllLines(tracePath, StandardCharsets.UTF_8);
+        IntroBlaise introBlaise = new IntroBlaise(new Storage(directory.toString(), StorageMode.JOURNAL));
+        try {
+            System.out.println(new TraceReplayer(introBlaise).replay(commands));
+        } finally {
+            introBlaise.shutdown();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package introblaise.workload;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageFormat;
+import introblaise.storage.StorageMode;
+import introblaise.task.Task;
+import introblaise.tasktype.Deadline;
+import introblaise.tasktype.Event;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Generates synthetic task lists and traces of commands, shaped by a {@link WorkloadProfile}.
+ * <p>
+ * Task lists are written in the same text format as "data/introBlaise.txt", so they can be loaded by the app.
+ * Descriptions are drawn from a small vocabulary, so that finding a word matches a realistic share of tasks.
+ * Their number of words follows a normal distribution around the mean, cut off at the minimum and maximum.
+ * Traces only refer to tasks that exist at that point of the trace, so replaying a trace against the task list
+ * it was generated for never fails on a missing task. The same profile and seed always give the same output.
+ */
+public class WorkloadGenerator {
+    public static final String TRACE_FILE_NAME = "trace.txt";
+
+    private static final String[] WORDS = {
+        "read", "write", "book", "essay", "report", "meeting", "project", "review", "call", "email",
+        "groceries", "laundry", "gym", "lecture", "tutorial", "assignment", "exam", "revise", "plan", "budget",
+        "doctor", "dentist", "birthday", "party", "dinner", "lunch", "team", "client", "draft", "submit",
+        "fix", "bug", "deploy", "release", "backup", "clean", "room", "garden", "bike", "car"
+    };
+    private static final String[] TAGS = {"work", "home", "school", "urgent", "errand"};
+    private static final DateTimeFormatter COMMAND_DATE_FORMAT = DateTimeFormatter.ofPattern("d-MM-yyyy HHmm");
+
+    private final WorkloadProfile profile;
+    private final Random random;
+
+    /**
+     * Constructs a {@code WorkloadGenerator} for the given profile.
+     *
+     * @param profile The shape of the task lists and traces to generate.
+     */
+    public WorkloadGenerator(WorkloadProfile profile) {
+        this.profile = profile;
+        this.random = new Random(profile.getSeed());
+    }
+
+    /**
+     * Generates a task list, with IDs from 1 to the number of tasks.
+     *
+     * @param taskCount The number of tasks to generate.
+     * @return The tasks, in order of ID.
+     */
+    public List<Task> generateTasks(int taskCount) {
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 1; i <= taskCount; i++) {
+            Task task = generateTask();
+            task.setId(i);
+            if (random.nextDouble() < profile.getTagRatio()) {
+                task.setTag(TAGS[random.nextInt(TAGS.length)]);
+            }
+            if (random.nextDouble() < profile.getDoneRatio()) {
+                task.markAsDone();
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private Task generateTask() {
+        String description = generateDescription();
+        LocalDateTime start = generateDateTime();
+        switch (pickTaskType()) {
+        case "deadline":
+            return new Deadline(description, start);
+        case "event":
+            return new Event(description, start, start.plusHours(1 + random.nextInt(3)));
+        default:
+            return new ToDo(description);
+        }
+    }
+
+    private String pickTaskType() {
+        int total = profile.getTodoWeight() + profile.getDeadlineWeight() + profile.getEventWeight();
+        int pick = random.nextInt(Math.max(total, 1));
+        if (pick < profile.getTodoWeight()) {
+            return "todo";
+        } else if (pick < profile.getTodoWeight() + profile.getDeadlineWeight()) {
+            return "deadline";
+        }
+        return "event";
+    }
+
+    private String generateDescription() {
+        double spread = Math.max(profile.getMaxWords() - profile.getMinWords(), 1) / 4.0;
+        long wordCount = Math.round(profile.getMeanWords() + random.nextGaussian() * spread);
+        wordCount = Math.max(profile.getMinWords(), Math.min(profile.getMaxWords(), wordCount));
+        StringBuilder description = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        for (int i = 1; i < wordCount; i++) {
+            description.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return description.toString();
+    }
+
+    private LocalDateTime generateDateTime() {
+        return profile.getStartDate()
+                .plusDays(random.nextInt(Math.max(profile.getDateSpreadDays(), 1)))
+                .atTime(8 + random.nextInt(12), 0);
+    }
+
+    /**
+     * Generates a task list and writes it as a text task file in a directory.
+     *
+     * @param directory The directory to write "introBlaise.txt" to.
+     * @param taskCount The number of tasks to generate.
+     */
+    public void writeTaskFile(Path directory, int taskCount) {
+        Storage storage = new Storage(directory.toString(), StorageMode.REWRITE, StorageFormat.TEXT);
+        storage.saveTasks(generateTasks(taskCount));
+        storage.close();
+    }
+
+    /**
+     * Generates a trace of commands for a task list, one command per line as a user would type it.
+     *
+     * @param initialTaskCount The number of tasks in the task list before the trace is replayed.
+     * @param commandCount     The number of commands to generate.
+     * @return The commands, in order.
+     */
+    public List<String> generateTrace(int initialTaskCount, int commandCount) {
+        List<String> commands = new ArrayList<>(commandCount);
+        int taskCount = initialTaskCount;
+        int[] weights = {profile.getListWeight(), profile.getFindWeight(), profile.getMarkWeight(),
+                profile.getDeleteWeight(), profile.getAddWeight()};
+        int totalWeight = Math.max(weights[0] + weights[1] + weights[2] + weights[3] + weights[4], 1);
+        for (int i = 0; i < commandCount; i++) {
+            int pick = random.nextInt(totalWeight);
+            int kind = 0;
+            while (kind < weights.length - 1 && pick >= weights[kind]) {
+                pick -= weights[kind];
+                kind++;
+            }
+            if (taskCount == 0 && (kind == 2 || kind == 3)) {
+                kind = 4;
+            }
+            switch (kind) {
+            case 0:
+                commands.add("list");
+                break;
+            case 1:
+                commands.add("find " + WORDS[random.nextInt(WORDS.length)]);
+                break;
+            case 2:
+                commands.add("mark " + (1 + random.nextInt(taskCount)));
+                break;
+            case 3:
+                commands.add("delete " + (1 + random.nextInt(taskCount)));
+                taskCount--;
+                break;
+            default:
+                commands.add(generateAddCommand());
+                taskCount++;
+                break;
+            }
+        }
+        return commands;
+    }
+
+    private String generateAddCommand() {
+        String description = generateDescription();
+        LocalDateTime start = generateDateTime();
+        switch (pickTaskType()) {
+        case "deadline":
+            return "deadline " + description + " /by " + start.format(COMMAND_DATE_FORMAT);
+        case "event":
+            return "event " + description + " /from " + start.format(COMMAND_DATE_FORMAT)
+                    + " /to " + start.plusHours(1 + random.nextInt(3)).format(COMMAND_DATE_FORMAT);
+        default:
+            return "todo " + description;
+        }
+    }
+
+    /**
+     * Writes a task file and a trace of commands for it to a directory.
+     *
+     * @param args The directory, the number of tasks, the number of commands, and any settings of the profile,
+     *             such as {@code --tagRatio=0.3}.
+     * @throws IOException If a file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: WorkloadGenerator DIRECTORY TASKS COMMANDS [--setting=value...]");
+            return;
+        }
+        Path directory = Paths.get(args[0]);
+        int taskCount = Integer.parseInt(args[1]);
+        int commandCount = Integer.parseInt(args[2]);
+        WorkloadGenerator generator = new WorkloadGenerator(WorkloadProfile.fromArgs(args));
+        generator.writeTaskFile(directory, taskCount);
+        Files.write(directory.resolve(TRACE_FILE_NAME), generator.generateTrace(taskCount, commandCount),
+                StandardCharsets.UTF_8);
+        System.out.println("Wrote " + taskCount + " tasks and " + commandCount + " commands to " + directory);
+    }
+}
@@ -0,0 +1,236 @@
+package introblaise.workload;
+
+import java.time.LocalDate;
+
+/**
+ * Describes the shape of a synthetic task list and of a trace of commands run against it.
+ * <p>
+ * Every setting has a default, so a profile only needs the settings that differ. Profiles can be read from
+ * command-line arguments of the form {@code --name=value}, where the name is one of the setters without its
+ * "set" prefix, such as {@code --tagRatio=0.3}. Weights are relative to the other weights of the same kind,
+ * and ratios are probabilities from 0 to 1.
+ */
+public class WorkloadProfile {
+    private long seed = 42;
+    private int todoWeight = 5;
+    private int deadlineWeight = 3;
+    private int eventWeight = 2;
+    private double tagRatio = 0.2;
+    private double doneRatio = 0.3;
+    private LocalDate startDate = LocalDate.of(2025, 1, 1);
+    private int dateSpreadDays = 365;
+    private int minWords = 2;
+    private int meanWords = 5;
+    private int maxWords = 20;
+    private int listWeight = 10;
+    private int findWeight = 40;
+    private int markWeight = 20;
+    private int deleteWeight = 10;
+    private int addWeight = 20;
+
+    /**
+     * Reads a profile from command-line arguments, leaving the default of every setting that is not given.
+     * Arguments that do not start with "--" are ignored, so that they can be used for other purposes.
+     *
+     * @param args The arguments, such as {@code --doneRatio=0.5}.
+     * @return The profile.
+     * @throws IllegalArgumentException If an argument names an unknown setting or has an invalid value.
+     */
+    public static WorkloadProfile fromArgs(String[] args) {
+        WorkloadProfile profile = new WorkloadProfile();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int separatorIndex = arg.indexOf('=');
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            profile.set(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+        }
+        return profile;
+    }
+
+    private void set(String name, String value) {
+        switch (name) {
+        case "seed":
+            seed = Long.parseLong(value);
+            break;
+        case "todoWeight":
+            todoWeight = Integer.parseInt(value);
+            break;
+        case "deadlineWeight":
+            deadlineWeight = Integer.parseInt(value);
+            break;
+        case "eventWeight":
+            eventWeight = Integer.parseInt(value);
+            break;
+        case "tagRatio":
+            tagRatio = Double.parseDouble(value);
+            break;
+        case "doneRatio":
+            doneRatio = Double.parseDouble(value);
+            break;
+        case "startDate":
+            startDate = LocalDate.parse(value);
+            break;
+        case "dateSpreadDays":
+            dateSpreadDays = Integer.parseInt(value);
+            break;
+        case "minWords":
+            minWords = Integer.parseInt(value);
+            break;
+        case "meanWords":
+            meanWords = Integer.parseInt(value);
+            break;
+        case "maxWords":
+            maxWords = Integer.parseInt(value);
+            break;
+        case "listWeight":
+            listWeight = Integer.parseInt(value);
+            break;
+        case "findWeight":
+            findWeight = Integer.parseInt(value);
+            break;
+        case "markWeight":
+            markWeight = Integer.parseInt(value);
+            break;
+        case "deleteWeight":
+            deleteWeight = Integer.parseInt(value);
+            break;
+        case "addWeight":
+            addWeight = Integer.parseInt(value);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown workload setting: " + name);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getTodoWeight() {
+        return todoWeight;
+    }
+
+    public void setTodoWeight(int todoWeight) {
+        this.todoWeight = todoWeight;
+    }
+
+    public int getDeadlineWeight() {
+        return deadlineWeight;
+    }
+
+    public void setDeadlineWeight(int deadlineWeight) {
+        this.deadlineWeight = deadlineWeight;
+    }
+
+    public int getEventWeight() {
+        return eventWeight;
+    }
+
+    public void setEventWeight(int eventWeight) {
+        this.eventWeight = eventWeight;
+    }
+
+    public double getTagRatio() {
+        return tagRatio;
+    }
+
+    public void setTagRatio(double tagRatio) {
+        this.tagRatio = tagRatio;
+    }
+
+    public double getDoneRatio() {
+        return doneRatio;
+    }
+
+    public void setDoneRatio(double doneRatio) {
+        this.doneRatio = doneRatio;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public int getDateSpreadDays() {
+        return dateSpreadDays;
+    }
+
+    public void setDateSpreadDays(int dateSpreadDays) {
+        this.dateSpreadDays = dateSpreadDays;
+    }
+
+    public int getMinWords() {
+        return minWords;
+    }
+
+    public void setMinWords(int minWords) {
+        this.minWords = minWords;
+    }
+
+    public int getMeanWords() {
+        return meanWords;
+    }
+
+    public void setMeanWords(int meanWords) {
+        this.meanWords = meanWords;
+    }
+
+    public int getMaxWords() {
+        return maxWords;
+    }
+
+    public void setMaxWords(int maxWords) {
+        this.maxWords = maxWords;
+    }
+
+    public int getListWeight() {
+        return listWeight;
+    }
+
+    public void setListWeight(int listWeight) {
+        this.listWeight = listWeight;
+    }
+
+    public int getFindWeight() {
+        return findWeight;
+    }
+
+    public void setFindWeight(int findWeight) {
+        this.findWeight = findWeight;
+    }
+
+    public int getMarkWeight() {
+        return markWeight;
+    }
+
+    public void setMarkWeight(int markWeight) {
+        this.markWeight = markWeight;
+    }
+
+    public int getDeleteWeight() {
+        return deleteWeight;
+    }
+
+    public void setDeleteWeight(int deleteWeight) {
+        this.deleteWeight = deleteWeight;
+    }
+
+    public int getAddWeight() {
+        return addWeight;
+    }
+
+    public void setAddWeight(int addWeight) {
+        this.addWeight = addWeight;
+    }
+}
@@ -0,0 +1,69 @@
+package introblaise.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.ui.IntroBlaise;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit tests for the Java Flight Recorder events of IntroBlaise.
+ * This class tests that running commands records command, journal, index and storage events with their details.
+ */
+public class JfrEventsTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that adding a task and saving records one event of each kind, with the details of the change.
+     */
+    @Test
+    public void getResponse_recording_recordsEvents() throws IOException {
+        Path recordingPath = tempDir.resolve("introblaise.jfr");
+        IntroBlaise introBlaise = new IntroBlaise(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        try (Recording recording = new Recording()) {
+            for (String eventName : List.of("introblaise.Command", "introblaise.JournalAppend",
+                    "introblaise.IndexUpdate", "introblaise.StorageSave")) {
+                recording.enable(eventName);
+            }
+            recording.start();
+            introBlaise.getResponse("todo read book");
+            introBlaise.getTaskList().saveTasks();
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+        introBlaise.shutdown();
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+        List<String> eventNames = events.stream().map(event -> event.getEventType().getName())
+                .collect(Collectors.toList());
+
+        RecordedEvent commandEvent = findEvent(events, "introblaise.Command");
+        assertEquals("todo", commandEvent.getString("command"));
+        assertEquals(1, commandEvent.getInt("taskCount"));
+        assertEquals("ADD", findEvent(events, "introblaise.JournalAppend").getString("operation"));
+        assertTrue(findEvent(events, "introblaise.JournalAppend").getLong("bytes") > 0);
+        assertEquals("add", findEvent(events, "introblaise.IndexUpdate").getString("operation"));
+        RecordedEvent saveEvent = findEvent(events, "introblaise.StorageSave");
+        assertEquals(1, saveEvent.getInt("records"));
+        assertTrue(saveEvent.getBoolean("isSnapshot"));
+        assertEquals(4, eventNames.size(), eventNames.toString());
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event"));
+    }
+}
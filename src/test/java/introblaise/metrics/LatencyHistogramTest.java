@@ -0,0 +1,53 @@
+package introblaise.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ * This class tests that percentiles are reported within the precision of the buckets.
+ */
+public class LatencyHistogramTest {
+    /**
+     * Tests that percentiles over a wide range of latencies are never below the true value,
+     * and at most about 6% above it.
+     */
+    @Test
+    public void getValueAtPercentile_uniformLatencies_withinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos * 100);
+        }
+
+        for (double fraction : new double[] {0.5, 0.9, 0.99}) {
+            long expected = Math.round(fraction * 100_000) * 100;
+            long actual = histogram.getValueAtPercentile(fraction);
+            assertTrue(actual >= expected && actual <= expected * 1.07, fraction + ": " + actual);
+        }
+        assertEquals(10_000_000, histogram.getValueAtPercentile(1.0));
+        assertEquals(10_000_000, histogram.getMaxNanos());
+        assertEquals(100_000, histogram.getCount());
+    }
+
+    /**
+     * Tests that small and very large latencies are recorded in range, and that resetting clears them.
+     */
+    @Test
+    public void record_extremeLatencies_resetClears() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(7);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getValueAtPercentile(0.1));
+        assertEquals(7, histogram.getValueAtPercentile(0.5));
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(1.0));
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(0.5));
+    }
+}
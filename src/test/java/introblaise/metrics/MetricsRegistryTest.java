@@ -0,0 +1,93 @@
+package introblaise.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.ui.IntroBlaise;
+
+/**
+ * Unit tests for {@link MetricsRegistry}.
+ * This class tests that running commands records their metrics, phase by phase, and that nothing is recorded
+ * while the registry is disabled.
+ */
+public class MetricsRegistryTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that every command run is recorded, that only commands that change the task list are recorded as
+     * persisting, and that input naming no command is counted separately.
+     */
+    @Test
+    public void getResponse_commands_recordsPhases() {
+        IntroBlaise introBlaise = new IntroBlaise(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        MetricsRegistry metrics = introBlaise.getMetrics();
+
+        introBlaise.getResponse("todo read book");
+        introBlaise.getResponse("todo write essay");
+        introBlaise.getResponse("list");
+        introBlaise.getResponse("dance");
+
+        CommandMetrics todoMetrics = metrics.getCommandMetrics("todo");
+        CommandMetrics listMetrics = metrics.getCommandMetrics("list");
+        assertEquals(2, todoMetrics.getInvocations());
+        assertEquals(2, todoMetrics.getParseLatencies().getCount());
+        assertEquals(2, todoMetrics.getExecuteLatencies().getCount());
+        assertEquals(2, todoMetrics.getPersistLatencies().getCount());
+        assertEquals(1, listMetrics.getInvocations());
+        assertEquals(0, listMetrics.getPersistLatencies().getCount());
+        assertEquals(1, metrics.getUnknownCommands());
+        assertTrue(introBlaise.getResponse("stats").contains("todo: 2 runs, 0 errors"));
+        assertTrue(introBlaise.getResponse("stats json").contains("\"todo\":{\"invocations\":2,\"errors\":0"));
+        introBlaise.shutdown();
+    }
+
+    /**
+     * Tests that input a command rejects is recorded as an error, while its message is still the response.
+     */
+    @Test
+    public void getResponse_invalidInput_recordsErrors() {
+        IntroBlaise introBlaise = new IntroBlaise(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        MetricsRegistry metrics = introBlaise.getMetrics();
+        introBlaise.getResponse("todo read book");
+
+        String response = introBlaise.getResponse("mark abc");
+        introBlaise.getResponse("mark 5");
+        introBlaise.getResponse("mark 1");
+        introBlaise.getResponse("tasks on 32-01-2025");
+
+        assertTrue(response.startsWith("Please enter the correct task number."));
+        assertEquals(3, metrics.getCommandMetrics("mark").getInvocations());
+        assertEquals(2, metrics.getCommandMetrics("mark").getErrors());
+        assertEquals(1, metrics.getCommandMetrics("tasks").getErrors());
+        assertEquals(0, metrics.getCommandMetrics("todo").getErrors());
+        introBlaise.shutdown();
+    }
+
+    /**
+     * Tests that commands still run while metrics are off, without being recorded, and that resetting
+     * clears what was recorded before.
+     */
+    @Test
+    public void getResponse_statsOff_recordsNothing() {
+        IntroBlaise introBlaise = new IntroBlaise(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        MetricsRegistry metrics = introBlaise.getMetrics();
+        introBlaise.getResponse("list");
+
+        introBlaise.getResponse("stats off");
+        introBlaise.getResponse("todo read book");
+        introBlaise.getResponse("stats reset");
+
+        assertEquals(1, introBlaise.getTaskList().getSize());
+        assertEquals(0, metrics.getCommandMetrics("todo").getInvocations());
+        assertEquals(0, metrics.getCommandMetrics("list").getInvocations());
+        introBlaise.shutdown();
+    }
+}
@@ -0,0 +1,94 @@
+package introblaise.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.commands.CommandFactory;
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.task.TaskList;
+
+/**
+ * Unit tests for {@link CommandTokens} and for commands being recognized from them.
+ */
+public class CommandTokensTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that words separated by any amount of whitespace are found at their offsets, and that the rest of
+     * the input keeps the whitespace between its words.
+     */
+    @Test
+    public void tokenize_extraWhitespace_wordsFound() {
+        CommandTokens tokens = CommandTokens.tokenize("  TAG\t#12   work  stuff ");
+
+        assertEquals(4, tokens.size());
+        assertEquals("tag", tokens.getCommand());
+        assertEquals("#12", tokens.get(1));
+        assertEquals(6, tokens.getStart(1));
+        assertEquals(6, tokens.getArgumentsStart());
+        assertEquals("work  stuff", tokens.getRest(2));
+        assertEquals("", tokens.getRest(4));
+        assertTrue(tokens.startsWith(1, "#"));
+        assertEquals(12, tokens.parseInt(1, 1));
+        assertTrue(tokens.equalsIgnoreCase(0, "tag"));
+        assertFalse(tokens.isWord(0, "tag"));
+        assertThrows(IndexOutOfBoundsException.class, () -> tokens.get(4));
+    }
+
+    /**
+     * Tests that reusing the tokens for shorter input after longer input only keeps the words of the new input.
+     */
+    @Test
+    public void reset_longerThenShorterInput_onlyNewWords() {
+        CommandTokens tokens = new CommandTokens();
+        tokens.reset("find a b c d e f g h i j");
+        assertEquals(11, tokens.size());
+        assertEquals("a b c d e f g h i j", tokens.getRest(1));
+
+        tokens.reset("list");
+        assertEquals(1, tokens.size());
+        assertEquals("", tokens.getRest(1));
+        assertEquals(4, tokens.getArgumentsStart());
+
+        tokens.reset("   ");
+        assertEquals(0, tokens.size());
+        assertEquals("", tokens.getCommand());
+    }
+
+    /**
+     * Tests that commands are recognized whatever their case and spacing, that names which only start with a
+     * command are not, and that commands read their arguments from the tokens.
+     */
+    @Test
+    public void executeCommand_mixedCaseAndSpacing_sameResponses() {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        CommandFactory commandFactory = new CommandFactory(taskList);
+        commandFactory.initializeCommandMap();
+        CommandParser commandParser = new CommandParser(commandFactory.getCommandMap());
+
+        commandParser.executeCommand("Todo  read   book");
+        commandParser.executeCommand("deadline return book /by 2-03-2025 1800");
+
+        assertEquals("read   book", taskList.getTask(0).getDescription());
+        assertEquals("return book", taskList.getTask(1).getDescription());
+        assertEquals(commandParser.executeCommand("list"), commandParser.executeCommand("  LIST "));
+        assertTrue(commandParser.executeCommand("MARK   1").startsWith("Well done!"));
+        assertTrue(taskList.getTask(0).getIsDone());
+        assertTrue(commandParser.executeCommand("marks 1").startsWith("Err...I don't understand this"));
+        assertTrue(commandParser.executeCommand("mar 1").startsWith("Err...I don't understand this"));
+        assertTrue(commandParser.executeCommand("tag #" + taskList.getTask(1).getId() + " school  work")
+                .startsWith("I've tagged this task:"));
+        assertEquals("school  work", taskList.getTask(1).getTag());
+        assertEquals("Please enter two dates! It should be in the format: tasks between [dd-mm-yyyy] [dd-mm-yyyy]",
+                commandParser.executeCommand("tasks between 1-01-2025"));
+    }
+}
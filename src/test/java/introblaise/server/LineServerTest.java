@@ -0,0 +1,75 @@
+package introblaise.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.ui.IntroBlaise;
+
+/**
+ * Unit tests for {@link LineServer}.
+ * This class tests that pipelined commands are answered in order, and that idle connections do not hold up
+ * other clients.
+ */
+public class LineServerTest {
+    @TempDir
+    Path tempDir;
+
+    private static String sendAll(LineServer server, String commands) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream output = socket.getOutputStream();
+            output.write(commands.getBytes(StandardCharsets.UTF_8));
+            socket.shutdownOutput();
+            InputStream input = socket.getInputStream();
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Tests that commands sent together, while other connections stay idle, are answered in order, each followed
+     * by an empty line, and that "bye" closes the connection without running later commands.
+     */
+    @Test
+    public void handleLine_pipelinedCommandsWithIdleConnections_answeredInOrder() throws IOException {
+        IntroBlaise introBlaise = new IntroBlaise(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        LineServer server = new LineServer(introBlaise, 0);
+        server.start();
+        List<Socket> idleSockets = new ArrayList<>();
+        try {
+            for (int i = 0; i < 100; i++) {
+                idleSockets.add(new Socket(InetAddress.getLoopbackAddress(), server.getPort()));
+            }
+
+            String responses = sendAll(server, "todo read book\r\ntodo write essay\n\nmark 2\nlist\nbye\ntodo lost\n");
+
+            String[] blocks = responses.split("\n\n", -1);
+            assertEquals(5, blocks.length);
+            assertTrue(blocks[0].contains("[T][ ] read book"));
+            assertTrue(blocks[1].contains("Now you have 2 tasks in the list."));
+            assertTrue(blocks[2].startsWith("Well done!"));
+            assertEquals("1. [T][ ] read book\n2. [T][X] write essay", blocks[3]);
+            assertEquals("", blocks[4]);
+            assertEquals("1. [T][ ] read book\n2. [T][X] write essay\n\n", sendAll(server, "list"));
+        } finally {
+            for (Socket socket : idleSockets) {
+                socket.close();
+            }
+            server.stop();
+            introBlaise.shutdown();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package introblaise.server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.task.TaskList;
+import introblaise.tasktype.ToDo;
+import introblaise.ui.IntroBlaise;
+
+/**
+ * Measures the throughput and latency of a {@link TaskServer} under concurrent clients.
+ * <p>
+ * Each client sends requests back to back for a fixed time: mostly keyword searches, with some full listings
+ * and some new tasks. Unless the address of a running server is given, a server is started in this process
+ * over a temporary task list of {@value #INITIAL_TASK_COUNT} tasks. Run it with
+ * {@code gradlew serverLoad --args="CLIENTS SECONDS [URL]"}.
+ */
+public class ServerLoadGenerator {
+    private static final int INITIAL_TASK_COUNT = 1000;
+    private static final int DEFAULT_CLIENT_COUNT = 16;
+    private static final int DEFAULT_SECONDS = 10;
+
+    /**
+     * Runs the clients and prints the number of requests per second and the latency percentiles.
+     *
+     * @param args The number of clients, the number of seconds to run for and the server address, if given.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENT_COUNT;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+        TaskServer server = null;
+        IntroBlaise introBlaise = null;
+        String baseUrl;
+        if (args.length > 2) {
+            baseUrl = args[2];
+        } else {
+            Path dataDir = Files.createTempDirectory("introblaise-load");
+            introBlaise = new IntroBlaise(new Storage(dataDir.toString(), StorageMode.JOURNAL));
+            TaskList taskList = introBlaise.getTaskList();
+            for (int i = 0; i < INITIAL_TASK_COUNT; i++) {
+                taskList.addTask(new ToDo("Task " + i + " for project " + (i % 100)));
+            }
+            server = new TaskServer(introBlaise, 0);
+            server.start();
+            baseUrl = "http://localhost:" + server.getPort();
+        }
+
+        try {
+            run(baseUrl, clientCount, seconds);
+        } finally {
+            if (server != null) {
+                server.stop();
+                introBlaise.shutdown();
+            }
+        }
+    }
+
+    private static void run(String baseUrl, int clientCount, int seconds)
+            throws InterruptedException, ExecutionException {
+        HttpClient client = HttpClient.newHttpClient();
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        long endNanos = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int i = 0; i < clientCount; i++) {
+            Random random = new Random(i);
+            results.add(clients.submit(createClient(client, baseUrl, random, endNanos)));
+        }
+        long[] latencies = new long[0];
+        for (Future<long[]> result : results) {
+            long[] clientLatencies = result.get();
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + clientLatencies.length);
+            System.arraycopy(clientLatencies, 0, latencies, offset, clientLatencies.length);
+        }
+        clients.shutdown();
+
+        Arrays.sort(latencies);
+        System.out.printf("%d clients, %d requests in %d s: %.0f requests/s%n",
+                clientCount, latencies.length, seconds, latencies.length / (double) seconds);
+        System.out.printf("latency p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+    }
+
+    /**
+     * Creates a client that sends requests until the end time, and returns the latency of each request.
+     */
+    private static Callable<long[]> createClient(HttpClient client, String baseUrl, Random random, long endNanos) {
+        return () -> {
+            long[] latencies = new long[1024];
+            int count = 0;
+            while (System.nanoTime() < endNanos) {
+                HttpRequest request = createRequest(baseUrl, random);
+                long startNanos = System.nanoTime();
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - startNanos;
+            }
+            return Arrays.copyOf(latencies, count);
+        };
+    }
+
+    private static HttpRequest createRequest(String baseUrl, Random random) {
+        int kind = random.nextInt(100);
+        if (kind < 80) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/tasks?find=project%20" + random.nextInt(100)))
+                    .GET().build();
+        } else if (kind < 90) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/tasks")).GET().build();
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/tasks/todo"))
+                .POST(HttpRequest.BodyPublishers.ofString("Load task " + random.nextInt())).build();
+    }
+
+    private static double percentile(long[] sortedLatencies, double fraction) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1e6;
+    }
+}
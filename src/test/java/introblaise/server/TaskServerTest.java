@@ -0,0 +1,72 @@
+package introblaise.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.ui.IntroBlaise;
+
+/**
+ * Unit tests for {@link TaskServer}.
+ * This class tests that tasks can be added, listed, found, marked and deleted through the JSON endpoints.
+ */
+public class TaskServerTest {
+    @TempDir
+    Path tempDir;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private HttpResponse<String> send(TaskServer server, String method, String path, String body)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Tests that tasks added through the server are listed and found as JSON, and can be marked and deleted.
+     * Found tasks are numbered by their positions in the task list, so that their numbers change the right task.
+     */
+    @Test
+    public void handleTasks_addMarkFindDelete_jsonResponses() throws IOException, InterruptedException {
+        IntroBlaise introBlaise = new IntroBlaise(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        TaskServer server = new TaskServer(introBlaise, 0);
+        server.start();
+        try {
+            HttpResponse<String> added = send(server, "POST", "/tasks/todo", "read \"book\"");
+            send(server, "POST", "/tasks/deadline", "return book /by 2-03-2025 1800");
+            send(server, "POST", "/commands", "todo write essay");
+            send(server, "POST", "/tasks/1/mark", "");
+            send(server, "DELETE", "/tasks/3", "");
+
+            assertEquals(200, added.statusCode());
+            assertTrue(added.body().startsWith("{\"response\":\"Got it. I've added this task: \\n"));
+            assertEquals("{\"tasks\":[{\"no\":1,\"id\":1,\"type\":\"todo\",\"description\":\"read \\\"book\\\"\","
+                    + "\"done\":true,\"tag\":null,\"text\":\"[T][X] read \\\"book\\\"\"},"
+                    + "{\"no\":2,\"id\":2,\"type\":\"deadline\",\"description\":\"return book\",\"done\":false,"
+                    + "\"tag\":null,\"text\":\"[D][ ] return book (by: Mar 02 2025 1800)\"}]}",
+                    send(server, "GET", "/tasks", "").body());
+            String found = send(server, "GET", "/tasks?find=RETURN%20book", "").body();
+            assertTrue(found.startsWith("{\"tasks\":[{\"no\":2,\"id\":2,"), found);
+            send(server, "POST", "/tasks/2/unmark", "");
+            assertTrue(introBlaise.getTaskList().getTask(0).getIsDone());
+            assertEquals(405, send(server, "PUT", "/tasks", "").statusCode());
+            assertEquals(404, send(server, "GET", "/tasks/1/2/3", "").statusCode());
+        } finally {
+            server.stop();
+            introBlaise.shutdown();
+        }
+    }
+}
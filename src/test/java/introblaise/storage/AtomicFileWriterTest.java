@@ -0,0 +1,69 @@
+package introblaise.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link AtomicFileWriter}.
+ * This class tests that a file is replaced as a whole, and that no temporary file is left behind.
+ */
+public class AtomicFileWriterTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that writing replaces longer existing contents entirely, with or without forcing them to the disk.
+     */
+    @Test
+    public void write_existingFile_contentsReplaced() throws IOException {
+        Path target = tempDir.resolve("tasks.txt");
+        Files.writeString(target, "T | 0 | An old task with a long description\n");
+        byte[] contents = "T | 1 | New\n".getBytes(StandardCharsets.UTF_8);
+
+        AtomicFileWriter.write(target, contents, false);
+        assertArrayEquals(contents, Files.readAllBytes(target));
+
+        AtomicFileWriter.write(target, contents, true);
+        assertArrayEquals(contents, Files.readAllBytes(target));
+        assertFalse(Files.exists(AtomicFileWriter.getTempPath(target)));
+    }
+
+    /**
+     * Tests that a temporary file left by a crash during an earlier write is overwritten, not appended to.
+     */
+    @Test
+    public void write_staleTempFile_tempFileOverwritten() throws IOException {
+        Path target = tempDir.resolve("tasks.txt");
+        Files.writeString(AtomicFileWriter.getTempPath(target), "Half of a write that never finished");
+        byte[] contents = "T | 0 | Task\n".getBytes(StandardCharsets.UTF_8);
+
+        AtomicFileWriter.write(target, contents, true);
+
+        assertArrayEquals(contents, Files.readAllBytes(target));
+        assertFalse(Files.exists(AtomicFileWriter.getTempPath(target)));
+    }
+
+    /**
+     * Tests that replacing moves the source over the target, so the source no longer exists.
+     */
+    @Test
+    public void replace_existingTarget_sourceMovedOverTarget() throws IOException {
+        Path source = tempDir.resolve("new.txt");
+        Path target = tempDir.resolve("old.txt");
+        Files.writeString(source, "new");
+        Files.writeString(target, "old");
+
+        AtomicFileWriter.replace(source, target);
+
+        assertArrayEquals("new".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(target));
+        assertFalse(Files.exists(source));
+    }
+}
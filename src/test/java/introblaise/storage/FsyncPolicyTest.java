@@ -0,0 +1,99 @@
+package introblaise.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.tasktype.ToDo;
+
+/**
+ * Unit tests for {@link FsyncPolicy} and how {@link Storage} follows it.
+ * This class tests when each kind of policy forces writes to the disk, and that saves skipped by an interval
+ * policy are still forced to the disk later.
+ */
+public class FsyncPolicyTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that the always and never policies sync regardless of the time since the last sync.
+     */
+    @Test
+    public void isSyncDue_alwaysAndNever_independentOfTime() {
+        assertTrue(FsyncPolicy.always().isSyncDue(1000, 1000));
+        assertFalse(FsyncPolicy.never().isSyncDue(0, 1_000_000));
+        assertEquals("always", FsyncPolicy.always().toString());
+        assertEquals("never", FsyncPolicy.never().toString());
+    }
+
+    /**
+     * Tests that an interval policy only syncs once the interval has passed since the last sync.
+     */
+    @Test
+    public void isSyncDue_interval_syncsOnceIntervalPassed() {
+        FsyncPolicy policy = FsyncPolicy.everyMillis(100);
+
+        assertFalse(policy.isSyncDue(1000, 1099));
+        assertTrue(policy.isSyncDue(1000, 1100));
+        assertEquals("every 100 ms", policy.toString());
+    }
+
+    /**
+     * Tests that a save made before the interval has passed is forced to the disk once it has,
+     * without waiting for another save.
+     */
+    @Test
+    public void saveTasks_intervalNotPassed_syncedLater() throws Exception {
+        Storage storage = new Storage(tempDir.toString(), StorageMode.REWRITE);
+        storage.setFsyncPolicy(FsyncPolicy.everyMillis(200));
+
+        storage.saveTasks(List.of(new ToDo("Task 1")));
+        storage.saveTasks(List.of(new ToDo("Task 1"), new ToDo("Task 2")));
+        assertTrue(storage.hasUnsyncedSave(), "The second save should wait for the interval to pass.");
+
+        long deadlineMillis = System.currentTimeMillis() + 5000;
+        while (storage.hasUnsyncedSave() && System.currentTimeMillis() < deadlineMillis) {
+            Thread.sleep(20);
+        }
+        assertFalse(storage.hasUnsyncedSave(), "The second save should be synced once the interval passed.");
+        storage.close();
+    }
+
+    /**
+     * Tests that closing the storage forces a save that is still waiting for the interval to pass.
+     */
+    @Test
+    public void close_unsyncedSave_synced() throws IOException {
+        Storage storage = new Storage(tempDir.toString(), StorageMode.REWRITE);
+        storage.setFsyncPolicy(FsyncPolicy.everyMillis(60_000));
+        storage.saveTasks(List.of(new ToDo("Task 1")));
+        storage.saveTasks(List.of(new ToDo("Task 2")));
+
+        storage.close();
+
+        assertFalse(storage.hasUnsyncedSave());
+        assertEquals(1, Files.readAllLines(tempDir.resolve("introBlaise.txt")).size());
+    }
+
+    /**
+     * Tests that a corrupted task file is backed up with a ".corrupted" suffix before the tasks are reset.
+     */
+    @Test
+    public void handleCorruptedFile_existingTasks_backedUpAndReset() throws IOException {
+        Storage storage = new Storage(tempDir.toString(), StorageMode.REWRITE);
+        Files.writeString(tempDir.resolve("introBlaise.txt"), "not a task\n");
+
+        storage.handleCorruptedFile();
+
+        assertEquals("not a task\n", Files.readString(tempDir.resolve("introBlaise.txt.corrupted")));
+        assertEquals(0, Files.size(tempDir.resolve("introBlaise.txt")));
+    }
+}
@@ -0,0 +1,110 @@
+package introblaise.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.task.TaskList;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Unit tests for {@link JournalCompactor}.
+ * This class tests that journals are compacted into the task file and that interrupted handovers are recovered.
+ */
+public class JournalCompactorTest {
+    @TempDir
+    Path tempDir;
+
+    private Storage createStorage() {
+        Storage storage = new Storage(tempDir.toString(), StorageMode.JOURNAL);
+        storage.setCompactionThreshold(3, Long.MAX_VALUE);
+        return storage;
+    }
+
+    /**
+     * Tests that the journal is folded into the task file once it reaches the compaction threshold.
+     */
+    @Test
+    public void appendToJournal_overThreshold_journalCompacted() throws IOException {
+        Storage storage = createStorage();
+        TaskList taskList = new TaskList(storage);
+        for (int i = 1; i <= 7; i++) {
+            taskList.addTask(new ToDo("Task " + i));
+            storage.awaitCompaction();
+        }
+
+        assertEquals(2, storage.getCompactionCount(), "Journal should be compacted every 3 records.");
+        assertEquals(6, Files.readAllLines(tempDir.resolve("introBlaise.txt")).size());
+        assertEquals(1, Files.readAllLines(tempDir.resolve("introBlaise.journal")).size());
+        assertEquals(taskList.printTaskList(), new TaskList(createStorage()).printTaskList());
+    }
+
+    /**
+     * Tests that a sealed journal left by a crash before its snapshot was finished is replayed.
+     */
+    @Test
+    public void loadTasks_crashBeforeSnapshot_sealedJournalReplayed() throws IOException {
+        createStorage();
+        Files.write(tempDir.resolve("introBlaise.txt"), List.of("T | 0 | Task 1 | 0 | "));
+        Files.write(tempDir.resolve("introBlaise.journal.compacting"), List.of("A | T | 0 | Task 2 | 0 | "));
+        Files.write(tempDir.resolve("introBlaise.txt.tmp"), List.of("T | 0 | Task 1 | 0 | "));
+        Files.write(tempDir.resolve("introBlaise.journal"), List.of("M | 1"));
+
+        Storage storage = createStorage();
+        TaskList taskList = new TaskList(storage);
+        storage.awaitCompaction();
+
+        assertEquals("1. [T][ ] Task 1\n2. [T][X] Task 2", taskList.printTaskList());
+        assertFalse(Files.exists(tempDir.resolve("introBlaise.txt.tmp")), "Unfinished snapshot should be removed.");
+        assertFalse(Files.exists(tempDir.resolve("introBlaise.journal.compacting")));
+    }
+
+    /**
+     * Tests that a finished snapshot left by a crash replaces the task file without replaying the sealed journal.
+     */
+    @Test
+    public void loadTasks_crashAfterSnapshot_sealedJournalNotReplayedTwice() throws IOException {
+        createStorage();
+        Files.write(tempDir.resolve("introBlaise.txt"), List.of("T | 0 | Task 1 | 0 | "));
+        Files.write(tempDir.resolve("introBlaise.journal.compacting"), List.of("A | T | 0 | Task 2 | 0 | "));
+        Files.write(tempDir.resolve("introBlaise.txt.snapshot"),
+                List.of("T | 0 | Task 1 | 0 | ", "T | 0 | Task 2 | 0 | "));
+
+        TaskList taskList = new TaskList(createStorage());
+
+        assertEquals("1. [T][ ] Task 1\n2. [T][ ] Task 2", taskList.printTaskList());
+        assertTrue(Files.exists(tempDir.resolve("introBlaise.txt")));
+        assertFalse(Files.exists(tempDir.resolve("introBlaise.txt.snapshot")));
+    }
+
+    /**
+     * Tests that a sealed journal next to a corrupted task file is moved to its backup when the tasks are reset,
+     * so that the reset does not compact the corrupted task file again, and the next start loads no tasks.
+     */
+    @Test
+    public void loadTasks_corruptedFileWithSealedJournal_backedUpAndReset() throws IOException {
+        byte[] corruptedFile = {'n', 'o', 't', ' ', 'a', ' ', 't', 'a', 's', 'k'};
+        Files.write(tempDir.resolve("introBlaise.bin"), corruptedFile);
+        Files.write(tempDir.resolve("introBlaise.journal.compacting"), List.of("A | T | 0 | Task 2 | 0 | "));
+
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.JOURNAL, StorageFormat.BINARY));
+        TaskList reloadedTaskList =
+                new TaskList(new Storage(tempDir.toString(), StorageMode.JOURNAL, StorageFormat.BINARY));
+
+        assertEquals(0, taskList.getSize());
+        assertEquals(0, reloadedTaskList.getSize());
+        assertFalse(Files.exists(tempDir.resolve("introBlaise.journal.compacting")));
+        assertArrayEquals(corruptedFile, Files.readAllBytes(tempDir.resolve("introBlaise.bin.corrupted")));
+        assertEquals(List.of("A | T | 0 | Task 2 | 0 | "),
+                Files.readAllLines(tempDir.resolve("introBlaise.journal.compacting.corrupted")));
+    }
+}
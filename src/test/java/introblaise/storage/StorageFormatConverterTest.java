@@ -0,0 +1,70 @@
+package introblaise.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.task.TaskList;
+import introblaise.tasktype.Deadline;
+import introblaise.tasktype.Event;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Unit tests for {@link StorageFormatConverter}.
+ * This class tests that task files are converted between the text and binary formats without losing anything.
+ */
+public class StorageFormatConverterTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that converting a text task file to binary and back gives exactly the same lines,
+     * including dates that were not entered in their canonical form.
+     */
+    @Test
+    public void convert_textToBinaryAndBack_linesUnchanged() throws IOException {
+        List<String> lines = List.of(
+                "T#1 | 1 | read book | 1 | fun",
+                "D#2 | 0 | return book | 2-12-2019 1800 | 0 | ",
+                "D#4 | 1 | submit report | 21-02-2025 2359 | 1 | work",
+                "E#7 | 0 | project meeting | 01-03-2025 1400 to 01-03-2025 1600 | 0 | ");
+        Path textPath = tempDir.resolve("introBlaise.txt");
+        Path binaryPath = tempDir.resolve("introBlaise.bin");
+        Path convertedPath = tempDir.resolve("converted.txt");
+        Files.write(textPath, lines);
+
+        assertEquals(4, StorageFormatConverter.convert(textPath, StorageFormat.TEXT,
+                binaryPath, StorageFormat.BINARY));
+        StorageFormatConverter.convert(binaryPath, StorageFormat.BINARY, convertedPath, StorageFormat.TEXT);
+
+        assertEquals(lines, Files.readAllLines(convertedPath));
+        assertTrue(Files.size(binaryPath) < Files.size(textPath), "Binary file should be smaller than text.");
+    }
+
+    /**
+     * Tests that tasks saved in the binary format are loaded back unchanged.
+     */
+    @Test
+    public void loadTasks_binaryFormat_tasksUnchanged() {
+        Storage storage = new Storage(tempDir.toString(), StorageMode.REWRITE, StorageFormat.BINARY);
+        TaskList taskList = new TaskList(storage);
+        taskList.addTask(new ToDo("read book"));
+        taskList.addTask(new Deadline("return book", "21-02-2025 2359"));
+        taskList.addTask(new Event("project meeting", "01-03-2025 1400", "01-03-2025 1600"));
+        taskList.markTask(1);
+        taskList.tagTask(2, "work");
+
+        TaskList loadedTaskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE,
+                StorageFormat.BINARY));
+
+        assertEquals(taskList.printTaskList(), loadedTaskList.printTaskList());
+        assertTrue(Files.exists(tempDir.resolve("introBlaise.bin")));
+    }
+}
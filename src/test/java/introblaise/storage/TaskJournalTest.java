@@ -0,0 +1,96 @@
+package introblaise.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.task.TaskList;
+import introblaise.tasktype.Deadline;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Unit tests for {@link Storage} in {@link StorageMode#JOURNAL} mode.
+ * This class tests that changes are appended to the journal and replayed when tasks are loaded.
+ */
+public class TaskJournalTest {
+    @TempDir
+    Path tempDir;
+
+    private TaskList loadTaskList() {
+        return new TaskList(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+    }
+
+    /**
+     * Tests that changes made in journal mode only append to the journal and leave the task file untouched.
+     */
+    @Test
+    public void addTask_journalMode_taskFileUntouched() throws IOException {
+        TaskList taskList = loadTaskList();
+
+        taskList.addTask(new ToDo("Read book"));
+        taskList.markTask(0);
+
+        assertEquals(0, Files.size(tempDir.resolve("introBlaise.txt")), "Task file should not be rewritten.");
+        assertEquals(2, Files.readAllLines(tempDir.resolve("introBlaise.journal")).size(),
+                "Each change should append one journal record.");
+    }
+
+    /**
+     * Tests that replaying the journal gives back the same task list after every kind of change.
+     */
+    @Test
+    public void loadTasks_afterChanges_journalReplayed() {
+        TaskList taskList = loadTaskList();
+        taskList.addTask(new ToDo("Task 1"));
+        taskList.addTask(new Deadline("Task 2", "20-02-2025 2359"));
+        taskList.addTask(new ToDo("Task 3"));
+        taskList.markTask(1);
+        taskList.tagTask(2, "Urgent");
+        taskList.removeTask(taskList.getTask(0));
+        taskList.markTask(1);
+        taskList.unmarkTask(1);
+        taskList.tagTask(0, "school");
+        taskList.untagTask(0);
+
+        TaskList reloadedTaskList = loadTaskList();
+
+        assertEquals(taskList.printTaskList(), reloadedTaskList.printTaskList());
+    }
+
+    /**
+     * Tests that a clear recorded in the journal is replayed, and that tasks added afterwards are kept.
+     */
+    @Test
+    public void loadTasks_afterClear_onlyLaterTasksReplayed() {
+        TaskList taskList = loadTaskList();
+        taskList.addTask(new ToDo("Old task"));
+        taskList.clearTaskList();
+        taskList.addTask(new ToDo("New task"));
+
+        TaskList reloadedTaskList = loadTaskList();
+
+        assertEquals("1. [T][ ] New task", reloadedTaskList.printTaskList());
+    }
+
+    /**
+     * Tests that saving the full task list folds the journal into the task file.
+     */
+    @Test
+    public void saveTasks_journalMode_journalTruncated() throws IOException {
+        TaskList taskList = loadTaskList();
+        taskList.addTask(new ToDo("Task 1"));
+
+        taskList.saveTasks();
+
+        assertFalse(Files.exists(tempDir.resolve("introBlaise.journal")), "Journal should be emptied.");
+        assertTrue(Files.readString(tempDir.resolve("introBlaise.txt")).startsWith("T#1 | 0 | Task 1"));
+        assertEquals("1. [T][ ] Task 1", loadTaskList().printTaskList());
+    }
+}
@@ -0,0 +1,119 @@
+package introblaise.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import introblaise.parsers.StorageTaskParser;
+
+/**
+ * Unit tests for {@link TextRecordChecker}.
+ * This class tests that the checker accepts exactly the lines that {@link StorageTaskParser} can parse.
+ */
+public class TextRecordCheckerTest {
+    private static final String[] VALID_LINES = {
+        "T#1 | 0 | read book | 0 | ",
+        "T | 1 | read book | 1 | school",
+        "D#2 | 0 | return book | 02-12-2019 1800 | 0 | ",
+        "D#3 | 1 | pay fees | 31-02-2025 2400 | 1 | bills",
+        "D#3 | 1 | pay fees | 1-02-+20255 0000 | 1 | bills",
+        "E#4 | 0 | project meeting | 01-03-2025 1400 to 01-03-2025 1600 | 0 | ",
+        "E#-5 | 0 | camp | 0000000000000000031-12-0001 0000 to 1-01-2026 2359 to x | 0 | \r",
+    };
+    private static final String[] INVALID_LINES = {
+        "",
+        "T | 0 | ",
+        "T#1 | 0",
+        "X#1 | 0 | read book | 0 | ",
+        "TT | 0 | read book | 0 | ",
+        "T # 1 | 0 | read book | 0 | ",
+        "T#2147483648 | 0 | read book | 0 | ",
+        "D#2 | 0 | return book",
+        "D#2 | 0 | return book | 2-12-2019 | 0 | ",
+        "D#2 | 0 | return book | 32-12-2019 1800 | 0 | ",
+        "D#2 | 0 | return book | 2-13-2019 1800 | 0 | ",
+        "D#2 | 0 | return book | 2-12-0000 1800 | 0 | ",
+        "D#2 | 0 | return book | 2-12-+2019 1800 | 0 | ",
+        "D#2 | 0 | return book | 2-12-+1000000000 1800 | 0 | ",
+        "D#2 | 0 | return book | 2-12-2019 2401 | 0 | ",
+        "D#2 | 0 | return book | 00000000000000000002-12-2019 1800 | 0 | ",
+        "E#4 | 0 | meeting | 01-03-2025 1400 | 0 | ",
+        "E#4 | 0 | meeting | 01-03-2025 1400 to  | 0 | ",
+    };
+    private static final String MUTATIONS = " |#TDEto0123456789-+\r";
+
+    /**
+     * Returns whether the parser can parse a line, after dropping a carriage return at its end as the task file
+     * reader does. The messages the parser prints for lines it cannot parse are discarded.
+     */
+    private static boolean isParsedByParser(String line) {
+        String content = line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            return StorageTaskParser.stringToTask(content) != null;
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    private static boolean isParseable(String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        return TextRecordChecker.isParseable(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    /**
+     * Tests that lines written by the bot and edited lines are accepted exactly when the parser accepts them.
+     */
+    @Test
+    public void isParseable_validAndInvalidLines_sameAsParser() {
+        for (String line : VALID_LINES) {
+            assertTrue(isParsedByParser(line), line);
+            assertTrue(isParseable(line), line);
+        }
+        for (String line : INVALID_LINES) {
+            assertFalse(isParsedByParser(line), line);
+            assertFalse(isParseable(line), line);
+        }
+    }
+
+    /**
+     * Tests that randomly changed lines are accepted exactly when the parser accepts them.
+     */
+    @Test
+    public void isParseable_randomlyChangedLines_sameAsParser() {
+        Random random = new Random(7);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder line = new StringBuilder(VALID_LINES[random.nextInt(VALID_LINES.length)]);
+            int changeCount = 1 + random.nextInt(3);
+            for (int j = 0; j < changeCount; j++) {
+                int position = random.nextInt(line.length() + 1);
+                if (random.nextBoolean() && position < line.length()) {
+                    line.deleteCharAt(position);
+                } else {
+                    line.insert(position, MUTATIONS.charAt(random.nextInt(MUTATIONS.length())));
+                }
+            }
+            lines.add(line.toString());
+        }
+
+        int parsedCount = 0;
+        for (String line : lines) {
+            boolean isParsed = isParsedByParser(line);
+            assertEquals(isParsed, isParseable(line), line);
+            parsedCount += isParsed ? 1 : 0;
+        }
+        assertTrue(parsedCount > 1000 && parsedCount < lines.size() - 1000);
+    }
+}
@@ -0,0 +1,73 @@
+package introblaise.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.task.Task;
+
+/**
+ * Unit tests for {@link TextTaskFileFormat}.
+ * This class tests that record boundaries are found correctly when the task file is read from its bytes.
+ */
+public class TextTaskFileFormatTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that lines ending with either line separator, and a last line without one, are all read in order,
+     * and that lines which cannot be parsed are skipped.
+     */
+    @Test
+    public void read_mixedLineEndings_tasksReadInOrder() throws IOException {
+        String contents = "T | 0 | read book | 0 | \r\n"
+                + "\n"
+                + "D | 1 | return book | 2-12-2019 1800 | 1 | library\n"
+                + "E | 0 | project meeting | 01-03-2025 1400 to 01-03-2025 1600 | 0 | ";
+        Path path = tempDir.resolve("introBlaise.txt");
+        Files.write(path, contents.getBytes(Charset.defaultCharset()));
+
+        List<Task> tasks = new TextTaskFileFormat().read(path);
+
+        assertEquals(3, tasks.size());
+        assertEquals("[T][ ] read book", tasks.get(0).toString());
+        assertEquals("[D][X] |library| return book (by: Dec 02 2019 1800)", tasks.get(1).toString());
+        assertEquals("[E][ ] project meeting (from: Mar 01 2025 1400 to: Mar 01 2025 1600)", tasks.get(2).toString());
+    }
+
+    /**
+     * Tests that decoding in parallel chunks gives the same tasks in the same order as decoding sequentially.
+     */
+    @Test
+    public void decodeLinesInParallel_manyLines_sameOrderAsSequential() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 1000; i++) {
+            sb.append("T | 0 | Task ").append(i).append(" | 0 | \n");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(sb.toString().getBytes(Charset.defaultCharset()));
+
+        List<Task> sequentialTasks = TextTaskFileFormat.decodeLines(buffer, 0, buffer.limit(),
+                Charset.defaultCharset());
+        List<Task> parallelTasks = TextTaskFileFormat.decodeLinesInParallel(buffer, Charset.defaultCharset(), 7);
+
+        assertEquals(1000, parallelTasks.size());
+        assertEquals(toStrings(sequentialTasks), toStrings(parallelTasks));
+    }
+
+    private List<String> toStrings(List<Task> tasks) {
+        List<String> strings = new ArrayList<>();
+        for (Task task : tasks) {
+            strings.add(task.toString());
+        }
+        return strings;
+    }
+}
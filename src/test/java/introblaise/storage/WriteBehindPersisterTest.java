@@ -0,0 +1,87 @@
+package introblaise.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.task.TaskList;
+import introblaise.tasktype.ToDo;
+import introblaise.ui.IntroBlaise;
+
+/**
+ * Unit tests for {@link WriteBehindPersister}.
+ * This class tests that bursts of changes are coalesced into fewer saves and that closing flushes every change.
+ */
+public class WriteBehindPersisterTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that a burst of changes is written by fewer saves than changes, and that nothing is lost on close.
+     */
+    @Test
+    public void addTask_burstOfChanges_savesCoalesced() throws IOException {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        taskList.enableWriteBehind(200);
+        WriteBehindPersister persister = taskList.getPersister();
+
+        for (int i = 1; i <= 100; i++) {
+            taskList.addTask(new ToDo("Task " + i));
+        }
+        taskList.close();
+
+        assertEquals(100, persister.getChangeCount());
+        assertTrue(persister.getSaveCount() < 100, "Changes in the same window should share a save.");
+        assertEquals(100 - persister.getSaveCount(), persister.getCoalescedWriteCount());
+        assertEquals(100, Files.readAllLines(tempDir.resolve("introBlaise.txt")).size());
+    }
+
+    /**
+     * Tests that flushing saves pending changes without waiting for the coalescing window to pass,
+     * including when the flush comes right after the change, before the writer thread waits out the window.
+     */
+    @Test
+    public void flush_pendingChanges_savedBeforeWindowPasses() throws IOException {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        taskList.enableWriteBehind(60_000);
+
+        for (int i = 1; i <= 20; i++) {
+            taskList.addTask(new ToDo("Task " + i));
+            long startNanos = System.nanoTime();
+            taskList.getPersister().flush();
+            long flushMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+            assertTrue(flushMillis < 5_000, "Flushing took " + flushMillis + " ms.");
+            assertEquals(i, Files.readAllLines(tempDir.resolve("introBlaise.txt")).size());
+        }
+        taskList.close();
+    }
+
+    /**
+     * Tests that setting the write-behind system property makes the bot save in the background, and that
+     * shutting down saves every change.
+     */
+    @Test
+    public void shutdown_writeBehindProperty_changesSaved() throws IOException {
+        System.setProperty(IntroBlaise.WRITE_BEHIND_PROPERTY, "60000");
+        try {
+            IntroBlaise introBlaise = new IntroBlaise(new Storage(tempDir.toString(), StorageMode.REWRITE));
+            assertNotNull(introBlaise.getTaskList().getPersister());
+
+            introBlaise.getResponse("todo read book");
+            introBlaise.getResponse("todo return book");
+            introBlaise.shutdown();
+        } finally {
+            System.clearProperty(IntroBlaise.WRITE_BEHIND_PROPERTY);
+        }
+
+        assertEquals(2, Files.readAllLines(tempDir.resolve("introBlaise.txt")).size());
+    }
+}
@@ -0,0 +1,82 @@
+package introblaise.task;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.parsers.UtilParser;
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Unit tests for {@link KeywordIndex}.
+ * This class tests that words combined with AND and OR find the same tasks through the index as by checking
+ * every task, and that the index follows tasks being removed.
+ */
+public class KeywordIndexTest {
+    @TempDir
+    Path tempDir;
+
+    private TaskList createTaskList() {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        taskList.addTask(new ToDo("Write report draft"));
+        taskList.addTask(new ToDo("Read report"));
+        taskList.addTask(new ToDo("Prepare slides, then the report"));
+        taskList.addTask(new ToDo("Reporting tool"));
+        return taskList;
+    }
+
+    /**
+     * Tests that "AND" is applied before "OR", and that only whole words are matched, ignoring case.
+     */
+    @Test
+    public void findTasksByWords_andBeforeOr_matchingTasksInOrder() throws Exception {
+        TaskList taskList = createTaskList();
+
+        List<Task> results = taskList.findTasksByWords(UtilParser.parseWordQuery("REPORT AND draft OR slides"));
+
+        assertEquals(2, results.size());
+        assertEquals("Write report draft", results.get(0).getDescription());
+        assertEquals("Prepare slides, then the report", results.get(1).getDescription());
+    }
+
+    /**
+     * Tests that removed tasks are no longer found, and that a lazy task list finds the same tasks
+     * by checking each of them.
+     */
+    @Test
+    public void findTasksByWords_taskRemoved_sameAsLazyTaskList() throws Exception {
+        TaskList taskList = createTaskList();
+        taskList.removeTask(taskList.getTask(1));
+        List<List<String>> query = UtilParser.parseWordQuery("report OR tool");
+
+        List<Task> results = taskList.findTasksByWords(query);
+        List<Task> lazyResults = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE), true)
+                .findTasksByWords(query);
+
+        assertEquals(3, results.size());
+        assertEquals(results.toString(), lazyResults.toString());
+    }
+
+    /**
+     * Tests that posting lists are kept sorted when tasks are added out of order of their IDs.
+     */
+    @Test
+    public void find_idsAddedOutOfOrder_idsSorted() {
+        KeywordIndex index = new KeywordIndex();
+        for (int id : new int[] {5, 2, 9, 2, 7}) {
+            Task task = new ToDo("read book " + id);
+            task.setId(id);
+            index.add(task);
+        }
+
+        assertArrayEquals(new int[] {2, 5, 7, 9}, index.find(List.of(List.of("read", "book"))));
+        assertArrayEquals(new int[] {2, 9}, index.find(List.of(List.of("2"), List.of("9"), List.of("missing"))));
+    }
+}
@@ -0,0 +1,121 @@
+package introblaise.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageFormat;
+import introblaise.storage.StorageMode;
+import introblaise.storage.TaskFileIndex;
+import introblaise.tasktype.Deadline;
+import introblaise.tasktype.ToDo;
+import introblaise.ui.IntroBlaise;
+
+/**
+ * Unit tests for {@link LazyTaskList}.
+ * This class tests that tasks are only decoded when needed, and that a lazy task list can still be changed.
+ */
+public class LazyTaskListTest {
+    @TempDir
+    Path tempDir;
+
+    private Storage createStorage(StorageFormat format) {
+        return new Storage(tempDir.toString(), StorageMode.REWRITE, format);
+    }
+
+    private void saveTasks(StorageFormat format, int taskCount) {
+        TaskList taskList = new TaskList(createStorage(format));
+        for (int i = 1; i <= taskCount; i++) {
+            taskList.addTask(i % 2 == 0 ? new ToDo("Task " + i) : new Deadline("Task " + i, "21-02-2025 2359"));
+        }
+    }
+
+    /**
+     * Tests that fetching tasks only decodes them once, and that a full scan does not evict cached tasks.
+     */
+    @Test
+    public void get_sameTaskTwice_decodedOnce() {
+        saveTasks(StorageFormat.BINARY, 50);
+        TaskFileIndex index = createStorage(StorageFormat.BINARY).openTaskIndex();
+        LazyTaskList tasks = new LazyTaskList(index, 4);
+
+        Task task = tasks.get(10);
+        assertSame(task, tasks.get(10));
+        assertEquals(1, tasks.getDecodeCount());
+
+        assertEquals(1, tasks.stream().filter(t -> t.getDescription().equals("Task 11")).count());
+        assertSame(task, tasks.get(10), "A full scan should not evict cached tasks.");
+        assertEquals(50, tasks.size());
+    }
+
+    /**
+     * Tests that a lazy task list lists pages like a loaded one, and loads every task before its first change.
+     */
+    @Test
+    public void markTask_lazyTaskList_materializedAndSaved() {
+        saveTasks(StorageFormat.TEXT, 45);
+        TaskList taskList = new TaskList(createStorage(StorageFormat.TEXT), true);
+        TaskList loadedTaskList = new TaskList(createStorage(StorageFormat.TEXT));
+
+        assertTrue(taskList.isLazy());
+        assertEquals(loadedTaskList.printTaskPage(3, 20), taskList.printTaskPage(3, 20));
+        assertEquals("41. [D][ ] Task 41 (by: Feb 21 2025 2359)", taskList.printTaskPage(3, 20).split("\n")[0]);
+
+        taskList.markTask(40);
+
+        assertFalse(taskList.isLazy());
+        assertEquals("[D][X] Task 41 (by: Feb 21 2025 2359)",
+                new TaskList(createStorage(StorageFormat.TEXT), true).getTask(40).toString());
+    }
+
+    /**
+     * Tests that lines which cannot be parsed are left out of a lazy task list, as they are when tasks are loaded.
+     */
+    @Test
+    public void getTask_unparseableLine_sameTasksAsLoaded() throws IOException {
+        saveTasks(StorageFormat.TEXT, 6);
+        Path taskFile = tempDir.resolve("introBlaise.txt");
+        List<String> lines = new ArrayList<>(Files.readAllLines(taskFile));
+        lines.add(3, "not a task");
+        Files.write(taskFile, lines);
+
+        TaskList taskList = new TaskList(createStorage(StorageFormat.TEXT), true);
+        TaskList loadedTaskList = new TaskList(createStorage(StorageFormat.TEXT));
+
+        assertTrue(taskList.isLazy());
+        assertEquals(6, taskList.getSize());
+        assertEquals(loadedTaskList.printTaskList(), taskList.printTaskList());
+        assertEquals("[T][ ] Task 4", taskList.getTask(3).toString());
+    }
+
+    /**
+     * Tests that setting the lazy load system property makes the bot open the task list lazily, and that the
+     * tasks are listed as when they are all loaded.
+     */
+    @Test
+    public void getResponse_lazyLoadProperty_taskListLazy() {
+        saveTasks(StorageFormat.TEXT, 5);
+        String expectedList = new IntroBlaise(createStorage(StorageFormat.TEXT)).getResponse("list");
+        System.setProperty(IntroBlaise.LAZY_LOAD_PROPERTY, "true");
+        IntroBlaise introBlaise;
+        try {
+            introBlaise = new IntroBlaise(createStorage(StorageFormat.TEXT));
+        } finally {
+            System.clearProperty(IntroBlaise.LAZY_LOAD_PROPERTY);
+        }
+
+        assertTrue(introBlaise.getTaskList().isLazy());
+        assertEquals(expectedList, introBlaise.getResponse("list"));
+    }
+}
@@ -0,0 +1,78 @@
+package introblaise.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import introblaise.tasktype.ToDo;
+
+/**
+ * Measures how a scan of a large task list by {@link ParallelTaskScanner} scales with the number of cores.
+ * <p>
+ * The scan runs inside fork-join pools of increasing parallelism, up to the number of available cores,
+ * since a parallel stream started from a fork-join pool runs in that pool. Run it with
+ * {@code gradlew scanBenchmark}, optionally passing the number of tasks as an argument.
+ */
+public class ParallelScanBenchmark {
+    private static final int DEFAULT_TASK_COUNT = 2_000_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    // Keeps the results of each scan in use, so that the scans cannot be optimized away
+    private static volatile long matchCount;
+
+    /**
+     * Runs the benchmark and prints the average time of a scan for each level of parallelism.
+     *
+     * @param args The number of tasks to scan, if given.
+     */
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASK_COUNT;
+        List<Task> tasks = createTasks(taskCount);
+        ParallelTaskScanner scanner = new ParallelTaskScanner(1);
+        int cores = Runtime.getRuntime().availableProcessors();
+        double singleThreadMillis = 0;
+        System.out.println("Scanning " + taskCount + " tasks on " + cores + " cores");
+        for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                double millis = measure(pool, scanner, tasks);
+                if (parallelism == 1) {
+                    singleThreadMillis = millis;
+                }
+                System.out.printf("%2d threads: %8.2f ms per scan, %.2fx%n",
+                        parallelism, millis, singleThreadMillis / millis);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static List<Task> createTasks(int taskCount) {
+        Random random = new Random(42);
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 1; i <= taskCount; i++) {
+            Task task = new ToDo("Task " + Integer.toString(random.nextInt(), 36) + " for project " + (i % 1000));
+            task.setId(i);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static double measure(ForkJoinPool pool, ParallelTaskScanner scanner, List<Task> tasks)
+            throws InterruptedException, ExecutionException {
+        long totalNanos = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            String keyword = "project " + round;
+            long start = System.nanoTime();
+            matchCount += pool.submit(() -> scanner.filter(tasks.size(), tasks::get,
+                    task -> task.getDescription().toLowerCase().contains(keyword)).size()).get();
+            if (round >= WARMUP_ROUNDS) {
+                totalNanos += System.nanoTime() - start;
+            }
+        }
+        return totalNanos / 1e6 / MEASURED_ROUNDS;
+    }
+}
@@ -0,0 +1,68 @@
+package introblaise.task;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageFormat;
+import introblaise.storage.StorageMode;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Unit tests for {@link ParallelTaskScanner}.
+ * This class tests that scans split across threads find the same tasks, in the same order, as a simple loop.
+ */
+public class ParallelTaskScannerTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that a scan of a list above the threshold returns matching tasks and positions in list order.
+     */
+    @Test
+    public void filter_listAboveThreshold_resultsInListOrder() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            tasks.add(new ToDo("Task " + i));
+        }
+        ParallelTaskScanner scanner = new ParallelTaskScanner(100);
+
+        List<Task> matchingTasks = scanner.filter(tasks.size(), tasks::get,
+                task -> task.getDescription().endsWith("7"));
+        int[] positions = scanner.findPositions(tasks.size(), tasks::get,
+                task -> task.getDescription().endsWith("7"));
+
+        assertEquals(1000, matchingTasks.size());
+        assertArrayEquals(IntStream.range(0, 10_000).filter(i -> i % 10 == 7).toArray(), positions);
+        for (int i = 0; i < positions.length; i++) {
+            assertEquals(tasks.get(positions[i]), matchingTasks.get(i));
+        }
+    }
+
+    /**
+     * Tests that finding tasks in a lazy task list with a low parallel threshold gives the same tasks as
+     * a fully loaded task list, without filling the cache of the lazy task list.
+     */
+    @Test
+    public void findTasksByKeyword_lazyTaskListScannedInParallel_sameAsLoaded() {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE, StorageFormat.BINARY));
+        for (int i = 0; i < 2000; i++) {
+            taskList.addTask(new ToDo("Task " + i));
+        }
+        TaskList lazyTaskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE,
+                StorageFormat.BINARY), true);
+        lazyTaskList.setParallelScanThreshold(10);
+
+        assertEquals(taskList.findTasksByKeyword("99").toString(), lazyTaskList.findTasksByKeyword("99").toString());
+        assertEquals("Oops! There are no tasks tagged work.", lazyTaskList.printTasksWithTag("work"));
+        assertEquals(2000, lazyTaskList.getSize());
+    }
+}
@@ -0,0 +1,68 @@
+package introblaise.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Unit tests for {@link TagIndex}.
+ * This class tests that the tag index follows tasks being tagged, retagged, untagged and deleted.
+ */
+public class TagIndexTest {
+    @TempDir
+    Path tempDir;
+
+    private TaskList createTaskList() {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        for (int i = 1; i <= 5; i++) {
+            taskList.addTask(new ToDo("Task " + i));
+        }
+        taskList.tagTask(0, "Work");
+        taskList.tagTask(2, "work");
+        taskList.tagTask(3, "fun");
+        taskList.tagTask(4, "work");
+        return taskList;
+    }
+
+    /**
+     * Tests that tasks with a tag are listed with their positions in the full list, after tasks are retagged,
+     * untagged and deleted.
+     */
+    @Test
+    public void printTasksWithTag_tagsChanged_onlyTasksWithTagListed() {
+        TaskList taskList = createTaskList();
+        taskList.tagTask(4, "fun");
+        taskList.untagTask(2);
+        taskList.removeTask(taskList.getTask(1));
+
+        assertEquals("Here are the tasks tagged work:\n1. [T][ ] |work| Task 1", taskList.printTasksWithTag("WORK"));
+        assertEquals("Here are the tasks tagged fun:\n3. [T][ ] |fun| Task 4\n4. [T][ ] |fun| Task 5",
+                taskList.printTasksWithTag("fun"));
+        assertEquals("Oops! There are no tasks tagged home.", taskList.printTasksWithTag("home"));
+    }
+
+    /**
+     * Tests that the number of tasks with each tag is the same for an indexed task list and a lazy one,
+     * and that clearing the task list clears the tags.
+     */
+    @Test
+    public void printTagCounts_indexedAndLazy_sameCounts() {
+        TaskList taskList = createTaskList();
+        TaskList lazyTaskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE), true);
+
+        assertEquals("Here are your tags:\nfun: 1 task\nwork: 3 tasks", taskList.printTagCounts());
+        assertEquals(taskList.printTagCounts(), lazyTaskList.printTagCounts());
+        assertEquals(taskList.printTasksWithTag("work"), lazyTaskList.printTasksWithTag("work"));
+
+        taskList.clearTaskList();
+
+        assertEquals("You have not tagged any tasks yet.", taskList.printTagCounts());
+    }
+}
@@ -0,0 +1,115 @@
+package introblaise.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.tasktype.Deadline;
+import introblaise.tasktype.Event;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Unit tests for {@link TaskDateIndex}.
+ * This class tests that the date index follows tasks being added and removed, and matches a full scan.
+ */
+public class TaskDateIndexTest {
+    @TempDir
+    Path tempDir;
+
+    private static Task withId(Task task, int id) {
+        task.setId(id);
+        return task;
+    }
+
+    /**
+     * Tests that tasks on a date are returned in the order they were added, that removed tasks are not,
+     * and that an event lasting several days is found on each of them.
+     */
+    @Test
+    public void getTasksOn_tasksAddedAndRemoved_onlyRemainingTasksInOrder() {
+        TaskDateIndex index = new TaskDateIndex();
+        Task deadline = withId(new Deadline("Submit report", "20-02-2025 2359"), 1);
+        Task event = withId(new Event("Project meeting", "20-02-2025 1600", "22-02-2025 1700"), 3);
+        Task otherDeadline = withId(new Deadline("Return book", "21-02-2025 1200"), 4);
+        index.add(deadline);
+        index.add(withId(new ToDo("Read book"), 2));
+        index.add(event);
+        index.add(otherDeadline);
+
+        assertEquals(List.of(deadline, event), index.getTasksOn(LocalDate.of(2025, 2, 20)));
+
+        index.remove(deadline);
+
+        assertEquals(List.of(event), index.getTasksOn(LocalDate.of(2025, 2, 20)));
+        assertEquals(List.of(event, otherDeadline), index.getTasksOn(LocalDate.of(2025, 2, 21)));
+        assertEquals(List.of(event), index.getTasksOn(LocalDate.of(2025, 2, 22)));
+        assertTrue(index.getTasksOn(LocalDate.of(2025, 2, 23)).isEmpty());
+    }
+
+    /**
+     * Tests that the tasks found between two dates are the same as those found by checking every task,
+     * for many random deadlines and events, some of which are removed.
+     */
+    @Test
+    public void getTasksBetween_randomTasks_sameAsFullScan() {
+        Random random = new Random(42);
+        TaskDateIndex index = new TaskDateIndex();
+        List<Task> tasks = new ArrayList<>();
+        LocalDateTime firstDay = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int id = 1; id <= 2000; id++) {
+            LocalDateTime start = firstDay.plusMinutes(random.nextInt(60 * 24 * 365));
+            Task task = random.nextBoolean()
+                    ? new Deadline("Task " + id, start)
+                    : new Event("Task " + id, start, start.plusMinutes(random.nextInt(60 * 24 * 10)));
+            tasks.add(withId(task, id));
+            index.add(task);
+        }
+        for (int i = 0; i < 500; i++) {
+            index.remove(tasks.remove(random.nextInt(tasks.size())));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            LocalDate from = firstDay.toLocalDate().plusDays(random.nextInt(365));
+            LocalDate to = from.plusDays(random.nextInt(5));
+            List<Task> expected = new ArrayList<>();
+            for (Task task : tasks) {
+                if (TaskDateIndex.isScheduledBetween(task, from, to)) {
+                    expected.add(task);
+                }
+            }
+            assertEquals(expected, index.getTasksBetween(from, to));
+        }
+    }
+
+    /**
+     * Tests that a reloaded task list, whose date index is built while loading, finds the same tasks on a date
+     * as a lazy task list, which scans every task.
+     */
+    @Test
+    public void printTasksForDate_reloadedAndLazy_sameTasks() throws Exception {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        for (int i = 1; i <= 30; i++) {
+            taskList.addTask(new Deadline("Task " + i, (i % 3 + 1) + "-03-2025 1200"));
+        }
+        taskList.removeTask(taskList.getTask(0));
+
+        TaskList loadedTaskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        TaskList lazyTaskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE), true);
+        LocalDate date = LocalDate.of(2025, 3, 2);
+
+        assertEquals(taskList.printTasksForDate(date), loadedTaskList.printTasksForDate(date));
+        assertEquals(taskList.printTasksForDate(date), lazyTaskList.printTasksForDate(date));
+        assertTrue(lazyTaskList.isLazy());
+    }
+}
@@ -0,0 +1,137 @@
+package introblaise.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Unit tests for {@link TaskIdMap} and the task IDs given out by {@link TaskList}.
+ * This class tests that a task keeps its ID when other tasks are deleted, and that it can be found by its ID.
+ */
+public class TaskIdMapTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that tasks removed from the map can no longer be found, while the others still can.
+     */
+    @Test
+    public void remove_manyTasks_remainingTasksFound() {
+        TaskIdMap map = new TaskIdMap();
+        Task[] tasks = new Task[100];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new ToDo("Task " + i);
+            tasks[i].setId(i + 1);
+            map.put(tasks[i]);
+        }
+
+        for (int i = 0; i < tasks.length; i += 3) {
+            map.remove(tasks[i].getId());
+        }
+
+        assertEquals(66, map.size());
+        for (int i = 0; i < tasks.length; i++) {
+            if (i % 3 == 0) {
+                assertNull(map.get(i + 1));
+            } else {
+                assertSame(tasks[i], map.get(i + 1));
+            }
+        }
+    }
+
+    /**
+     * Tests that a task keeps its ID after an earlier task is deleted, both in memory and after reloading.
+     */
+    @Test
+    public void removeTask_earlierTaskDeleted_idUnchanged() {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        taskList.addTask(new ToDo("Task 1"));
+        taskList.addTask(new ToDo("Task 2"));
+        taskList.addTask(new ToDo("Task 3"));
+
+        taskList.removeTask(taskList.getTask(0));
+
+        assertEquals(1, taskList.indexOfId(3));
+        assertEquals("Task 3", taskList.getTaskById(3).getDescription());
+        assertNull(taskList.getTaskById(1));
+        TaskList loadedTaskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        assertEquals(1, loadedTaskList.indexOfId(3));
+    }
+
+    /**
+     * Tests that changes recorded in the journal refer to tasks by ID and are replayed onto the right tasks.
+     */
+    @Test
+    public void markTask_journalMode_replayedById() throws Exception {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        taskList.addTask(new ToDo("Task 1"));
+        taskList.addTask(new ToDo("Task 2"));
+        taskList.removeTask(taskList.getTask(0));
+        taskList.markTask(0);
+
+        List<String> journal = Files.readAllLines(tempDir.resolve("introBlaise.journal"));
+        assertEquals("M | #2", journal.get(journal.size() - 1));
+        TaskList loadedTaskList = new TaskList(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        assertEquals("1. [T][X] Task 2", loadedTaskList.printTaskList());
+    }
+
+    /**
+     * Tests that changing a task by its ID after it was deleted changes no other task, even the one that took
+     * its position, and that the ID of a remaining task still finds it.
+     */
+    @Test
+    public void markTaskById_taskDeleted_noOtherTaskChanged() {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        taskList.addTask(new ToDo("Task 1"));
+        taskList.addTask(new ToDo("Task 2"));
+
+        assertEquals("Task 1", taskList.removeTaskById(1).getDescription());
+
+        assertNull(taskList.markTaskById(1));
+        assertNull(taskList.tagTaskById(1, "work"));
+        assertNull(taskList.removeTaskById(1));
+        assertFalse(taskList.getTask(0).getIsDone());
+        assertFalse(taskList.getTask(0).getIsTagged());
+        assertSame(taskList.getTask(0), taskList.tagTaskById(2, "work"));
+        assertSame(taskList.getTask(0), taskList.untagTaskById(2));
+        assertSame(taskList.getTask(0), taskList.unmarkTaskById(2));
+        assertEquals(1, taskList.getSize());
+    }
+
+    /**
+     * Tests that removing tasks from anywhere in a long task list keeps the remaining tasks in order, findable by
+     * their IDs, and saved in that order.
+     */
+    @Test
+    public void removeTaskById_manyTasks_remainingTasksInOrder() {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        for (int i = 1; i <= 300; i++) {
+            taskList.addTask(new ToDo("Task " + i));
+        }
+
+        for (int id = 300; id >= 1; id -= 3) {
+            assertEquals("Task " + id, taskList.removeTaskById(id).getDescription());
+        }
+
+        assertEquals(200, taskList.getSize());
+        for (int i = 0; i < taskList.getSize(); i++) {
+            int id = i / 2 * 3 + i % 2 + 1;
+            assertEquals(id, taskList.getTask(i).getId());
+            assertEquals(i, taskList.indexOfId(id));
+        }
+        TaskList loadedTaskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        assertEquals(taskList.printTaskList(), loadedTaskList.printTaskList());
+    }
+}
@@ -0,0 +1,99 @@
+package introblaise.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Stress tests for a {@link TaskList} shared by several threads.
+ * This class tests that tasks added, marked and deleted while other threads list and find tasks are
+ * all kept, with unique IDs, and saved the same way as the task list in memory.
+ */
+public class TaskListConcurrencyTest {
+    private static final int WRITER_COUNT = 4;
+    private static final int READER_COUNT = 4;
+    private static final int TASKS_PER_WRITER = 250;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that concurrent writers and readers leave the task list with every task added and not deleted,
+     * each with a unique ID, and that reading never fails.
+     */
+    @Test
+    public void addTask_concurrentWritersAndReaders_noTaskLost() throws Exception {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT + READER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch writersDone = new CountDownLatch(WRITER_COUNT);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int writer = 0; writer < WRITER_COUNT; writer++) {
+            int writerNo = writer;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    for (int i = 0; i < TASKS_PER_WRITER; i++) {
+                        Task task = new ToDo("Task " + writerNo + " " + i);
+                        taskList.addTask(task);
+                        if (i % 5 == 0) {
+                            taskList.removeTask(task);
+                        } else if (i % 5 == 1) {
+                            taskList.markTaskById(task.getId());
+                        }
+                    }
+                } finally {
+                    writersDone.countDown();
+                }
+                return null;
+            }));
+        }
+        for (int reader = 0; reader < READER_COUNT; reader++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (writersDone.getCount() > 0) {
+                    taskList.printTaskList();
+                    taskList.findTasksByKeyword("task 1");
+                    taskList.findTasksByWords(List.of(List.of("task", "2")));
+                    int size = taskList.getSize();
+                    assertTrue(size >= 0 && size <= WRITER_COUNT * TASKS_PER_WRITER);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        List<Task> tasks = taskList.getTasksList();
+        Set<Integer> ids = new HashSet<>();
+        for (Task task : tasks) {
+            ids.add(task.getId());
+        }
+        assertEquals(WRITER_COUNT * TASKS_PER_WRITER * 4 / 5, tasks.size());
+        assertEquals(tasks.size(), ids.size());
+        taskList.close();
+
+        TaskList reloadedTaskList = new TaskList(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        assertEquals(taskList.printTaskList(), reloadedTaskList.printTaskList());
+    }
+}
@@ -10,7 +10,6 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import introblaise.exceptions.EmptyDateException;
 import introblaise.storage.Storage;
 import introblaise.tasktype.Deadline;
 import introblaise.tasktype.Event;
@@ -156,7 +155,7 @@ public class TaskListTest {
      * tasks that matches the date by comparing them to the expectedOutput string.
      */
     @Test
-    public void printTasksForDate_tasksWithMatchingDate_returnsFormattedList() throws EmptyDateException {
+    public void printTasksForDate_tasksWithMatchingDate_returnsFormattedList() {
         LocalDate localDate = LocalDate.of(2025, 2, 20);
         Deadline deadlineTask = new Deadline("Submit assignment", "20-02-2025 2359");
         Event eventTask = new Event("Project meeting", "20-02-2025 1600", "20-02-2025 1700");
@@ -173,7 +172,7 @@ public class TaskListTest {
      * empty string when there is no matching tasks.
      */
     @Test
-    public void printTasksForDate_noMatchingTasks_returnsEmptyString() throws EmptyDateException {
+    public void printTasksForDate_noMatchingTasks_returnsEmptyString() {
         LocalDate date = LocalDate.of(2025, 2, 21);
         assertEquals("", taskList.printTasksForDate(date));
     }
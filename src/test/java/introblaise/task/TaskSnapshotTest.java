@@ -0,0 +1,116 @@
+package introblaise.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.tasktype.ToDo;
+
+/**
+ * Unit tests for {@link TaskSnapshot}.
+ * This class tests that snapshots hold the same tasks as a regular list after any changes, and that older
+ * snapshots are not affected by later changes.
+ */
+public class TaskSnapshotTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that random additions and removals give the same tasks, in the same order, as an {@code ArrayList},
+     * while the first snapshot taken stays the same.
+     */
+    @Test
+    public void withAddedAndWithRemoved_randomChanges_sameAsArrayList() {
+        Random random = new Random(7);
+        List<Task> expectedTasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expectedTasks.add(new ToDo("Task " + i));
+        }
+        TaskSnapshot firstSnapshot = TaskSnapshot.of(expectedTasks);
+        List<Task> firstTasks = new ArrayList<>(expectedTasks);
+        TaskSnapshot snapshot = firstSnapshot;
+        for (int i = 0; i < 2000; i++) {
+            if (random.nextInt(3) > 0 || expectedTasks.isEmpty()) {
+                Task task = new ToDo("New task " + i);
+                expectedTasks.add(task);
+                snapshot = snapshot.withAdded(task);
+            } else {
+                int taskIndex = random.nextInt(expectedTasks.size());
+                expectedTasks.remove(taskIndex);
+                snapshot = snapshot.withRemoved(taskIndex);
+            }
+        }
+
+        assertEquals(expectedTasks, snapshot);
+        assertEquals(expectedTasks.get(expectedTasks.size() / 2), snapshot.get(expectedTasks.size() / 2));
+        assertEquals(firstTasks, firstSnapshot);
+    }
+
+    /**
+     * Tests that the list of tasks returned by a task list is not affected by later changes to the task list.
+     */
+    @Test
+    public void getTasksList_taskListChangedAfterwards_listUnchanged() {
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        taskList.addTask(new ToDo("Task 1"));
+        taskList.addTask(new ToDo("Task 2"));
+        List<Task> tasks = taskList.getTasksList();
+        Task firstTask = taskList.getTask(0);
+
+        taskList.removeTask(firstTask);
+        taskList.addTask(new ToDo("Task 3"));
+
+        assertEquals(2, tasks.size());
+        assertSame(firstTask, tasks.get(0));
+        assertEquals("1. [T][ ] Task 2\n2. [T][ ] Task 3", taskList.printTaskList());
+        taskList.clearTaskList();
+        assertEquals(2, tasks.size());
+        assertEquals(0, taskList.getTasksList().size());
+    }
+
+    /**
+     * Tests that splitting a snapshot covers every task once and in order, and that a parallel scan finds the same
+     * tasks as a regular list.
+     */
+    @Test
+    public void spliterator_splitAndScannedInParallel_sameAsArrayList() {
+        List<Task> expectedTasks = new ArrayList<>();
+        TaskSnapshot snapshot = TaskSnapshot.empty();
+        for (int i = 0; i < 1000; i++) {
+            Task task = new ToDo("Task " + i);
+            expectedTasks.add(task);
+            snapshot = snapshot.withAdded(task);
+        }
+        for (int taskIndex = 900; taskIndex > 0; taskIndex -= 7) {
+            expectedTasks.remove(taskIndex);
+            snapshot = snapshot.withRemoved(taskIndex);
+        }
+
+        Spliterator<Task> suffix = snapshot.spliterator();
+        Spliterator<Task> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(expectedTasks.size(), prefix.estimateSize() + suffix.estimateSize());
+        List<Task> splitTasks = new ArrayList<>();
+        prefix.tryAdvance(splitTasks::add);
+        prefix.forEachRemaining(splitTasks::add);
+        suffix.forEachRemaining(splitTasks::add);
+        assertEquals(expectedTasks, splitTasks);
+
+        ParallelTaskScanner scanner = new ParallelTaskScanner(1);
+        assertEquals(expectedTasks.stream().filter(task -> task.getDescription().endsWith("3"))
+                        .collect(Collectors.toList()),
+                scanner.filter(snapshot, task -> task.getDescription().endsWith("3")));
+    }
+}
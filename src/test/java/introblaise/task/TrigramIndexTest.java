@@ -0,0 +1,97 @@
+package introblaise.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.tasktype.ToDo;
+import introblaise.ui.IntroBlaise;
+
+/**
+ * Unit tests for {@link TrigramIndex}.
+ * This class tests that finding tasks by keyword through the trigram index gives the same results as checking
+ * every task, and that the index stays within its memory budget.
+ */
+public class TrigramIndexTest {
+    @TempDir
+    Path tempDir;
+
+    private TaskList createTaskList() {
+        return new TaskList(new Storage(tempDir.toString(), StorageMode.REWRITE));
+    }
+
+    /**
+     * Tests that keywords of any length, in any case and across words, find the same tasks with and without
+     * the trigram index, including after tasks are removed.
+     */
+    @Test
+    public void findTasksByKeyword_indexEnabled_sameAsFullScan() {
+        TaskList indexedTaskList = createTaskList();
+        Random random = new Random(7);
+        String[] words = {"Read", "book", "write", "report", "CS2103T", "iP", "meeting", "bookshelf"};
+        for (int i = 0; i < 300; i++) {
+            indexedTaskList.addTask(new ToDo(words[random.nextInt(words.length)] + " "
+                    + words[random.nextInt(words.length)]));
+        }
+        indexedTaskList.enableSubstringIndex(Long.MAX_VALUE);
+        for (int i = 0; i < 50; i++) {
+            indexedTaskList.removeTask(indexedTaskList.getTask(random.nextInt(indexedTaskList.getSize())));
+        }
+        TaskList taskList = createTaskList();
+
+        for (String keyword : new String[] {"book", "BOOKS", "ok wr", "ip", "2103", "d b", "e", "report meeting"}) {
+            assertEquals(taskList.findTasksByKeyword(keyword).toString(),
+                    indexedTaskList.findTasksByKeyword(keyword).toString(), keyword);
+        }
+        assertNotNull(indexedTaskList.getSubstringIndex());
+        assertTrue(indexedTaskList.getSubstringIndex().getEstimatedBytes() > 0);
+    }
+
+    /**
+     * Tests that the trigram index is disabled and frees its memory once it would use more than its budget,
+     * and that tasks are still found without it.
+     */
+    @Test
+    public void addTask_overMemoryBudget_indexDisabled() {
+        TaskList taskList = createTaskList();
+        taskList.enableSubstringIndex(4096);
+
+        for (int i = 0; i < 100; i++) {
+            taskList.addTask(new ToDo("Task number " + i));
+        }
+
+        assertTrue(taskList.getSubstringIndex().isDisabled());
+        assertEquals(0, taskList.getSubstringIndex().getEstimatedBytes());
+        assertEquals(4096, taskList.getSubstringIndex().getMaxBytes());
+        assertEquals(1, taskList.findTasksByKeyword("number 42").size());
+    }
+
+    /**
+     * Tests that setting the substring index system property makes the bot index tasks for finding them by keyword.
+     */
+    @Test
+    public void getResponse_substringIndexProperty_indexEnabled() {
+        System.setProperty(IntroBlaise.SUBSTRING_INDEX_PROPERTY, "1048576");
+        IntroBlaise introBlaise;
+        try {
+            introBlaise = new IntroBlaise(new Storage(tempDir.toString(), StorageMode.REWRITE));
+        } finally {
+            System.clearProperty(IntroBlaise.SUBSTRING_INDEX_PROPERTY);
+        }
+
+        introBlaise.getResponse("todo read book");
+
+        TrigramIndex index = introBlaise.getTaskList().getSubstringIndex();
+        assertNotNull(index);
+        assertTrue(index.getTrigramCount() > 0);
+        assertTrue(introBlaise.getResponse("find ead bo").contains("read book"));
+    }
+}
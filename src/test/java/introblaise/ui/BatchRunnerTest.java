@@ -0,0 +1,53 @@
+package introblaise.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.task.TaskList;
+
+/**
+ * Unit tests for {@link BatchRunner}.
+ * This class tests that a batch of commands is executed up to "bye", and that its changes are only saved
+ * when the batch ends.
+ */
+public class BatchRunnerTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that every command before "bye" is executed, and that the tasks added are saved on shutdown
+     * rather than journaled one by one.
+     */
+    @Test
+    public void run_commandsUntilBye_savedOnShutdown() throws IOException {
+        IntroBlaise introBlaise = new IntroBlaise(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        introBlaise.deferSavesUntilShutdown();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        String commands = "todo read book\n\ntodo write essay\nmark 2\nbye\ntodo never added\n";
+
+        int commandCount = new BatchRunner(introBlaise).run(new BufferedReader(new StringReader(commands)),
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        assertEquals(3, commandCount);
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("[T][X] write essay"));
+        assertEquals(0, new TaskList(new Storage(tempDir.toString(), StorageMode.JOURNAL)).getSize());
+
+        introBlaise.shutdown();
+
+        TaskList reloadedTaskList = new TaskList(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+        assertEquals("1. [T][ ] read book\n2. [T][X] write essay", reloadedTaskList.printTaskList());
+    }
+}
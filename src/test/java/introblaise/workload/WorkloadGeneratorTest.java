@@ -0,0 +1,80 @@
+package introblaise.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import introblaise.storage.Storage;
+import introblaise.storage.StorageMode;
+import introblaise.task.Task;
+import introblaise.task.TaskList;
+import introblaise.tasktype.ToDo;
+import introblaise.ui.IntroBlaise;
+
+/**
+ * Unit tests for {@link WorkloadGenerator} and {@link TraceReplayer}.
+ * This class tests that generated task files follow their profile and load in the app, and that generated
+ * traces replay without referring to missing tasks.
+ */
+public class WorkloadGeneratorTest {
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that the generated tasks follow the ratios and description lengths of the profile,
+     * and that the same seed generates the same tasks.
+     */
+    @Test
+    public void generateTasks_profile_followsRatios() {
+        WorkloadProfile profile = WorkloadProfile.fromArgs(new String[] {"--todoWeight=1", "--deadlineWeight=0",
+            "--eventWeight=0", "--doneRatio=0.5", "--minWords=3", "--maxWords=4"});
+
+        List<Task> tasks = new WorkloadGenerator(profile).generateTasks(2000);
+
+        long doneCount = tasks.stream().filter(Task::getIsDone).count();
+        assertEquals(2000, tasks.size());
+        assertTrue(tasks.stream().allMatch(task -> task instanceof ToDo));
+        assertTrue(doneCount > 900 && doneCount < 1100);
+        assertTrue(tasks.stream().map(task -> task.getDescription().split(" ").length)
+                .allMatch(wordCount -> wordCount >= 3 && wordCount <= 4));
+        assertEquals(tasks.toString(), new WorkloadGenerator(profile).generateTasks(2000).toString());
+    }
+
+    /**
+     * Tests that a generated task file loads with every task.
+     */
+    @Test
+    public void writeTaskFile_defaultProfile_loadsInTaskList() {
+        new WorkloadGenerator(new WorkloadProfile()).writeTaskFile(tempDir, 500);
+
+        TaskList taskList = new TaskList(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+
+        assertEquals(500, taskList.getSize());
+    }
+
+    /**
+     * Tests that every command of a generated trace is replayed, and that every add, mark and delete succeeds,
+     * leaving the number of tasks the trace expects.
+     */
+    @Test
+    public void replay_generatedTrace_allCommandsSucceed() {
+        WorkloadGenerator generator = new WorkloadGenerator(new WorkloadProfile());
+        generator.writeTaskFile(tempDir, 50);
+        List<String> trace = generator.generateTrace(50, 300);
+        long addCount = trace.stream().filter(command -> command.matches("(todo|deadline|event) .*")).count();
+        long deleteCount = trace.stream().filter(command -> command.startsWith("delete ")).count();
+        IntroBlaise introBlaise = new IntroBlaise(new Storage(tempDir.toString(), StorageMode.JOURNAL));
+
+        ReplayReport report = new TraceReplayer(introBlaise).replay(trace);
+
+        assertEquals(300, report.getCommandCount());
+        assertEquals(50 + addCount - deleteCount, introBlaise.getTaskList().getSize());
+        assertTrue(report.toString().contains("find"));
+        introBlaise.shutdown();
+    }
+}